@@ -1,5 +1,9 @@
 package com.hedera.account;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -8,7 +12,9 @@ import com.hedera.sdk.common.HederaPrecheckResult;
 import com.hedera.sdk.common.HederaKey.KeyType;
 import com.hedera.sdk.common.HederaTransactionAndQueryDefaults;
 import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
-import com.hedera.sdk.common.HederaTransactionState;
+import com.hedera.sdk.common.HederaReceiptTracker;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.common.HederaTransactionReceipt;
 import com.hedera.sdk.transaction.HederaTransactionResult;
 import com.hedera.utilities.ExampleUtilities;
 
@@ -54,31 +60,9 @@ public final class DemoAccountAsync {
 			throw new Exception("Account create failure");
     	}
     	
-    	HederaTransactionState transactionState = new HederaTransactionState();
-    	// define and start a thread to query for receipts asynchronously
-    	class GetReceipts extends Thread 
-    	{ 
-    	    @Override
-    	    public void run() 
-    	    {
-    	    	while (true) {
-    	    		try {
-						transactionState.refresh();
-					} catch (InterruptedException e1) {
-						// TODO Auto-generated catch block
-						e1.printStackTrace();
-					}
-    	    		try {
-						Thread.sleep(2000);
-					} catch (InterruptedException e) {
-						e.printStackTrace();
-					}
-    	    	}
-    	    } 
-    	}     	
-
-        GetReceipts getReceipts = new GetReceipts(); 
-        getReceipts.start(); 
+    	// collects receipts in the background, a slow receipt doesn't hold up the others
+    	HederaReceiptTracker receiptTracker = new HederaReceiptTracker();
+    	List<CompletableFuture<HederaTransactionReceipt>> receipts = new ArrayList<>();
 
         logger.info("************************************");
         logger.info("*     RRRRR   U   U   N    N");
@@ -93,8 +77,13 @@ public final class DemoAccountAsync {
 			HederaTransactionResult transferResult = account.send(accountXferTo.getHederaAccountID(), 20 * i);
 			// was it successful ?
 			if (transferResult.getPrecheckResult() == HederaPrecheckResult.OK) {
-				// yes, add Transaction to state for receipt collection
-				transactionState.setTransaction(account.hederaTransactionID, account.txQueryDefaults.node);
+				// yes, track the transaction for receipt collection
+				HederaTransactionID transactionID = account.hederaTransactionID;
+				receipts.add(receiptTracker.track(transactionID, account.txQueryDefaults.node)
+					.thenApply(receipt -> {
+						logger.info("Receipt for transfer " + transactionID.transactionValidStart.time + " status=" + receipt.transactionStatus.name());
+						return receipt;
+					}));
 			}
         }
         
@@ -106,11 +95,8 @@ public final class DemoAccountAsync {
         logger.info("*   DDDDD   OOOOO   N    N   EEEEEE");
         logger.info("************************************");
         
-        while (true) {
-        	if (transactionState.getCount() == 0) {
-        		getReceipts.stop();
-        		break;
-        	}
-        }
+        // wait for all the receipts
+        CompletableFuture.allOf(receipts.toArray(new CompletableFuture<?>[0])).join();
+        receiptTracker.shutdown();
 	}
 }
\ No newline at end of file
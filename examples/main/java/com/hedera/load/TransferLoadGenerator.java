@@ -0,0 +1,198 @@
+package com.hedera.load;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.account.AccountCreate;
+import com.hedera.sdk.account.HederaAccount;
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaKeySignatureList;
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaLatencyHistogram;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaReceiptTracker;
+import com.hedera.sdk.common.HederaTransactionAndQueryDefaults;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaInMemoryMetrics;
+import com.hedera.sdk.node.HederaNetwork;
+import com.hedera.sdk.node.HederaNode;
+import com.hedera.sdk.transaction.HederaTransaction;
+import com.hedera.sdk.transaction.HederaTransactionBody;
+import com.hedera.sdk.transaction.HederaTransactionBodyTemplate;
+import com.hedera.utilities.ExampleUtilities;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+/**
+ * Sustains a target rate of crypto transfers and reports how the node(s) kept up
+ * usage: TransferLoadGenerator tps seconds accounts
+ * The transfers go to the nodes in node.properties, the accounts are first created and funded by the paying account.
+ * To run against an in process stand in node instead, see test.hedera.sdk.standin.StandInTransferLoad in the test sources.
+ * Transfers are scheduled open loop: each one is due at a fixed time from the start of the run whether or not
+ * earlier ones have completed, and latency is measured from that time, so a slow node shows up as latency rather
+ * than as a lower rate. Each account in turn sends 1 tinybar to the next.
+ */
+public final class TransferLoadGenerator {
+	final static Logger logger = LoggerFactory.getLogger(TransferLoadGenerator.class);
+
+	private static final long INITIAL_BALANCE = 100000000;
+	private static final long TRANSFER_FEE = 10;
+
+	private final List<HederaAccountID> accountIDs = new ArrayList<>();
+	private final List<HederaCryptoKeyPair> accountKeys = new ArrayList<>();
+	private final HederaNetwork network;
+	private final HederaInMemoryMetrics metrics = new HederaInMemoryMetrics();
+	private final HederaReceiptTracker receiptTracker = new HederaReceiptTracker();
+	private final Map<HederaAccountID, HederaTransactionBodyTemplate> templates = new HashMap<>();
+
+	private final HederaLatencyHistogram submitLatency = new HederaLatencyHistogram();
+	private final HederaLatencyHistogram receiptLatency = new HederaLatencyHistogram();
+	private final ConcurrentMap<String, LongAdder> prechecks = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, LongAdder> statuses = new ConcurrentHashMap<>();
+	private final LongAdder late = new LongAdder();
+
+	public static void main(String... arguments) throws Exception {
+		if (arguments.length < 3) {
+			logger.info("usage: TransferLoadGenerator tps seconds accounts");
+			return;
+		}
+		int tps = Integer.parseInt(arguments[0]);
+		int seconds = Integer.parseInt(arguments[1]);
+		int accounts = Integer.parseInt(arguments[2]);
+		if ((tps <= 0) || (seconds <= 0) || (accounts < 2)) {
+			throw new IllegalStateException("tps and seconds must be greater than 0, accounts at least 2");
+		}
+
+		HederaTransactionAndQueryDefaults txQueryDefaults = ExampleUtilities.getTxQueryDefaults();
+		TransferLoadGenerator generator = new TransferLoadGenerator(ExampleUtilities.network);
+		for (int i = 0; i < accounts; i++) {
+			HederaCryptoKeyPair accountKey = new HederaCryptoKeyPair(KeyType.ED25519);
+			HederaAccount account = new HederaAccount();
+			account.txQueryDefaults = txQueryDefaults;
+			account = AccountCreate.create(account, accountKey, INITIAL_BALANCE);
+			if (account == null) {
+				throw new Exception("Account create failure");
+			}
+			generator.addAccount(account.getHederaAccountID(), accountKey);
+		}
+
+		try {
+			generator.run(tps, seconds);
+			generator.report();
+		} finally {
+			generator.receiptTracker.shutdown();
+			generator.network.shutdown();
+		}
+	}
+
+	private TransferLoadGenerator(HederaNetwork network) {
+		this.network = network;
+	}
+
+	private void addAccount(HederaAccountID accountID, HederaCryptoKeyPair accountKey) {
+		this.accountIDs.add(accountID);
+		this.accountKeys.add(accountKey);
+	}
+
+	/**
+	 * Sends transfers at the given rate, then waits for their receipts
+	 */
+	private void run(int tps, int seconds) throws Exception {
+		for (HederaNode node : this.network.getNodes()) {
+			node.setMetrics(this.metrics);
+			this.templates.put(node.getAccountID(), new HederaTransactionBodyTemplate(node.getAccountID(), TRANSFER_FEE
+					, new HederaDuration(120, 0), false, "load"));
+		}
+		List<CompletableFuture<?>> transfers = new ArrayList<>();
+		long total = (long) tps * seconds;
+		long periodNanos = TimeUnit.SECONDS.toNanos(1) / tps;
+		long start = System.nanoTime();
+
+		logger.info("Sending {} transfers at {} per second between {} accounts", total, tps, this.accountIDs.size());
+		for (long i = 0; i < total; i++) {
+			long due = start + i * periodNanos;
+			long wait = due - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			} else if (wait < -periodNanos) {
+				// the sending thread itself couldn't keep up
+				this.late.increment();
+			}
+			transfers.add(transfer((int) (i % this.accountIDs.size()), due));
+		}
+		CompletableFuture.allOf(transfers.toArray(new CompletableFuture<?>[0])).join();
+		logger.info("Run took {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	/**
+	 * Sends 1 tinybar from one account to the next and tracks its receipt
+	 * @param from the index of the sending account
+	 * @param due the time the transfer was due to be sent, from {@link System#nanoTime()}
+	 */
+	private CompletableFuture<?> transfer(int from, long due) throws Exception {
+		HederaNode node = this.network.pickNode();
+		HederaAccountID fromAccountID = this.accountIDs.get(from);
+		HederaAccountID toAccountID = this.accountIDs.get((from + 1) % this.accountIDs.size());
+		HederaCryptoKeyPair fromKey = this.accountKeys.get(from);
+
+		HederaTransactionID transactionID = new HederaTransactionID(fromAccountID);
+		TransactionBody body = this.templates.get(node.getAccountID()).transferBody(transactionID, fromAccountID, toAccountID, 1);
+		HederaKeySignatureList sigsForTransaction = new HederaKeySignatureList();
+		// the sender also pays the fee, so one signature serves as both the paying and the sending account's
+		byte[] signature = fromKey.signMessage(body.toByteArray());
+		sigsForTransaction.addKeySignaturePair(fromKey.getKeyType(), fromKey.getPublicKey(), signature);
+		sigsForTransaction.addKeySignaturePair(fromKey.getKeyType(), fromKey.getPublicKey(), signature);
+
+		return node.accountTransferAsync(new HederaTransaction(new HederaTransactionBody(body), sigsForTransaction))
+				.handle((result, error) -> {
+					long submitted = System.nanoTime();
+					this.submitLatency.record(TimeUnit.NANOSECONDS.toMillis(submitted - due));
+					String precheck = (error == null) ? result.getPrecheckResult().name() : error.getClass().getSimpleName();
+					count(this.prechecks, precheck);
+					if ((error != null) || (result.getPrecheckResult() != HederaPrecheckResult.OK)) {
+						return CompletableFuture.completedFuture(null);
+					}
+					return this.receiptTracker.track(transactionID, node).thenAccept(receipt -> {
+						this.receiptLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitted));
+						count(this.statuses, receipt.transactionStatus.name());
+					});
+				})
+				.thenCompose(tracked -> tracked);
+	}
+
+	private void report() {
+		logger.info("Behind schedule:   {}", this.late.sum());
+		logger.info("Submit latency:    p50={}ms p90={}ms p99={}ms", this.submitLatency.percentile(50)
+				, this.submitLatency.percentile(90), this.submitLatency.percentile(99));
+		logger.info("Receipt latency:   p50={}ms p90={}ms p99={}ms", this.receiptLatency.percentile(50)
+				, this.receiptLatency.percentile(90), this.receiptLatency.percentile(99));
+		logger.info("Precheck results:  {}", sorted(this.prechecks));
+		logger.info("Receipt statuses:  {}", sorted(this.statuses));
+		for (HederaInMemoryMetrics.Snapshot snapshot : this.metrics.snapshot()) {
+			logger.info("{}", snapshot);
+		}
+	}
+
+	private static void count(ConcurrentMap<String, LongAdder> counts, String key) {
+		counts.computeIfAbsent(key, k -> new LongAdder()).increment();
+	}
+
+	private static Map<String, Long> sorted(ConcurrentMap<String, LongAdder> counts) {
+		Map<String, Long> sorted = new TreeMap<>();
+		counts.forEach((key, count) -> sorted.put(key, count.sum()));
+		return sorted;
+	}
+}
@@ -14,6 +14,7 @@ import com.hedera.sdk.common.HederaDuration;
 import com.hedera.sdk.common.HederaTransactionAndQueryDefaults;
 import com.hedera.sdk.common.HederaKey.KeyType;
 import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaNetwork;
 import com.hedera.sdk.node.HederaNode;
 
 public class ExampleUtilities {
@@ -32,6 +33,8 @@ public class ExampleUtilities {
 	public static long payAccountRealm = 0;
 	public static long payAccountNum = 0;
 
+	public static HederaNetwork network = null;
+
 	public static void getNodeDetails() {
 
 		// load application properties
@@ -60,6 +63,9 @@ public class ExampleUtilities {
 			payAccountRealm = Long.parseLong(applicationProperties.getProperty("payingAccountRealm"));
 			payAccountNum = Long.parseLong(applicationProperties.getProperty("payingAccountNum"));
 
+			// all the nodes, including any additional ones
+			network = HederaNetwork.fromProperties(applicationProperties);
+
 		} catch (IOException ex) {
 			ex.printStackTrace();
 			System.exit(1);
@@ -94,6 +100,10 @@ public class ExampleUtilities {
 		
 		txQueryDefaults.memo = "Demo memo";
 		txQueryDefaults.node = node;
+		if (ExampleUtilities.network.getNodes().size() > 1) {
+			// spread transactions across the nodes
+			txQueryDefaults.network = ExampleUtilities.network;
+		}
 		txQueryDefaults.payingAccountID = payingAccountID;
 		txQueryDefaults.payingKeyPair = payingKeyPair;
 		txQueryDefaults.transactionValidDuration = new HederaDuration(120, 0);
@@ -0,0 +1,67 @@
+package benchmark.hedera.sdk.account;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hedera.sdk.account.HederaAccount;
+import com.hedera.sdk.account.HederaAccountAmount;
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaKey;
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+/**
+ * Building the bodies of account create and transfer transactions, ready to sign
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HederaAccountBenchmark {
+	private HederaAccount account;
+	private HederaAccountID payer;
+	private HederaAccountID nodeAccount;
+	private HederaDuration validDuration;
+	private ArrayList<HederaAccountAmount> accountAmounts;
+
+	@Setup
+	public void setup() {
+		this.payer = new HederaAccountID(0, 0, 1001);
+		this.nodeAccount = new HederaAccountID(0, 0, 3);
+		this.validDuration = new HederaDuration(120, 0);
+		this.account = new HederaAccount();
+		this.account.accountKey = new HederaKey(KeyType.ED25519, new HederaCryptoKeyPair(KeyType.ED25519).getPublicKey());
+		this.account.initialBalance = 100000;
+		this.accountAmounts = new ArrayList<HederaAccountAmount>();
+		this.accountAmounts.add(new HederaAccountAmount(this.payer, -10000));
+		this.accountAmounts.add(new HederaAccountAmount(new HederaAccountID(0, 0, 1002), 10000));
+	}
+
+	@Benchmark
+	public TransactionBody bodyToSignForCreate() {
+		return this.account.bodyToSignForCreate(new HederaTransactionID(this.payer), this.nodeAccount
+				, 100000, this.validDuration, false, "benchmark");
+	}
+
+	@Benchmark
+	public TransactionBody bodyToSignForTransfer() {
+		return this.account.bodyToSignForTransfer(new HederaTransactionID(this.payer), this.nodeAccount
+				, 100000, this.validDuration, false, "benchmark", this.accountAmounts);
+	}
+}
@@ -0,0 +1,56 @@
+package benchmark.hedera.sdk.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaKeySignature;
+import com.hedera.sdk.common.HederaKeySignatureList;
+import com.hedera.sdk.cryptography.CryptoUtils;
+
+/**
+ * Converting a key list with signatures to and from JSON
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HederaKeySignatureBenchmark {
+	private HederaKeySignature keySignature;
+	private JSONObject json;
+
+	@Setup
+	public void setup() {
+		HederaKeySignatureList keySigList = new HederaKeySignatureList();
+		for (int i = 0; i < 3; i++) {
+			keySigList.addKeySignaturePair(KeyType.ED25519, CryptoUtils.getSecureRandomData(32), CryptoUtils.getSecureRandomData(64));
+		}
+		this.keySignature = new HederaKeySignature(keySigList, "benchmark");
+		this.json = this.keySignature.JSON();
+	}
+
+	@Benchmark
+	public JSONObject toJSON() {
+		return this.keySignature.JSON();
+	}
+
+	@Benchmark
+	public HederaKeySignature fromJSON() {
+		HederaKeySignature keySignature = new HederaKeySignature();
+		keySignature.fromJSON(this.json);
+		return keySignature;
+	}
+}
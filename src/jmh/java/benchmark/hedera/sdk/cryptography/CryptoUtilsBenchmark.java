@@ -0,0 +1,44 @@
+package benchmark.hedera.sdk.cryptography;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hedera.sdk.cryptography.CryptoUtils;
+
+/**
+ * Deriving a key from a seed, as done for every key pair created from a seed or recovery words
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoUtilsBenchmark {
+	@Param({"32", "48"})
+	public int length;
+
+	private byte[] seed;
+	private long index = 0;
+
+	@Setup
+	public void setup() {
+		this.seed = CryptoUtils.getSecureRandomData(this.length);
+	}
+
+	@Benchmark
+	public byte[] deriveKey() {
+		return CryptoUtils.deriveKey(this.seed, this.index++, this.length);
+	}
+}
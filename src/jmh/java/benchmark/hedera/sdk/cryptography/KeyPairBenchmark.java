@@ -0,0 +1,65 @@
+package benchmark.hedera.sdk.cryptography;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hedera.sdk.cryptography.CryptoUtils;
+import com.hedera.sdk.cryptography.ECKeyPair;
+import com.hedera.sdk.cryptography.EDKeyPair;
+
+/**
+ * Signing and verifying a transaction sized message with ED25519 and ECDSA384 keys
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyPairBenchmark {
+	private EDKeyPair edKeyPair;
+	private ECKeyPair ecKeyPair;
+	private byte[] message;
+	private byte[] edSignature;
+	private byte[] ecSignature;
+
+	@Setup
+	public void setup() throws Exception {
+		this.edKeyPair = new EDKeyPair(CryptoUtils.deriveKey(CryptoUtils.getSecureRandomData(32), 0, 32));
+		this.ecKeyPair = ECKeyPair.fromPrivate(CryptoUtils.deriveKey(CryptoUtils.getSecureRandomData(48), 0, 48));
+		// about the size of a transfer body
+		this.message = CryptoUtils.getSecureRandomData(120);
+		this.edSignature = this.edKeyPair.signMessage(this.message);
+		this.ecSignature = this.ecKeyPair.signMessage(this.message);
+	}
+
+	@Benchmark
+	public byte[] edSign() throws Exception {
+		return this.edKeyPair.signMessage(this.message);
+	}
+
+	@Benchmark
+	public boolean edVerify() throws Exception {
+		return this.edKeyPair.verifySignature(this.message, this.edSignature);
+	}
+
+	@Benchmark
+	public byte[] ecSign() throws Exception {
+		return this.ecKeyPair.signMessage(this.message);
+	}
+
+	@Benchmark
+	public boolean ecVerify() throws Exception {
+		return this.ecKeyPair.verifySignature(this.message, this.ecSignature);
+	}
+}
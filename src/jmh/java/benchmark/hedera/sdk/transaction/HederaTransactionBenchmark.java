@@ -0,0 +1,85 @@
+package benchmark.hedera.sdk.transaction;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hedera.sdk.account.HederaAccount;
+import com.hedera.sdk.account.HederaAccountAmount;
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaKeySignatureList;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.transaction.HederaTransaction;
+import com.hedera.sdk.transaction.HederaTransactionBody;
+import com.hedera.sdk.transaction.HederaTransactionBody.TransactionType;
+import com.hederahashgraph.api.proto.java.Transaction;
+
+/**
+ * Building and serializing a signed transfer transaction
+ * rebuild measures the full build of a transaction made from a body and signatures, done on every send,
+ * while cached measures a transaction read back as a protobuf, such as from a pre-signed transaction file,
+ * which is sent as it was read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HederaTransactionBenchmark {
+	private HederaTransaction transaction;
+	private HederaTransaction readTransaction;
+
+	@Setup
+	public void setup() throws Exception {
+		HederaAccountID payer = new HederaAccountID(0, 0, 1001);
+		HederaCryptoKeyPair payerKey = new HederaCryptoKeyPair(KeyType.ED25519);
+		ArrayList<HederaAccountAmount> accountAmounts = new ArrayList<HederaAccountAmount>();
+		accountAmounts.add(new HederaAccountAmount(payer, -10000));
+		accountAmounts.add(new HederaAccountAmount(new HederaAccountID(0, 0, 1002), 10000));
+
+		HederaTransactionBody body = new HederaTransactionBody(
+				TransactionType.CRYPTOTRANSFER
+				, new HederaTransactionID(payer)
+				, new HederaAccountID(0, 0, 3)
+				, 100000
+				, new HederaDuration(120, 0)
+				, false
+				, "benchmark"
+				, new HederaAccount().getTransferTransactionBody(accountAmounts));
+		byte[] signature = payerKey.signMessage(body.getProtobuf().toByteArray());
+		HederaKeySignatureList sigs = new HederaKeySignatureList();
+		sigs.addKeySignaturePair(KeyType.ED25519, payerKey.getPublicKey(), signature);
+		sigs.addKeySignaturePair(KeyType.ED25519, payerKey.getPublicKey(), signature);
+		this.transaction = new HederaTransaction(body, sigs);
+		this.readTransaction = new HederaTransaction(this.transaction.getProtobuf());
+	}
+
+	@Benchmark
+	public Transaction rebuild() {
+		return this.transaction.getProtobuf();
+	}
+
+	@Benchmark
+	public byte[] rebuildBytes() {
+		return this.transaction.getProtobufBytes();
+	}
+
+	@Benchmark
+	public Transaction cached() {
+		return this.readTransaction.getProtobuf();
+	}
+}
@@ -2,8 +2,14 @@ package com.hedera.sdk.account;
 
 import java.io.Serializable;
 import java.security.InvalidParameterException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +38,7 @@ import com.hedera.sdk.query.HederaQuery.QueryType;
 import com.hedera.sdk.query.HederaQueryHeader.QueryResponseType;
 import com.hedera.sdk.transaction.HederaTransaction;
 import com.hedera.sdk.transaction.HederaTransactionBody;
+import com.hedera.sdk.transaction.HederaTransactionBodyTemplate;
 import com.hedera.sdk.transaction.HederaTransactionResult;
 import com.hedera.sdk.transaction.HederaTransactionBody.TransactionType;
 import com.hederahashgraph.api.proto.java.CryptoAddClaimTransactionBody;
@@ -69,6 +76,7 @@ public class HederaAccount implements Serializable {
 	private byte[] stateProof = new byte[0];
 	private HederaProxyStakers stakers = new HederaProxyStakers();
 	private long balance = 0;
+	private transient HederaTransactionBodyTemplate transferTemplate = null;
 
 	/**
 	 * Default parameters for a transaction or query
@@ -90,6 +98,11 @@ public class HederaAccount implements Serializable {
 	 * The {@link HederaTransactionID} for a transaction in relation to this account
 	 */
 	public HederaTransactionID hederaTransactionID;
+	/**
+	 * the maximum number of account amounts in one transfer transaction sent by
+	 * {@link #sendBatch(Map)} and {@link #transferBatch(List, Map)}, larger batches are split
+	 */
+	public int maxTransfersPerTransaction = 10;
 	/**
 	 * The new realm administration key {@link HederaKey} for the account
 	 * note: if a newRealmAdminKeySig is specified, this will be ignored
@@ -1169,16 +1182,7 @@ public class HederaAccount implements Serializable {
 	   	logger.trace("Start - createAccount shardNum {}, realmNum {}, publicKey {}, keyType {}, initialBalance {}, defaults {}"
 	   			, shardNum, realmNum, publicKey, keyType, initialBalance, defaults);
 		// setup defaults if necessary
-		if (defaults != null) {
-			this.proxyAccountID = defaults.getProxyAccountID();
-			this.proxyFraction = defaults.proxyFraction;
-			this.maxReceiveProxyFraction = defaults.maxReceiveProxyFraction;
-			this.sendRecordThreshold = defaults.sendRecordThreshold;
-			this.receiveRecordThreshold = defaults.receiveRecordThreshold;
-			this.receiverSigRequired = defaults.receiverSignatureRequired;
-			this.autoRenewPeriod = new HederaDuration(defaults.autoRenewPeriodSeconds, defaults.autoRenewPeriodNanos);
-			this.newRealmAdminKey = defaults.getNewRealmAdminPublicKey();
-		}
+		applyCreateDefaults(defaults);
 		
 		// initialise the result
 		HederaTransactionResult transactionResult = new HederaTransactionResult();
@@ -1192,12 +1196,11 @@ public class HederaAccount implements Serializable {
 
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingAccountID", this.txQueryDefaults.payingAccountID);
-		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.txQueryDefaults.node.getAccountID());
 		
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.node.getAccountID());
 		
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
@@ -1228,6 +1231,38 @@ public class HederaAccount implements Serializable {
 		return transactionResult;
 	}
 	
+	/**
+	 * Copies the values of {@link HederaAccountCreateDefaults} into this account, ready to create it
+	 * @param defaults the {@link HederaAccountCreateDefaults}, nothing is copied if null
+	 */
+	void applyCreateDefaults(HederaAccountCreateDefaults defaults) {
+		if (defaults != null) {
+			this.proxyAccountID = defaults.getProxyAccountID();
+			this.proxyFraction = defaults.proxyFraction;
+			this.maxReceiveProxyFraction = defaults.maxReceiveProxyFraction;
+			this.sendRecordThreshold = defaults.sendRecordThreshold;
+			this.receiveRecordThreshold = defaults.receiveRecordThreshold;
+			this.receiverSigRequired = defaults.receiverSignatureRequired;
+			this.autoRenewPeriod = new HederaDuration(defaults.autoRenewPeriodSeconds, defaults.autoRenewPeriodNanos);
+			this.newRealmAdminKey = defaults.getNewRealmAdminPublicKey();
+		}
+	}
+
+	/**
+	 * Gets the template for the bodies of transfers sent by {@link #send(HederaAccountID, long)}
+	 * the template is rebuilt when the node or any of the transaction defaults it was built from change
+	 */
+	private HederaTransactionBodyTemplate getTransferTemplate() {
+		HederaTransactionBodyTemplate template = this.transferTemplate;
+		if ((template == null) || !template.matches(this.node.getAccountID(), this.node.accountTransferTransactionFee
+				, this.txQueryDefaults.transactionValidDuration, this.txQueryDefaults.generateRecord, this.txQueryDefaults.memo)) {
+			template = new HederaTransactionBodyTemplate(this.node.getAccountID(), this.node.accountTransferTransactionFee
+					, this.txQueryDefaults.transactionValidDuration, this.txQueryDefaults.generateRecord, this.txQueryDefaults.memo);
+			this.transferTemplate = template;
+		}
+		return template;
+	}
+
 	private HederaKeySignatureList signBody(byte[] message) throws Exception {
 		// get the signature for the body
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
@@ -1269,13 +1304,12 @@ public class HederaAccount implements Serializable {
 		
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
 		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingAccountID", this.txQueryDefaults.payingAccountID);
-		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.txQueryDefaults.node.getAccountID());
 
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.node.getAccountID());
 
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
@@ -1295,14 +1329,7 @@ public class HederaAccount implements Serializable {
 		Utilities.throwIfAccountIDInvalid("Node", this.node.getAccountID());
 		
 		// get the body for the transaction so we can sign it
-		TransactionBody transferBody = this.bodyToSignForTransfer(
-				this.hederaTransactionID
-				, this.node.getAccountID()
-				, this.node.accountTransferTransactionFee
-				, this.txQueryDefaults.transactionValidDuration
-				, this.txQueryDefaults.generateRecord
-				, this.txQueryDefaults.memo
-				, accountAmounts);
+		TransactionBody transferBody = getTransferTemplate().transferBody(this.hederaTransactionID, accountAmounts);
 		
 		HederaKeySignatureList sigsForTransaction = signBody(transferBody.toByteArray());
 		
@@ -1312,16 +1339,10 @@ public class HederaAccount implements Serializable {
 		// put the signatures in a signature list
 		sigsForTransaction.addKeySignaturePair(this.txQueryDefaults.payingKeyPair.getKeyType(), this.txQueryDefaults.payingKeyPair.getPublicKey(), payingSignature.getSignature());
 
-		// transfer the crypto currency
-		transactionResult = this.transfer(
-				this.hederaTransactionID
-				, this.node.getAccountID()
-				, this.node.accountTransferTransactionFee
-				, this.txQueryDefaults.transactionValidDuration
-				, this.txQueryDefaults.generateRecord
-				, this.txQueryDefaults.memo
-				, sigsForTransaction
-				, accountAmounts);
+		// transfer the crypto currency, reusing the body which was signed
+		HederaTransaction transaction = new HederaTransaction(new HederaTransactionBody(transferBody), sigsForTransaction);
+		transactionResult = this.node.accountTransfer(transaction);
+		transactionResult.hederaTransactionID = this.hederaTransactionID;
 
 	   	logger.trace("End - send");
 		
@@ -1345,6 +1366,180 @@ public class HederaAccount implements Serializable {
 		return send(toAccountID, amount);
 	}
 	
+	/** Sends crypto currency from the paying account to several accounts
+	 * as few transactions as {@link #maxTransfersPerTransaction} allows are sent, one after the other
+	 * @param payments the amount to send to each account
+	 * @return the {@link HederaTransactionResult} of each transaction, sending stops after the first which isn't OK
+	 * @throws Exception if a transaction can't be signed or sent
+	 */
+	public List<HederaTransactionResult> sendBatch(Map<HederaAccountID, Long> payments) throws Exception {
+	   	logger.trace("Start - sendBatch payments {}", payments);
+		Utilities.throwIfNull("payments", payments);
+		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
+		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingAccountID", this.txQueryDefaults.payingAccountID);
+
+		ArrayList<HederaAccountAmount> accountAmounts = new ArrayList<HederaAccountAmount>();
+		long total = 0;
+		for (Map.Entry<HederaAccountID, Long> payment : payments.entrySet()) {
+			accountAmounts.add(new HederaAccountAmount(payment.getKey(), payment.getValue()));
+			total = Math.addExact(total, payment.getValue());
+		}
+		accountAmounts.add(0, new HederaAccountAmount(this.txQueryDefaults.payingAccountID, -total));
+
+	   	logger.trace("End - sendBatch");
+		return transferBatch(accountAmounts, Collections.<HederaAccountID, HederaCryptoKeyPair>emptyMap());
+	}
+
+	/** Transfers crypto currency between any number of accounts
+	 * the transfers are split into transactions of at most {@link #maxTransfersPerTransaction} account amounts,
+	 * each of which sums to zero, and sent one after the other. Each transaction is paid for by the paying account
+	 * and signed by it and by every account it debits, or credits if that account has a key in signingKeys.
+	 * @param accountAmounts the accounts and amounts to transfer currency to and from, which must sum to zero
+	 * @param signingKeys the keys of the accounts other than the paying account which must sign
+	 * @return the {@link HederaTransactionResult} of each transaction, sending stops after the first which isn't OK
+	 * @throws IllegalStateException if the amounts don't sum to zero or a debited account has no key
+	 * @throws Exception if a transaction can't be signed or sent
+	 */
+	public List<HederaTransactionResult> transferBatch(List<HederaAccountAmount> accountAmounts, Map<HederaAccountID, HederaCryptoKeyPair> signingKeys) throws Exception {
+	   	logger.trace("Start - transferBatch accountAmounts {}", accountAmounts);
+		Utilities.throwIfNull("accountAmounts", accountAmounts);
+		Utilities.throwIfNull("signingKeys", signingKeys);
+		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
+		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
+		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingAccountID", this.txQueryDefaults.payingAccountID);
+
+		Map<HederaAccountID, HederaCryptoKeyPair> keys = new HashMap<HederaAccountID, HederaCryptoKeyPair>(signingKeys);
+		keys.put(this.txQueryDefaults.payingAccountID, this.txQueryDefaults.payingKeyPair);
+		for (HederaAccountAmount accountAmount : accountAmounts) {
+			if ((accountAmount.amount < 0) && !keys.containsKey(accountID(accountAmount))) {
+				throw new IllegalStateException("No key to sign for debited account " + accountID(accountAmount));
+			}
+		}
+		List<ArrayList<HederaAccountAmount>> batches = splitTransfers(accountAmounts, this.maxTransfersPerTransaction);
+
+		// set transport
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.node.getAccountID());
+
+		List<HederaTransactionResult> results = new ArrayList<HederaTransactionResult>();
+		for (ArrayList<HederaAccountAmount> batch : batches) {
+			this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
+			TransactionBody transferBody = getTransferTemplate().transferBody(this.hederaTransactionID, batch);
+			byte[] message = transferBody.toByteArray();
+
+			// the paying account signs first, then each account sending or, if it has a key, receiving funds
+			// a key signing more than once signs the body only once
+			Map<HederaCryptoKeyPair, byte[]> signatures = new IdentityHashMap<HederaCryptoKeyPair, byte[]>();
+			HederaKeySignatureList sigsForTransaction = new HederaKeySignatureList();
+			addSignature(sigsForTransaction, signatures, this.txQueryDefaults.payingKeyPair, message);
+			for (HederaAccountAmount accountAmount : batch) {
+				HederaCryptoKeyPair key = keys.get(accountID(accountAmount));
+				if ((key != null) && ((accountAmount.amount < 0) || signingKeys.containsKey(accountID(accountAmount)))) {
+					addSignature(sigsForTransaction, signatures, key, message);
+				}
+			}
+
+			HederaTransaction transaction = new HederaTransaction(new HederaTransactionBody(transferBody), sigsForTransaction);
+			HederaTransactionResult transactionResult = this.node.accountTransfer(transaction);
+			transactionResult.hederaTransactionID = this.hederaTransactionID;
+			results.add(transactionResult);
+			if (transactionResult.getPrecheckResult() != HederaPrecheckResult.OK) {
+				break;
+			}
+		}
+	   	logger.trace("End - transferBatch");
+		return results;
+	}
+
+	/**
+	 * Splits transfers into batches which each sum to zero and hold at most maxAccountAmounts account amounts
+	 * debits are matched against credits in order, an amount is split across batches when needed and an account
+	 * appears at most once in each batch.
+	 * @param accountAmounts the accounts and amounts to transfer currency to and from, which must sum to zero
+	 * @param maxAccountAmounts the maximum number of account amounts in a batch, at least 2
+	 * @return the batches
+	 * @throws IllegalStateException if the amounts don't sum to zero or maxAccountAmounts is less than 2
+	 */
+	public static List<ArrayList<HederaAccountAmount>> splitTransfers(List<HederaAccountAmount> accountAmounts, int maxAccountAmounts) {
+		if (maxAccountAmounts < 2) {
+			throw new IllegalStateException("maxAccountAmounts must be at least 2");
+		}
+		ArrayDeque<HederaAccountAmount> debits = new ArrayDeque<HederaAccountAmount>();
+		ArrayDeque<HederaAccountAmount> credits = new ArrayDeque<HederaAccountAmount>();
+		long total = 0;
+		for (HederaAccountAmount accountAmount : accountAmounts) {
+			total = Math.addExact(total, accountAmount.amount);
+			if (accountAmount.amount < 0) {
+				debits.add(new HederaAccountAmount(accountID(accountAmount), -accountAmount.amount));
+			} else if (accountAmount.amount > 0) {
+				credits.add(new HederaAccountAmount(accountID(accountAmount), accountAmount.amount));
+			}
+		}
+		if (total != 0) {
+			throw new IllegalStateException("Transfers must sum to zero");
+		}
+
+		List<ArrayList<HederaAccountAmount>> batches = new ArrayList<ArrayList<HederaAccountAmount>>();
+		while (!debits.isEmpty()) {
+			// the amounts for each account in the batch, in the order the accounts were added
+			Map<HederaAccountID, HederaAccountAmount> batch = new LinkedHashMap<HederaAccountID, HederaAccountAmount>();
+			while (!debits.isEmpty()) {
+				HederaAccountAmount debit = debits.peek();
+				HederaAccountAmount credit = credits.peek();
+				int newAccounts = (batch.containsKey(accountID(debit)) ? 0 : 1) + (batch.containsKey(accountID(credit)) ? 0 : 1);
+				if (batch.size() + newAccounts > maxAccountAmounts) {
+					break;
+				}
+				long amount = Math.min(debit.amount, credit.amount);
+				addAmount(batch, debit, -amount);
+				addAmount(batch, credit, amount);
+				debit.amount -= amount;
+				credit.amount -= amount;
+				if (debit.amount == 0) {
+					debits.remove();
+				}
+				if (credit.amount == 0) {
+					credits.remove();
+				}
+			}
+			ArrayList<HederaAccountAmount> amounts = new ArrayList<HederaAccountAmount>();
+			for (HederaAccountAmount accountAmount : batch.values()) {
+				// an account both debited and credited in a batch may net to zero
+				if (accountAmount.amount != 0) {
+					amounts.add(accountAmount);
+				}
+			}
+			if (!amounts.isEmpty()) {
+				batches.add(amounts);
+			}
+		}
+		return batches;
+	}
+
+	private static void addAmount(Map<HederaAccountID, HederaAccountAmount> batch, HederaAccountAmount accountAmount, long amount) {
+		HederaAccountID accountID = accountID(accountAmount);
+		HederaAccountAmount batchAmount = batch.get(accountID);
+		if (batchAmount == null) {
+			batch.put(accountID, new HederaAccountAmount(accountID, amount));
+		} else {
+			batchAmount.amount = Math.addExact(batchAmount.amount, amount);
+		}
+	}
+
+	private static HederaAccountID accountID(HederaAccountAmount accountAmount) {
+		return new HederaAccountID(accountAmount.shardNum, accountAmount.realmNum, accountAmount.accountNum);
+	}
+
+	private static void addSignature(HederaKeySignatureList sigsForTransaction, Map<HederaCryptoKeyPair, byte[]> signatures
+			, HederaCryptoKeyPair key, byte[] message) throws Exception {
+		byte[] signature = signatures.get(key);
+		if (signature == null) {
+			signature = key.signMessage(message);
+			signatures.put(key, signature);
+		}
+		sigsForTransaction.addKeySignaturePair(key.getKeyType(), key.getPublicKey(), signature);
+	}
+
 	/** Adds a claim to an account
 	 * @param claimToAdd the {@link HederaClaim} to add to the account
 	 * @param claimKeyPair the keypair for the claim
@@ -1361,12 +1556,11 @@ public class HederaAccount implements Serializable {
 		
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingAccountID", this.txQueryDefaults.payingAccountID);
-		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.txQueryDefaults.node.getAccountID());
 
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.node.getAccountID());
 		
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
@@ -1553,13 +1747,12 @@ public class HederaAccount implements Serializable {
 		
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
 		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingAccountID", this.txQueryDefaults.payingAccountID);
-		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.txQueryDefaults.node.getAccountID());
 
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.node.getAccountID());
 		
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
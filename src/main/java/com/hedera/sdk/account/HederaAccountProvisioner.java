@@ -0,0 +1,567 @@
+package com.hedera.sdk.account;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaKey;
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaReceiptTracker;
+import com.hedera.sdk.common.HederaTimeStamp;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.common.HederaTransactionIDGenerator;
+import com.hedera.sdk.common.HederaTransactionReceipt;
+import com.hedera.sdk.common.HederaTransactionStatus;
+import com.hedera.sdk.common.Utilities;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaNetwork;
+import com.hedera.sdk.transaction.HederaPipelineSettings;
+import com.hedera.sdk.transaction.HederaTransactionPipeline;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+/**
+ * Creates accounts in bulk, sending the creates concurrently to the nodes of a network through a
+ * {@link HederaTransactionPipeline} and handing back the new account IDs from their receipts as they arrive.
+ * Progress is recorded in a checkpoint file, so that a run stopped part way, even by a crash, can be started again
+ * with the same requests and checkpoint: accounts already created are handed back from the checkpoint rather than
+ * created again, and creates sent but not known to have completed are looked up by their receipts before being resent.
+ * A create whose outcome is unknown is never resent while it could still reach consensus, that is until its valid
+ * start plus valid duration has passed; until then, or if its receipt has since been dropped by the network, it is
+ * reported as unresolved rather than risk creating and funding the account twice.
+ * Receipts are only kept by the network for a few minutes, so an interrupted run should be resumed promptly.
+ * <pre>
+ * HederaAccountProvisioner provisioner = new HederaAccountProvisioner(network, payer, payerKey, checkpoint);
+ * provisioner.maxCreatesPerSecond = 500;
+ * provisioner.provision(requests, result -&gt; store(result.reference, result.accountID));
+ * </pre>
+ */
+public class HederaAccountProvisioner {
+	final static Logger logger = LoggerFactory.getLogger(HederaAccountProvisioner.class);
+
+	private static final String SUBMITTED = "S";
+	private static final String CREATED = "C";
+	private static final String FAILED = "F";
+
+	/**
+	 * A request for an account
+	 */
+	public static final class Request {
+		/**
+		 * identifies the request, in the checkpoint and in its {@link Result}, so must be unique
+		 */
+		public final String reference;
+		public final KeyType keyType;
+		public final byte[] publicKey;
+		public final long initialBalance;
+		/**
+		 * the {@link HederaAccountCreateDefaults} for the account, may be null
+		 */
+		public final HederaAccountCreateDefaults defaults;
+
+		/**
+		 * Creates a request
+		 * @param reference identifies the request, unique and without commas or line breaks
+		 * @param keyType the {@link KeyType} of the account's key
+		 * @param publicKey the account's public key
+		 * @param initialBalance the initial balance of the account
+		 * @param defaults the {@link HederaAccountCreateDefaults} for the account, may be null
+		 * @throws IllegalStateException if reference or publicKey are null, or reference is invalid
+		 */
+		public Request(String reference, KeyType keyType, byte[] publicKey, long initialBalance, HederaAccountCreateDefaults defaults) {
+			Utilities.throwIfNull("reference", reference);
+			Utilities.throwIfNull("publicKey", publicKey);
+			if (reference.isEmpty() || (reference.indexOf(',') >= 0) || (reference.indexOf('\n') >= 0) || (reference.indexOf('\r') >= 0)) {
+				throw new IllegalStateException("reference must not be empty or contain commas or line breaks.");
+			}
+			this.reference = reference;
+			this.keyType = keyType;
+			this.publicKey = publicKey;
+			this.initialBalance = initialBalance;
+			this.defaults = defaults;
+		}
+	}
+
+	/**
+	 * The outcome of a {@link Request}
+	 */
+	public static final class Result {
+		public final String reference;
+		/**
+		 * the new account, null if it wasn't created
+		 */
+		public final HederaAccountID accountID;
+		/**
+		 * the receipt of the create, null if the account was created by an earlier run or there was an error
+		 */
+		public final HederaTransactionReceipt receipt;
+		/**
+		 * the error if the create couldn't be built, signed or sent, or its outcome is unresolved, otherwise null
+		 */
+		public final Throwable error;
+
+		Result(String reference, HederaAccountID accountID, HederaTransactionReceipt receipt, Throwable error) {
+			this.reference = reference;
+			this.accountID = accountID;
+			this.receipt = receipt;
+			this.error = error;
+		}
+
+		/**
+		 * @return true if the account was created, by this run or an earlier one
+		 */
+		public boolean isCreated() {
+			return this.accountID != null;
+		}
+	}
+
+	/**
+	 * The totals for a run of {@link #provision(Stream, Consumer)}
+	 */
+	public static final class Summary {
+		/**
+		 * accounts created by creates sent by this run
+		 */
+		public final long created;
+		/**
+		 * requests skipped because their accounts were created by an earlier run, including those found created
+		 * by looking up the receipts of creates the earlier run didn't see complete
+		 */
+		public final long skipped;
+		/**
+		 * requests whose create failed, or which were rejected
+		 */
+		public final long failed;
+		/**
+		 * requests whose create may or may not have reached consensus, left pending in the checkpoint and not resent
+		 */
+		public final long unresolved;
+
+		Summary(long created, long skipped, long failed, long unresolved) {
+			this.created = created;
+			this.skipped = skipped;
+			this.failed = failed;
+			this.unresolved = unresolved;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("created %d, skipped %d, failed %d, unresolved %d", this.created, this.skipped, this.failed, this.unresolved);
+		}
+	}
+
+	/**
+	 * the shard accounts are created in
+	 */
+	public long shardNum = 0;
+	/**
+	 * the realm accounts are created in
+	 */
+	public long realmNum = 0;
+	/**
+	 * the fee offered for each create, the same default as {@link com.hedera.sdk.node.HederaNode#accountCreateTransactionFee}
+	 */
+	public long transactionFee = 10;
+	public HederaDuration transactionValidDuration = new HederaDuration(120, 0);
+	public boolean generateRecord = false;
+	public String memo = "";
+	/**
+	 * the most creates sent in any second, 0 for no limit other than the pipeline's
+	 */
+	public double maxCreatesPerSecond = 0;
+	/**
+	 * the settings of the pipeline creates are sent through
+	 */
+	public HederaPipelineSettings pipelineSettings = new HederaPipelineSettings();
+	/**
+	 * the time in milliseconds a run stopped part way waits for creates already built or signed to be sent
+	 */
+	public long shutdownTimeoutMillis = 5000;
+	/**
+	 * the time in milliseconds after its valid start for which a transaction's receipt is relied on to be kept by the network
+	 * a create not found within it, once expired, never reached consensus and is resent, one looked up after it is unresolved
+	 */
+	public long receiptRetentionMillis = 180000;
+
+	private final HederaNetwork network;
+	private final HederaReceiptTracker receiptTracker;
+	private final boolean ownsReceiptTracker;
+	private final HederaAccountID payingAccountID;
+	private final List<HederaCryptoKeyPair> signingKeys;
+	private final Path checkpoint;
+
+	/**
+	 * Creates a provisioner with its own {@link HederaReceiptTracker}
+	 * @param network the {@link HederaNetwork} to create accounts on
+	 * @param payingAccountID the {@link HederaAccountID} paying for the creates and initial balances
+	 * @param payingKeyPair the {@link HederaCryptoKeyPair} of the paying account
+	 * @param checkpoint the {@link Path} of the checkpoint file, created if it doesn't exist
+	 */
+	public HederaAccountProvisioner(HederaNetwork network, HederaAccountID payingAccountID, HederaCryptoKeyPair payingKeyPair, Path checkpoint) {
+		this(network, new HederaReceiptTracker(), true, payingAccountID, payingKeyPair, checkpoint);
+	}
+
+	/**
+	 * Creates a provisioner
+	 * @param network the {@link HederaNetwork} to create accounts on
+	 * @param receiptTracker the {@link HederaReceiptTracker} collecting receipts, not shut down by the provisioner
+	 * @param payingAccountID the {@link HederaAccountID} paying for the creates and initial balances
+	 * @param payingKeyPair the {@link HederaCryptoKeyPair} of the paying account
+	 * @param checkpoint the {@link Path} of the checkpoint file, created if it doesn't exist
+	 */
+	public HederaAccountProvisioner(HederaNetwork network, HederaReceiptTracker receiptTracker, HederaAccountID payingAccountID
+			, HederaCryptoKeyPair payingKeyPair, Path checkpoint) {
+		this(network, receiptTracker, false, payingAccountID, payingKeyPair, checkpoint);
+	}
+
+	private HederaAccountProvisioner(HederaNetwork network, HederaReceiptTracker receiptTracker, boolean ownsReceiptTracker
+			, HederaAccountID payingAccountID, HederaCryptoKeyPair payingKeyPair, Path checkpoint) {
+		Utilities.throwIfNull("network", network);
+		Utilities.throwIfNull("receiptTracker", receiptTracker);
+		Utilities.throwIfNull("payingAccountID", payingAccountID);
+		Utilities.throwIfNull("payingKeyPair", payingKeyPair);
+		Utilities.throwIfNull("checkpoint", checkpoint);
+		this.network = network;
+		this.receiptTracker = receiptTracker;
+		this.ownsReceiptTracker = ownsReceiptTracker;
+		this.payingAccountID = payingAccountID;
+		this.signingKeys = Collections.singletonList(payingKeyPair);
+		this.checkpoint = checkpoint;
+	}
+
+	/**
+	 * Creates an account for each request, resuming from the checkpoint
+	 * requests are read from the stream as the pipeline makes room for them, so the stream may be of any length.
+	 * @param requests the {@link Request} for each account
+	 * @param onResult called with the {@link Result} of each request as it completes, from several threads at once, may be null
+	 * @return the {@link Summary} of the run
+	 * @throws IOException if the checkpoint can't be read or written
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public Summary provision(Stream<Request> requests, Consumer<Result> onResult) throws IOException, InterruptedException {
+		logger.trace("Start - provision");
+		Map<String, HederaAccountID> created = new HashMap<>();
+		Map<String, Submitted> submitted = new LinkedHashMap<>();
+		readCheckpoint(created, submitted);
+
+		LongAdder createdCount = new LongAdder();
+		LongAdder failedCount = new LongAdder();
+		LongAdder unresolvedCount = new LongAdder();
+		long skipped = 0;
+
+		try (CheckpointWriter writer = new CheckpointWriter(this.checkpoint)) {
+			Map<String, String> unresolved = recover(submitted, created, writer);
+
+			HederaTransactionPipeline pipeline = new HederaTransactionPipeline(this.network, this.receiptTracker, this.pipelineSettings);
+			Outstanding outstanding = new Outstanding();
+			Set<String> references = new HashSet<>();
+			long interval = (this.maxCreatesPerSecond > 0) ? (long) (1_000_000_000L / this.maxCreatesPerSecond) : 0;
+			long next = System.nanoTime() - interval;
+			try {
+				Iterator<Request> iterator = requests.iterator();
+				while (iterator.hasNext()) {
+					Request request = iterator.next();
+					HederaAccountID accountID = created.get(request.reference);
+					if (accountID != null) {
+						skipped++;
+						deliver(onResult, new Result(request.reference, accountID, null, null));
+						continue;
+					}
+					if (!references.add(request.reference)) {
+						failedCount.increment();
+						deliver(onResult, new Result(request.reference, null, null
+								, new IllegalStateException("Duplicate reference " + request.reference)));
+						continue;
+					}
+					String reason = unresolved.get(request.reference);
+					if (reason != null) {
+						unresolvedCount.increment();
+						deliver(onResult, new Result(request.reference, null, null, new IllegalStateException(reason)));
+						continue;
+					}
+					if (interval > 0) {
+						next = Math.max(next + interval, System.nanoTime());
+						waitUntil(next);
+					}
+					outstanding.increment();
+					CompletableFuture<HederaTransactionReceipt> receipt;
+					try {
+						receipt = pipeline.submit(nodeAccount -> createBody(request, nodeAccount, writer), this.signingKeys);
+					} catch (RuntimeException e) {
+						outstanding.decrement();
+						throw e;
+					}
+					receipt.whenComplete((transactionReceipt, error) -> {
+						try {
+							complete(request, transactionReceipt, error, writer, onResult, createdCount, failedCount, unresolvedCount);
+						} finally {
+							outstanding.decrement();
+						}
+					});
+				}
+				outstanding.await();
+			} finally {
+				pipeline.shutdown(this.shutdownTimeoutMillis);
+			}
+		}
+
+		Summary summary = new Summary(createdCount.sum(), skipped, failedCount.sum(), unresolvedCount.sum());
+		logger.info("Provisioned accounts - {}", summary);
+		logger.trace("End - provision");
+		return summary;
+	}
+
+	/**
+	 * Shuts down the receipt tracker, if it was created by the provisioner
+	 */
+	public void shutdown() {
+		if (this.ownsReceiptTracker) {
+			this.receiptTracker.shutdown();
+		}
+	}
+
+	private TransactionBody createBody(Request request, HederaAccountID nodeAccount, CheckpointWriter writer) {
+		HederaAccount account = new HederaAccount();
+		account.applyCreateDefaults(request.defaults);
+		account.shardNum = this.shardNum;
+		account.realmNum = this.realmNum;
+		account.accountKey = new HederaKey(request.keyType, request.publicKey);
+		account.initialBalance = request.initialBalance;
+
+		HederaTransactionID transactionID = HederaTransactionIDGenerator.getDefault().next(this.payingAccountID);
+		TransactionBody body = account.bodyToSignForCreate(transactionID, nodeAccount, this.transactionFee
+				, this.transactionValidDuration, this.generateRecord, this.memo);
+		// recorded before the create is sent, so that a resumed run can look for its receipt
+		writer.write(SUBMITTED, request.reference, Long.toString(transactionID.accountID.shardNum), Long.toString(transactionID.accountID.realmNum)
+				, Long.toString(transactionID.accountID.accountNum), Long.toString(transactionID.transactionValidStart.seconds())
+				, Integer.toString(transactionID.transactionValidStart.nanos()), Long.toString(this.transactionValidDuration.seconds));
+		return body;
+	}
+
+	private void complete(Request request, HederaTransactionReceipt receipt, Throwable error, CheckpointWriter writer
+			, Consumer<Result> onResult, LongAdder createdCount, LongAdder failedCount, LongAdder unresolvedCount) {
+		HederaAccountID accountID = null;
+		try {
+			if ((error == null) && (receipt.transactionStatus == HederaTransactionStatus.SUCCESS) && (receipt.accountID != null)) {
+				accountID = receipt.accountID;
+				writer.write(CREATED, request.reference, Long.toString(accountID.shardNum), Long.toString(accountID.realmNum)
+						, Long.toString(accountID.accountNum));
+				createdCount.increment();
+			} else if ((error == null) && isFailed(receipt)) {
+				String status = receipt.nodePrecheck + "/" + receipt.transactionStatus;
+				logger.info("Account create failed for {} - {}", request.reference, status);
+				writer.write(FAILED, request.reference, status);
+				failedCount.increment();
+			} else {
+				// the create may yet reach consensus, so it stays submitted for a later run to look up
+				String status = (error != null) ? error.getMessage() : receipt.nodePrecheck + "/" + receipt.transactionStatus;
+				logger.info("Account create unresolved for {} - {}", request.reference, status);
+				if (error == null) {
+					error = new IllegalStateException("Create unresolved for " + request.reference + " - " + status);
+				}
+				unresolvedCount.increment();
+			}
+		} catch (UncheckedIOException e) {
+			logger.error("Failed to write checkpoint for {}", request.reference, e);
+		}
+		deliver(onResult, new Result(request.reference, accountID, receipt, error));
+	}
+
+	/**
+	 * a create has failed only if its receipt is final and not a success, anything else may still reach consensus
+	 */
+	private static boolean isFailed(HederaTransactionReceipt receipt) {
+		return HederaReceiptTracker.isFinal(receipt) && (receipt.transactionStatus != HederaTransactionStatus.SUCCESS);
+	}
+
+	/**
+	 * looks up the receipts of creates sent by an earlier run but not known to have completed
+	 * those which succeeded are recorded as created and those which failed as failed, so that they are sent again,
+	 * as are those which expired without being found while their receipts would still be kept.
+	 * The others may still reach consensus, or did and their receipts are gone, so are left submitted and not resent
+	 * @return the reason each unresolved create is unresolved, by reference
+	 */
+	private Map<String, String> recover(Map<String, Submitted> submitted, Map<String, HederaAccountID> created, CheckpointWriter writer)
+			throws InterruptedException {
+		Map<String, String> unresolved = new HashMap<>();
+		if (submitted.isEmpty()) {
+			return unresolved;
+		}
+		logger.info("Looking up the receipts of {} creates from an earlier run", submitted.size());
+		Map<String, CompletableFuture<HederaTransactionReceipt>> receipts = new LinkedHashMap<>();
+		for (Map.Entry<String, Submitted> entry : submitted.entrySet()) {
+			receipts.put(entry.getKey(), this.receiptTracker.track(entry.getValue().transactionID, this.network.pickNode()));
+		}
+		for (Map.Entry<String, CompletableFuture<HederaTransactionReceipt>> entry : receipts.entrySet()) {
+			HederaTransactionReceipt receipt = null;
+			try {
+				receipt = entry.getValue().get();
+			} catch (ExecutionException e) {
+				logger.info("Receipt lookup failed for {} - {}", entry.getKey(), e.getCause().getMessage());
+			}
+			Submitted create = submitted.get(entry.getKey());
+			long now = System.currentTimeMillis();
+			if ((receipt != null) && (receipt.transactionStatus == HederaTransactionStatus.SUCCESS) && (receipt.accountID != null)) {
+				created.put(entry.getKey(), receipt.accountID);
+				writer.write(CREATED, entry.getKey(), Long.toString(receipt.accountID.shardNum), Long.toString(receipt.accountID.realmNum)
+						, Long.toString(receipt.accountID.accountNum));
+			} else if ((receipt != null) && isFailed(receipt)) {
+				writer.write(FAILED, entry.getKey(), receipt.nodePrecheck + "/" + receipt.transactionStatus);
+			} else if (now < create.expiryMillis) {
+				unresolved.put(entry.getKey(), "Create for " + entry.getKey() + " not found but may still reach consensus, retry after it expires");
+			} else if (now < create.validStartMillis + this.receiptRetentionMillis) {
+				writer.write(FAILED, entry.getKey(), "NOT_FOUND");
+			} else {
+				unresolved.put(entry.getKey(), "Create for " + entry.getKey() + " not found and its receipt may no longer be kept, check the payer's records");
+			}
+		}
+		if (!unresolved.isEmpty()) {
+			logger.info("{} creates from an earlier run are unresolved", unresolved.size());
+		}
+		return unresolved;
+	}
+
+	private void readCheckpoint(Map<String, HederaAccountID> created, Map<String, Submitted> submitted) throws IOException {
+		if (!Files.exists(this.checkpoint)) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(this.checkpoint, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split(",");
+				try {
+					if (SUBMITTED.equals(fields[0]) && (fields.length == 8)) {
+						HederaAccountID payer = new HederaAccountID(Long.parseLong(fields[2]), Long.parseLong(fields[3]), Long.parseLong(fields[4]));
+						HederaTransactionID transactionID = new HederaTransactionID(payer
+								, new HederaTimeStamp(Long.parseLong(fields[5]), Integer.parseInt(fields[6])));
+						submitted.put(fields[1], new Submitted(transactionID, Long.parseLong(fields[7])));
+					} else if (CREATED.equals(fields[0]) && (fields.length == 5)) {
+						created.put(fields[1], new HederaAccountID(Long.parseLong(fields[2]), Long.parseLong(fields[3]), Long.parseLong(fields[4])));
+						submitted.remove(fields[1]);
+					} else if (FAILED.equals(fields[0]) && (fields.length == 3)) {
+						submitted.remove(fields[1]);
+					} else {
+						logger.info("Ignoring checkpoint line {}", line);
+					}
+				} catch (NumberFormatException e) {
+					// the last line may be incomplete if the previous run stopped while writing it
+					logger.info("Ignoring checkpoint line {}", line);
+				}
+			}
+		}
+		logger.info("Checkpoint has {} accounts created and {} creates pending", created.size(), submitted.size());
+	}
+
+	private static void deliver(Consumer<Result> onResult, Result result) {
+		if (onResult != null) {
+			try {
+				onResult.accept(result);
+			} catch (RuntimeException e) {
+				logger.error("Result consumer failed for {}", result.reference, e);
+			}
+		}
+	}
+
+	private static void waitUntil(long deadlineNanos) throws InterruptedException {
+		long wait;
+		while ((wait = deadlineNanos - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(wait);
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+		}
+	}
+
+	/**
+	 * a create recorded as submitted, with the times it could reach consensus between
+	 */
+	private static final class Submitted {
+		final HederaTransactionID transactionID;
+		final long validStartMillis;
+		final long expiryMillis;
+
+		Submitted(HederaTransactionID transactionID, long validDurationSeconds) {
+			this.transactionID = transactionID;
+			this.validStartMillis = TimeUnit.SECONDS.toMillis(transactionID.transactionValidStart.seconds())
+					+ TimeUnit.NANOSECONDS.toMillis(transactionID.transactionValidStart.nanos());
+			this.expiryMillis = this.validStartMillis + TimeUnit.SECONDS.toMillis(validDurationSeconds);
+		}
+	}
+
+	/**
+	 * appends lines to the checkpoint, each flushed as it is written so that it survives the process stopping
+	 */
+	private static final class CheckpointWriter implements Closeable {
+		private final BufferedWriter writer;
+
+		CheckpointWriter(Path path) throws IOException {
+			this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		}
+
+		synchronized void write(String... fields) {
+			try {
+				this.writer.write(String.join(",", fields));
+				this.writer.newLine();
+				this.writer.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			this.writer.close();
+		}
+	}
+
+	/**
+	 * counts the creates sent but not yet complete
+	 */
+	private static final class Outstanding {
+		private final AtomicLong count = new AtomicLong();
+
+		void increment() {
+			this.count.incrementAndGet();
+		}
+
+		void decrement() {
+			if (this.count.decrementAndGet() == 0) {
+				synchronized (this) {
+					notifyAll();
+				}
+			}
+		}
+
+		synchronized void await() throws InterruptedException {
+			while (this.count.get() > 0) {
+				wait();
+			}
+		}
+	}
+}
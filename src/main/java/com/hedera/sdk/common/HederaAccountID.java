@@ -1,6 +1,7 @@
 package com.hedera.sdk.common;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -87,4 +88,17 @@ public class HederaAccountID implements Serializable {
 
 		return accountID.build();
 	}
-}
\ No newline at end of file
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		HederaAccountID other = (HederaAccountID) o;
+		return this.shardNum == other.shardNum && this.realmNum == other.realmNum && this.accountNum == other.accountNum;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.shardNum, this.realmNum, this.accountNum);
+	}
+}
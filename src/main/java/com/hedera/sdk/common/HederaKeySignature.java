@@ -3,6 +3,8 @@ package com.hedera.sdk.common;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import com.google.protobuf.ByteString;
 import com.hedera.sdk.common.HederaContractID;
 import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
 import com.hedera.sdk.node.HederaNode;
 import com.hedera.sdk.query.HederaQuery;
 import com.hedera.sdk.query.HederaQueryHeader;
@@ -458,6 +461,22 @@ public class HederaKeySignature implements Serializable {
 		
 		return foundOne;
 	}
+	/**
+	 * Signs a message with every supplied key pair whose public key is found unsigned in this {@link HederaKeySignature}
+	 * each distinct key signs once, in parallel with the others, and its signature is set against every
+	 * matching key with no signature, however deeply nested in thresholds and lists.
+	 * Key pairs which aren't part of the tree are ignored.
+	 * @param message the message to sign, usually the bytes of a transaction body
+	 * @param keyPairs the {@link HederaCryptoKeyPair} available to sign with
+	 * @return the number of distinct keys signed with
+	 * @throws Exception if a key pair fails to sign
+	 */
+	public int signWithKeyPairs(byte[] message, Collection<HederaCryptoKeyPair> keyPairs) throws Exception {
+	   	logger.trace("Start - signWithKeyPairs message {}, keyPairs {}", message, keyPairs.size());
+		int signed = KeySignatureSigner.sign(Collections.singletonList(this), message, keyPairs);
+	   	logger.trace("End - signWithKeyPairs");
+		return signed;
+	}
 	
 	/**
 	 * Sets the signature against a key matching the supplied UUID
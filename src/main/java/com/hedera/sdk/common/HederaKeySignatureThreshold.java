@@ -2,6 +2,7 @@ package com.hedera.sdk.common;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.json.simple.JSONArray;
@@ -9,6 +10,7 @@ import org.json.simple.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
 import com.hederahashgraph.api.proto.java.KeyList;
 import com.hederahashgraph.api.proto.java.SignatureList;
 import com.hederahashgraph.api.proto.java.ThresholdKey;
@@ -187,6 +189,22 @@ public class HederaKeySignatureThreshold implements Serializable {
 	   	logger.trace("End - setSignatureForKeys");
 		return foundOne;
 	}
+	/**
+	 * Signs a message with every supplied key pair whose public key is found unsigned in this {@link HederaKeySignatureThreshold}
+	 * each distinct key signs once, in parallel with the others, and its signature is set against every
+	 * matching key with no signature, however deeply nested in thresholds and lists.
+	 * Key pairs which aren't part of the tree are ignored.
+	 * @param message the message to sign, usually the bytes of a transaction body
+	 * @param keyPairs the {@link HederaCryptoKeyPair} available to sign with
+	 * @return the number of distinct keys signed with
+	 * @throws Exception if a key pair fails to sign
+	 */
+	public int signWithKeyPairs(byte[] message, Collection<HederaCryptoKeyPair> keyPairs) throws Exception {
+	   	logger.trace("Start - signWithKeyPairs message {}, keyPairs {}", message, keyPairs.size());
+		int signed = KeySignatureSigner.sign(this.keySigPairs, message, keyPairs);
+	   	logger.trace("End - signWithKeyPairs");
+		return signed;
+	}
 	/**
 	 * Sets the signature against a key matching the supplied UUID
 	 * if the signature is already set, it will be overwritten
@@ -0,0 +1,106 @@
+package com.hedera.sdk.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in milliseconds
+ * buckets grow geometrically, four per power of two, so each bucket is about 19% wider than the previous one
+ * and percentiles are accurate to within that margin from 1ms up to about 65 seconds.
+ * Once {@link #DECAY_THRESHOLD} samples have been recorded all the counts are halved,
+ * so that the histogram follows changes in latency over time.
+ * Recording and reading percentiles are lock free; decay and reset lock only against each other, and adjust the
+ * total by what they remove from each bucket so that samples recorded while they run are still counted.
+ */
+public class HederaLatencyHistogram {
+	private static final int BUCKETS_PER_DOUBLING = 4;
+	private static final int BUCKETS = 64;
+	/**
+	 * the number of samples after which counts are halved
+	 */
+	public static final long DECAY_THRESHOLD = 4096;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * Records a latency
+	 * @param millis the latency in milliseconds, negative values are recorded as 0
+	 */
+	public void record(long millis) {
+		this.counts.incrementAndGet(bucketFor(millis));
+		if (this.count.incrementAndGet() >= DECAY_THRESHOLD) {
+			decay();
+		}
+	}
+
+	/**
+	 * Returns the latency below which the given percentage of samples fall
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the latency in milliseconds, rounded up to the top of its bucket, 0 if nothing has been recorded
+	 */
+	public long percentile(double percentile) {
+		long total = 0;
+		long[] snapshot = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = this.counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= target) {
+				return upperBound(i);
+			}
+		}
+		return upperBound(BUCKETS - 1);
+	}
+
+	/**
+	 * @return the number of samples currently held, which is reduced by decay
+	 */
+	public long getCount() {
+		return this.count.get();
+	}
+
+	/**
+	 * Discards all the samples
+	 */
+	public synchronized void reset() {
+		long removed = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			removed += this.counts.getAndSet(i, 0);
+		}
+		this.count.addAndGet(-removed);
+	}
+
+	private synchronized void decay() {
+		// another thread may have decayed while this one waited for the lock
+		if (this.count.get() < DECAY_THRESHOLD) {
+			return;
+		}
+		long removed = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			long before = this.counts.getAndUpdate(i, value -> value / 2);
+			removed += before - (before / 2);
+		}
+		this.count.addAndGet(-removed);
+	}
+
+	private static int bucketFor(long millis) {
+		if (millis <= 1) {
+			return 0;
+		}
+		// the small offset stops rounding errors pushing exact powers of two into the next bucket
+		int bucket = (int) Math.ceil(Math.log(millis) / Math.log(2) * BUCKETS_PER_DOUBLING - 1e-9);
+		return Math.min(bucket, BUCKETS - 1);
+	}
+
+	private static long upperBound(int bucket) {
+		return (long) Math.ceil(Math.pow(2, (double) bucket / BUCKETS_PER_DOUBLING) - 1e-9);
+	}
+}
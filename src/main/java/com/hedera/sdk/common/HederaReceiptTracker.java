@@ -0,0 +1,264 @@
+package com.hedera.sdk.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.node.HederaNode;
+import com.hedera.sdk.query.HederaQuery;
+import com.hedera.sdk.query.HederaQuery.QueryType;
+import com.hedera.sdk.query.HederaQueryHeader;
+import com.hedera.sdk.query.HederaQueryHeader.QueryResponseType;
+import com.hederahashgraph.api.proto.java.TransactionGetReceiptQuery;
+
+/**
+ * Collects receipts for submitted transactions in the background
+ * each tracked transaction is polled for on its own schedule, set by a {@link HederaReceiptWaitStrategy},
+ * so a slow receipt doesn't hold up the others, and the number of receipt queries in flight at any time is bounded.
+ * Tracking a transaction returns a {@link CompletableFuture} which completes with the receipt once the
+ * transaction has reached a conclusion, or with the last receipt received once the timeout has elapsed.
+ * Polling stops when the future completes or is cancelled.
+ */
+public class HederaReceiptTracker {
+	final static Logger logger = LoggerFactory.getLogger(HederaReceiptTracker.class);
+
+	private static final long THROTTLE_DELAY_MILLIS = 10;
+
+	private final ConcurrentMap<HederaTransactionID, PendingReceipt> pending = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService scheduler;
+	private final Semaphore permits;
+	private final HederaReceiptWaitStrategy waitStrategy;
+	private final long timeoutMillis;
+
+	private static class PendingReceipt {
+		final HederaTransactionID transactionID;
+		final HederaNode node;
+		final long start;
+		final long deadline;
+		final CompletableFuture<HederaTransactionReceipt> future = new CompletableFuture<>();
+		volatile HederaTransactionReceipt receipt = new HederaTransactionReceipt();
+		// times since start of the last poll to find the transaction pending and of the latest poll
+		volatile long pendingMillis = 0;
+		volatile long pollMillis = 0;
+
+		PendingReceipt(HederaTransactionID transactionID, HederaNode node, long start, long deadline) {
+			this.transactionID = transactionID;
+			this.node = node;
+			this.start = start;
+			this.deadline = deadline;
+		}
+	}
+
+	/**
+	 * Creates a tracker using the shared {@link HederaReceiptWaitStrategy}, polling for up to 27.5s with at most 16 receipt queries in flight
+	 */
+	public HederaReceiptTracker() {
+		this(HederaReceiptWaitStrategy.getDefault(), 27500, 16);
+	}
+
+	/**
+	 * Creates a tracker polling at a fixed interval
+	 * @param pollIntervalMillis the time between polls for a transaction's receipt in milliseconds
+	 * @param timeoutMillis the time after which polling for a receipt stops in milliseconds
+	 * @param maxConcurrentPolls the maximum number of receipt queries in flight
+	 * @throws IllegalStateException if any parameter isn't positive
+	 */
+	public HederaReceiptTracker(long pollIntervalMillis, long timeoutMillis, int maxConcurrentPolls) {
+		this(new HederaReceiptWaitStrategy(pollIntervalMillis), timeoutMillis, maxConcurrentPolls);
+	}
+
+	/**
+	 * Creates a tracker
+	 * @param waitStrategy the {@link HederaReceiptWaitStrategy} deciding when to poll
+	 * @param timeoutMillis the time after which polling for a receipt stops in milliseconds
+	 * @param maxConcurrentPolls the maximum number of receipt queries in flight
+	 * @throws IllegalStateException if waitStrategy is null or any other parameter isn't positive
+	 */
+	public HederaReceiptTracker(HederaReceiptWaitStrategy waitStrategy, long timeoutMillis, int maxConcurrentPolls) {
+		Utilities.throwIfNull("waitStrategy", waitStrategy);
+		if ((timeoutMillis <= 0) || (maxConcurrentPolls <= 0)) {
+			throw new IllegalStateException("timeoutMillis and maxConcurrentPolls must be greater than 0");
+		}
+		this.waitStrategy = waitStrategy;
+		this.timeoutMillis = timeoutMillis;
+		this.permits = new Semaphore(maxConcurrentPolls);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "hedera-receipt-tracker");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts polling for the receipt of a transaction
+	 * if the transaction is already being tracked, its existing future is returned
+	 * @param transactionID the {@link HederaTransactionID} of the transaction
+	 * @param node the {@link HederaNode} to query for the receipt
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionReceipt}
+	 */
+	public CompletableFuture<HederaTransactionReceipt> track(HederaTransactionID transactionID, HederaNode node) {
+		logger.trace("Start - track {}", transactionID);
+		Utilities.throwIfNull("transactionID", transactionID);
+		Utilities.throwIfNull("node", node);
+		// copied, the caller's ID is mutable and a change to it would lose the entry in the map
+		HederaTransactionID key = new HederaTransactionID(transactionID.getProtobuf());
+		long start = System.nanoTime();
+		PendingReceipt newEntry = new PendingReceipt(key, node, start, start + TimeUnit.MILLISECONDS.toNanos(this.timeoutMillis));
+		PendingReceipt entry = this.pending.putIfAbsent(key, newEntry);
+		if (entry == null) {
+			entry = newEntry;
+			final PendingReceipt tracked = newEntry;
+			// stop tracking however the future completes, including cancellation by the caller
+			tracked.future.whenComplete((receipt, error) -> this.pending.remove(key, tracked));
+			schedule(tracked);
+		}
+		logger.trace("End - track");
+		return entry.future;
+	}
+
+	/**
+	 * Gets the latest receipt received for a tracked transaction
+	 * @param transactionID the {@link HederaTransactionID} of the transaction
+	 * @return {@link HederaTransactionReceipt}, or null if the transaction isn't being tracked
+	 */
+	public HederaTransactionReceipt getReceipt(HederaTransactionID transactionID) {
+		PendingReceipt entry = this.pending.get(transactionID);
+		return (entry == null) ? null : entry.receipt;
+	}
+
+	/**
+	 * Stops polling for the receipt of a transaction, its future is cancelled
+	 * @param transactionID the {@link HederaTransactionID} of the transaction
+	 * @return true if the transaction was being tracked
+	 */
+	public boolean remove(HederaTransactionID transactionID) {
+		PendingReceipt entry = this.pending.remove(transactionID);
+		if (entry == null) {
+			return false;
+		}
+		entry.future.cancel(false);
+		return true;
+	}
+
+	/**
+	 * Gets the number of transactions whose receipt is still being polled for
+	 * @return the number of transactions
+	 */
+	public int getCount() {
+		return this.pending.size();
+	}
+
+	/**
+	 * Stops polling, the futures of transactions still being tracked are cancelled
+	 */
+	public void shutdown() {
+		this.scheduler.shutdownNow();
+		for (HederaTransactionID transactionID : this.pending.keySet()) {
+			remove(transactionID);
+		}
+	}
+
+	private void schedule(PendingReceipt entry) {
+		schedule(entry, this.waitStrategy.nextDelayMillis(entry.node, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.start)));
+	}
+
+	private void schedule(PendingReceipt entry, long delayMillis) {
+		try {
+			this.scheduler.schedule(() -> poll(entry), delayMillis, TimeUnit.MILLISECONDS);
+		} catch (RuntimeException e) {
+			// the tracker has been shut down
+			entry.future.completeExceptionally(e);
+		}
+	}
+
+	private void poll(PendingReceipt entry) {
+		if (entry.future.isDone()) {
+			return;
+		}
+		if (!this.permits.tryAcquire()) {
+			// too many queries in flight, try again shortly
+			schedule(entry, THROTTLE_DELAY_MILLIS);
+			return;
+		}
+		entry.pendingMillis = entry.pollMillis;
+		entry.pollMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.start);
+		try {
+			entry.node.getTransactionReceiptAsync(receiptQuery(entry.transactionID))
+				.whenComplete((response, error) -> {
+					this.permits.release();
+					if (error != null) {
+						logger.info("Receipt query failed for {} - {}", entry.transactionID, error.getMessage());
+					} else if (response != null) {
+						entry.receipt = new HederaTransactionReceipt(response.getTransactionGetReceipt());
+					}
+					completeOrReschedule(entry);
+				});
+		} catch (RuntimeException e) {
+			this.permits.release();
+			entry.future.completeExceptionally(e);
+		}
+	}
+
+	private void completeOrReschedule(PendingReceipt entry) {
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.start);
+		if (isFinal(entry.receipt)) {
+			if (entry.receipt.transactionStatus == HederaTransactionStatus.SUCCESS) {
+				this.waitStrategy.recordConsensus(entry.node, entry.pendingMillis, entry.pollMillis);
+			}
+			entry.node.getMetrics().onReceipt(entry.node, elapsedMillis, entry.receipt.transactionStatus);
+			entry.future.complete(entry.receipt);
+		} else if (System.nanoTime() - entry.deadline >= 0) {
+			logger.info("Gave up waiting for receipt for {}", entry.transactionID);
+			entry.node.getMetrics().onReceipt(entry.node, elapsedMillis, entry.receipt.transactionStatus);
+			entry.future.complete(entry.receipt);
+		} else {
+			schedule(entry);
+		}
+	}
+
+	/**
+	 * Determines whether a receipt shows the transaction has reached a conclusion, there being no reason to continue polling
+	 * @param receipt the {@link HederaTransactionReceipt} to check
+	 * @return true if polling can stop
+	 */
+	public static boolean isFinal(HederaTransactionReceipt receipt) {
+		if (receipt.nodePrecheck == HederaPrecheckResult.INVALID_TRANSACTION) {
+			return true;
+		} else if (receipt.transactionStatus == HederaTransactionStatus.FAIL_INVALID) {
+			return true;
+		} else if (receipt.transactionStatus == HederaTransactionStatus.FAIL_BALANCE) {
+			return true;
+		} else if (receipt.transactionStatus == HederaTransactionStatus.FAIL_FEE) {
+			return true;
+		} else if (receipt.nodePrecheck == HederaPrecheckResult.OK) {
+			return (receipt.transactionStatus == HederaTransactionStatus.SUCCESS);
+		}
+		return false;
+	}
+
+	/**
+	 * Builds the (free) query for a transaction's receipt
+	 * @param transactionID the {@link HederaTransactionID} of the transaction
+	 * @return {@link HederaQuery}
+	 */
+	static HederaQuery receiptQuery(HederaTransactionID transactionID) {
+		HederaQueryHeader queryHeader = new HederaQueryHeader();
+		queryHeader.responseType = QueryResponseType.ANSWER_ONLY;
+
+		TransactionGetReceiptQuery.Builder getReceiptQuery = TransactionGetReceiptQuery.newBuilder();
+		getReceiptQuery.setTransactionID(transactionID.getProtobuf());
+		getReceiptQuery.setHeader(queryHeader.getProtobuf());
+
+		HederaQuery query = new HederaQuery();
+		query.queryType = QueryType.TRANSACTIONGETRECEIPT;
+		query.queryData = getReceiptQuery.build();
+		return query;
+	}
+}
@@ -0,0 +1,118 @@
+package com.hedera.sdk.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.hedera.sdk.node.HederaNode;
+
+/**
+ * Decides when to poll for a transaction's receipt, based on how long transactions sent to the same node
+ * have taken to reach consensus
+ * the time from submitting a transaction to reaching consensus is recorded in a {@link HederaLatencyHistogram} per node.
+ * The first poll is made at the 25th percentile of those times and later polls at the 50th, 75th, 90th and 99th
+ * percentiles, after which the node is polled every defaultDelayMillis.
+ * Until minSamples have been recorded for a node, every poll is made after defaultDelayMillis.
+ * Polling only shows that consensus was reached between the last poll which found the transaction pending and the
+ * poll which found it successful, so the midpoint of the two is recorded. Recording the time of the successful poll
+ * instead would never be less than the percentile it was scheduled at, and the percentiles would only ever rise.
+ */
+public class HederaReceiptWaitStrategy {
+	private static final double[] PERCENTILES = {25, 50, 75, 90, 99};
+	private static final HederaReceiptWaitStrategy DEFAULT = new HederaReceiptWaitStrategy();
+
+	private final ConcurrentMap<String, HederaLatencyHistogram> histograms = new ConcurrentHashMap<>();
+	private final long defaultDelayMillis;
+	private final long minSamples;
+
+	/**
+	 * Creates a strategy polling every 550ms until 20 samples have been recorded for a node
+	 */
+	public HederaReceiptWaitStrategy() {
+		this(550, 20);
+	}
+
+	/**
+	 * Creates a strategy which never has enough samples, and so always polls every pollIntervalMillis
+	 * @param pollIntervalMillis the time between polls in milliseconds
+	 */
+	public HederaReceiptWaitStrategy(long pollIntervalMillis) {
+		this(pollIntervalMillis, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a strategy
+	 * @param defaultDelayMillis the time between polls when there aren't enough samples, or the 99th percentile has passed
+	 * @param minSamples the number of samples needed for a node before they're used to schedule polls
+	 * @throws IllegalStateException if defaultDelayMillis isn't positive or minSamples is less than 1
+	 */
+	public HederaReceiptWaitStrategy(long defaultDelayMillis, long minSamples) {
+		if (defaultDelayMillis <= 0) {
+			throw new IllegalStateException("defaultDelayMillis must be greater than 0");
+		}
+		if (minSamples < 1) {
+			throw new IllegalStateException("minSamples must be at least 1");
+		}
+		this.defaultDelayMillis = defaultDelayMillis;
+		this.minSamples = minSamples;
+	}
+
+	/**
+	 * Gets the strategy shared by receipt polling which isn't given one explicitly
+	 * @return {@link HederaReceiptWaitStrategy}
+	 */
+	public static HederaReceiptWaitStrategy getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns the time to wait before the next poll for a receipt
+	 * @param node the {@link HederaNode} the transaction was submitted to
+	 * @param elapsedMillis the time since the transaction was submitted in milliseconds
+	 * @return the time to wait in milliseconds
+	 */
+	public long nextDelayMillis(HederaNode node, long elapsedMillis) {
+		HederaLatencyHistogram histogram = this.histograms.get(key(node));
+		if ((histogram != null) && (histogram.getCount() >= this.minSamples)) {
+			// the next percentile which hasn't passed yet
+			for (double percentile : PERCENTILES) {
+				long target = histogram.percentile(percentile);
+				if (target > elapsedMillis) {
+					return target - elapsedMillis;
+				}
+			}
+		}
+		return this.defaultDelayMillis;
+	}
+
+	/**
+	 * Records the time a transaction sent to a node took to reach consensus
+	 * @param node the {@link HederaNode} the transaction was submitted to
+	 * @param latencyMillis the time from submission to consensus in milliseconds
+	 */
+	public void recordConsensus(HederaNode node, long latencyMillis) {
+		getHistogram(node).record(latencyMillis);
+	}
+
+	/**
+	 * Records the time a transaction sent to a node took to reach consensus, as found by polling for its receipt
+	 * @param node the {@link HederaNode} the transaction was submitted to
+	 * @param pendingMillis the time from submission to the last poll which found the transaction pending, 0 if there was none
+	 * @param successMillis the time from submission to the poll which returned a SUCCESS receipt
+	 */
+	public void recordConsensus(HederaNode node, long pendingMillis, long successMillis) {
+		recordConsensus(node, (pendingMillis + successMillis) / 2);
+	}
+
+	/**
+	 * Gets the consensus latencies recorded for a node
+	 * @param node the {@link HederaNode}
+	 * @return {@link HederaLatencyHistogram}
+	 */
+	public HederaLatencyHistogram getHistogram(HederaNode node) {
+		return this.histograms.computeIfAbsent(key(node), k -> new HederaLatencyHistogram());
+	}
+
+	private static String key(HederaNode node) {
+		return node.getHost() + ":" + node.getPort();
+	}
+}
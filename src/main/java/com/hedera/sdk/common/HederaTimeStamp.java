@@ -2,6 +2,7 @@ package com.hedera.sdk.common;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -84,4 +85,17 @@ public class HederaTimeStamp implements Serializable {
 	public int nanos() {
 		return this.time.getNano();
 	}
-}
\ No newline at end of file
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		HederaTimeStamp other = (HederaTimeStamp) o;
+		return Objects.equals(this.time, other.time);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(this.time);
+	}
+}
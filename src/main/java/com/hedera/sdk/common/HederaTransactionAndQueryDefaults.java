@@ -6,16 +6,33 @@ import org.slf4j.LoggerFactory;
 import com.hedera.sdk.common.HederaAccountID;
 import com.hedera.sdk.common.HederaDuration;
 import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaNetwork;
 import com.hedera.sdk.node.HederaNode;
 
 public class HederaTransactionAndQueryDefaults {
 	final Logger logger = LoggerFactory.getLogger(HederaTransactionAndQueryDefaults.class);
 	// set transport
 	public HederaNode node = new HederaNode();
+	// optional set of nodes to spread transactions across, queries are still sent to node
+	public HederaNetwork network = null;
 	public HederaAccountID payingAccountID = new HederaAccountID();
 	public HederaDuration transactionValidDuration = new HederaDuration();
 	public boolean generateRecord = false;
 	public String memo = "";
 	public HederaCryptoKeyPair payingKeyPair = null;
 	public HederaCryptoKeyPair fileWacl = null;
+
+	/**
+	 * Gets the node to send the next transaction to
+	 * if a {@link HederaNetwork} is set, the least loaded of its nodes is chosen, otherwise node is returned
+	 * @return {@link HederaNode}
+	 * @throws IllegalStateException if no node is set
+	 */
+	public HederaNode getNode() {
+		logger.trace("Start - getNode");
+		HederaNode selected = (this.network != null) ? this.network.pickNode() : this.node;
+		Utilities.throwIfNull("txQueryDefaults.node", selected);
+		logger.trace("End - getNode");
+		return selected;
+	}
 }
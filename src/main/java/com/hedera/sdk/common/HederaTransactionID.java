@@ -1,6 +1,7 @@
 package com.hedera.sdk.common;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,14 +40,19 @@ public class HederaTransactionID implements Serializable {
 	}
 	/**
 	 * Constructs from a {@link HederaAccountID}
-	 * transactionValidStart defaults to now
+	 * transactionValidStart defaults to now, less 10 seconds, and is later than that of any transaction ID
+	 * previously constructed this way for the same account, see {@link HederaTransactionIDGenerator}
 	 * @param accountID the account ID to initialise the object with
 	 */
 	public HederaTransactionID(HederaAccountID accountID) {
 	   	logger.trace("Start - Object init accountID {}", accountID);
 		this.accountID = accountID;
 		// timestamp defaults to now if not specified
-		this.transactionValidStart = new HederaTimeStamp();
+		if (accountID == null) {
+			this.transactionValidStart = new HederaTimeStamp();
+		} else {
+			this.transactionValidStart = HederaTransactionIDGenerator.getDefault().nextValidStart(accountID);
+		}
 	   	logger.trace("End - Object init");
 	}
 	/**
@@ -86,4 +92,17 @@ public class HederaTransactionID implements Serializable {
 	   	logger.trace("End - getProtobuf");
 		return transactionID.build();
 	}
-}
\ No newline at end of file
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		HederaTransactionID other = (HederaTransactionID) o;
+		return Objects.equals(this.accountID, other.accountID) && Objects.equals(this.transactionValidStart, other.transactionValidStart);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.accountID, this.transactionValidStart);
+	}
+}
@@ -0,0 +1,101 @@
+package com.hedera.sdk.common;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates transaction IDs whose valid start times are strictly increasing for each paying account
+ * valid starts follow the clock, less an offset allowing for differences between the client's and the nodes' clocks,
+ * but when two IDs for the same payer would fall in the same clock tick the later one is moved on by a nanosecond,
+ * so no two IDs generated for a payer are ever the same.
+ * Generation is lock free and may be shared between threads.
+ * See {@link HederaTransactionID#HederaTransactionID(HederaAccountID)}
+ */
+public class HederaTransactionIDGenerator {
+	/**
+	 * the default offset from the clock, the same as {@link HederaTimeStamp}'s default time
+	 */
+	public static final long DEFAULT_OFFSET_MILLIS = -10000;
+
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+	private static final HederaTransactionIDGenerator DEFAULT = new HederaTransactionIDGenerator();
+
+	private final ConcurrentMap<HederaAccountID, AtomicLong> lastValidStart = new ConcurrentHashMap<>();
+	private final Clock clock;
+	private final long offsetNanos;
+
+	/**
+	 * Creates a generator using the system clock and {@link #DEFAULT_OFFSET_MILLIS}
+	 */
+	public HederaTransactionIDGenerator() {
+		this(Clock.systemUTC(), DEFAULT_OFFSET_MILLIS);
+	}
+
+	/**
+	 * Creates a generator using the system clock
+	 * @param offsetMillis the offset added to the clock in milliseconds, usually negative
+	 */
+	public HederaTransactionIDGenerator(long offsetMillis) {
+		this(Clock.systemUTC(), offsetMillis);
+	}
+
+	/**
+	 * Creates a generator
+	 * @param clock the {@link Clock} valid starts follow
+	 * @param offsetMillis the offset added to the clock in milliseconds, usually negative
+	 * @throws IllegalStateException if clock is null
+	 */
+	public HederaTransactionIDGenerator(Clock clock, long offsetMillis) {
+		Utilities.throwIfNull("clock", clock);
+		this.clock = clock;
+		this.offsetNanos = TimeUnit.MILLISECONDS.toNanos(offsetMillis);
+	}
+
+	/**
+	 * Gets the generator used by {@link HederaTransactionID#HederaTransactionID(HederaAccountID)}
+	 * @return {@link HederaTransactionIDGenerator}
+	 */
+	public static HederaTransactionIDGenerator getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Generates a transaction ID
+	 * @param payingAccountID the {@link HederaAccountID} paying for the transaction
+	 * @return {@link HederaTransactionID}
+	 */
+	public HederaTransactionID next(HederaAccountID payingAccountID) {
+		return new HederaTransactionID(payingAccountID, nextValidStart(payingAccountID));
+	}
+
+	/**
+	 * Generates a transaction valid start time, later than any generated before for the same paying account
+	 * @param payingAccountID the {@link HederaAccountID} paying for the transaction
+	 * @return {@link HederaTimeStamp}
+	 * @throws IllegalStateException if payingAccountID is null
+	 */
+	public HederaTimeStamp nextValidStart(HederaAccountID payingAccountID) {
+		Utilities.throwIfNull("payingAccountID", payingAccountID);
+		AtomicLong last = this.lastValidStart.get(payingAccountID);
+		if (last == null) {
+			// account IDs are mutable, so the map keeps its own copy
+			HederaAccountID key = new HederaAccountID(payingAccountID.shardNum, payingAccountID.realmNum, payingAccountID.accountNum);
+			last = this.lastValidStart.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+		}
+		Instant now = this.clock.instant();
+		long nowNanos = now.getEpochSecond() * NANOS_PER_SECOND + now.getNano() + this.offsetNanos;
+		long validStart = last.accumulateAndGet(nowNanos, (previous, current) -> Math.max(current, previous + 1));
+		return new HederaTimeStamp(Instant.ofEpochSecond(Math.floorDiv(validStart, NANOS_PER_SECOND), Math.floorMod(validStart, NANOS_PER_SECOND)));
+	}
+
+	/**
+	 * Discards the last valid start of every paying account
+	 */
+	public void reset() {
+		this.lastValidStart.clear();
+	}
+}
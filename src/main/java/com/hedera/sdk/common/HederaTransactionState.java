@@ -1,136 +1,128 @@
 package com.hedera.sdk.common;
 
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
 import com.hedera.sdk.node.HederaNode;
 /**
  * This class exists in order to enable asynchronous handling of Transaction Receipts
- * It is fully synchronised and therefore thread safe
- * The class holds an internal hashmap of node and receipt, indexed by TransactionID
- * Adding a transaction to the hashmap means it will be queried for a receipt when refresh() is called
- * Transactions are automatically removed from the hashmap when the collected receipt means there is no reason
+ * It is thread safe
+ * The class holds an internal map of node and receipt, indexed by TransactionID
+ * Adding a transaction to the map means it will be queried for a receipt when refresh() is called
+ * Transactions are automatically removed from the map when the collected receipt means there is no reason
  * to continue polling for one.
- * Note: No callback has been implemented on completion of receipt acquisition.
+ * @deprecated use {@link HederaReceiptTracker} which polls in the background and completes a future per transaction
  */
+@Deprecated
 public class HederaTransactionState {
 
 	private class TransactionState {
 		public HederaNode node;
 		public HederaTransactionReceipt receipt;
 	}
-	
-	private static Map<HederaTransactionID, TransactionState> stateMap = new HashMap<>();
+
+	private static Map<HederaTransactionID, TransactionState> stateMap = new ConcurrentHashMap<>();
 
 	/**
-	 * Adds (or replaces) a transaction to the internal hashmap
+	 * Adds (or replaces) a transaction to the internal map
 	 * @param transactionID the {@link HederaTransactionID} to add
 	 * @param node the {@link HederaNode} against which the receipt should be polled for
 	 */
-	public void setTransaction(HederaTransactionID transactionID, HederaNode node) 
-    { 
-        TransactionState state = new TransactionState();
-        state.node = node;
-        state.receipt = new HederaTransactionReceipt();
-        
-        // Only one thread is permitted 
-        synchronized(this) 
-        { 
-            stateMap.put(transactionID, state); 
-        } 
-    } 	
+	public void setTransaction(HederaTransactionID transactionID, HederaNode node)
+    {
+        setTransaction(transactionID, node, new HederaTransactionReceipt());
+    }
 
 	/**
-	 * Adds (or replaces) a transaction to the internal hashmap
+	 * Adds (or replaces) a transaction to the internal map
 	 * @param transactionID the {@link HederaTransactionID} to add
 	 * @param node the {@link HederaNode} against which the receipt should be polled for
 	 * @param receipt the updated {@link HederaTransactionReceipt}
 	 */
-	public void setTransaction(HederaTransactionID transactionID, HederaNode node, HederaTransactionReceipt receipt) 
-    { 
+	public void setTransaction(HederaTransactionID transactionID, HederaNode node, HederaTransactionReceipt receipt)
+    {
         TransactionState state = new TransactionState();
         state.node = node;
         state.receipt = receipt;
-        
-        // Only one thread is permitted 
-        synchronized(this) 
-        { 
-            stateMap.put(transactionID, state); 
-        } 
-    } 	
+
+        stateMap.put(transactionID, state);
+    }
 	/**
-	 * Removes a transaction from the hashmap so that it's no longer polled for
+	 * Removes a transaction from the map so that it's no longer polled for
 	 * @param transactionID the {@link HederaTransactionID} to remove
 	 */
-	public void removeTransaction(HederaTransactionID transactionID) 
-    { 
-        // Only one thread is permitted 
-        synchronized(this) 
-        { 
-            stateMap.remove(transactionID); 
-        } 
-    } 	
+	public void removeTransaction(HederaTransactionID transactionID)
+    {
+        stateMap.remove(transactionID);
+    }
 	/**
 	 * Gets the receipt associated with a {@link HederaTransactionID}
 	 * @param transactionID the transaction ID for which the receipt is requested
-	 * @return {@link HederaTransactionReceipt} the receipt
+	 * @return {@link HederaTransactionReceipt} the receipt, null if the transaction isn't in the map
 	 */
-	public HederaTransactionReceipt getReceipt(HederaTransactionID transactionID) 
-    { 
-        // Only one thread is permitted 
-        synchronized(this) 
-        { 
-        	return stateMap.get(transactionID).receipt;
-        } 
-    } 	
+	public HederaTransactionReceipt getReceipt(HederaTransactionID transactionID)
+    {
+        TransactionState state = stateMap.get(transactionID);
+        return (state == null) ? null : state.receipt;
+    }
 	/**
-	 * refreshes the hashmap by querying node(s) for a receipt for each TransactionID
+	 * refreshes the map by querying node(s) for a receipt for each TransactionID
+	 * the queries are sent in parallel and this method returns once they have all completed
 	 * Note: This implementation removes receipts once they have reached a logical conclusion
-	 * @throws InterruptedException 
+	 * @throws InterruptedException if interrupted while waiting for the receipts
 	 */
-	public void refresh() throws InterruptedException 
-    { 
-        // Only one thread is permitted 
-        synchronized(this) 
-        { 
-        	Iterator it = stateMap.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry pair = (Map.Entry)it.next();
-                HederaTransactionID transactionID = (HederaTransactionID)pair.getKey();
-                TransactionState state = (TransactionState)pair.getValue();
-                
-                HederaTransactionReceipt receipt = Utilities.getReceipt(transactionID, state.node, 1, 0, 0);
-                
-                it.remove(); // avoids a ConcurrentModificationException
-                
-				if (receipt.nodePrecheck == HederaPrecheckResult.INVALID_TRANSACTION) {
-					// a callback would be implemented here to deal with the operation
-					stateMap.remove(transactionID);
-				} else if (receipt.transactionStatus == HederaTransactionStatus.FAIL_INVALID) {
-					// a callback would be implemented here to deal with the operation
-					stateMap.remove(transactionID);
-				} else if (receipt.transactionStatus == HederaTransactionStatus.FAIL_BALANCE) {
-					// a callback would be implemented here to deal with the operation
-					stateMap.remove(transactionID);
-				} else if (receipt.nodePrecheck == HederaPrecheckResult.OK) {
-					if (receipt.transactionStatus == HederaTransactionStatus.SUCCESS) {
-						// a callback would be implemented here to deal with the operation
-						stateMap.remove(transactionID);
-					}
-				}
+	public void refresh() throws InterruptedException
+    {
+        List<CompletableFuture<?>> queries = new ArrayList<>();
+        for (Map.Entry<HederaTransactionID, TransactionState> pair : stateMap.entrySet()) {
+            HederaTransactionID transactionID = pair.getKey();
+            TransactionState state = pair.getValue();
+            try {
+                queries.add(state.node.getTransactionReceiptAsync(HederaReceiptTracker.receiptQuery(transactionID))
+                    .thenAccept(response -> {
+                        state.receipt = new HederaTransactionReceipt(response.getTransactionGetReceipt());
+                        if (isConcluded(state.receipt)) {
+                            // only remove the entry this query was for, it may have been replaced meanwhile
+                            stateMap.remove(transactionID, state);
+                        }
+                    }));
+            } catch (RuntimeException e) {
+                // leave the transaction in the map for the next refresh
             }
-        } 
-    } 	
+        }
+        try {
+            CompletableFuture.allOf(queries.toArray(new CompletableFuture<?>[0])).get();
+        } catch (ExecutionException e) {
+            // failed queries are retried on the next refresh
+        }
+    }
 	/**
-	 * Gets the number of Transaction IDs in the hashmap
-	 * @return the number of transaction IDs.
+	 * the conclusions after which this class has always stopped polling, unlike {@link HederaReceiptTracker}
+	 * it keeps polling a transaction which failed with FAIL_FEE
 	 */
-	public int getCount() 
-    { 
-        // Only one thread is permitted 
-        synchronized(this) 
-        {
-        	return stateMap.size();
+	private static boolean isConcluded(HederaTransactionReceipt receipt)
+    {
+        if (receipt.nodePrecheck == HederaPrecheckResult.INVALID_TRANSACTION) {
+            return true;
+        } else if (receipt.transactionStatus == HederaTransactionStatus.FAIL_INVALID) {
+            return true;
+        } else if (receipt.transactionStatus == HederaTransactionStatus.FAIL_BALANCE) {
+            return true;
+        } else if (receipt.nodePrecheck == HederaPrecheckResult.OK) {
+            return (receipt.transactionStatus == HederaTransactionStatus.SUCCESS);
         }
-    } 	
-}
\ No newline at end of file
+        return false;
+    }
+	/**
+	 * Gets the number of Transaction IDs in the map
+	 * @return the number of transaction IDs.
+	 */
+	public int getCount()
+    {
+        return stateMap.size();
+    }
+}
@@ -0,0 +1,96 @@
+package com.hedera.sdk.common;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+
+/**
+ * Fills the unsigned keys of a key signature tree in one pass
+ * the tree is walked once to find the keys still needing a signature, each distinct key for which a
+ * {@link HederaCryptoKeyPair} is supplied signs once, all in parallel, and the signatures are then set
+ * against every matching key in the tree.
+ */
+final class KeySignatureSigner {
+
+	private KeySignatureSigner() {
+	}
+
+	/**
+	 * Signs a message with the supplied key pairs matching unsigned keys in the tree
+	 * @param keySigPairs the {@link HederaKeySignature} at the top of the tree
+	 * @param message the message to sign
+	 * @param keyPairs the {@link HederaCryptoKeyPair} available, those not in the tree are ignored
+	 * @return the number of distinct keys signed with
+	 * @throws Exception if a key pair fails to sign
+	 */
+	static int sign(List<HederaKeySignature> keySigPairs, byte[] message, Collection<HederaCryptoKeyPair> keyPairs) throws Exception {
+		Map<ByteBuffer, HederaCryptoKeyPair> available = new LinkedHashMap<>();
+		for (HederaCryptoKeyPair keyPair : keyPairs) {
+			available.putIfAbsent(ByteBuffer.wrap(keyPair.getPublicKey()), keyPair);
+		}
+		Map<ByteBuffer, HederaCryptoKeyPair> signers = new LinkedHashMap<>();
+		for (HederaKeySignature keySigPair : keySigPairs) {
+			findSigners(keySigPair, available, signers);
+		}
+
+		Map<ByteBuffer, byte[]> signatures = new ConcurrentHashMap<>();
+		try {
+			signers.entrySet().parallelStream().forEach(signer -> {
+				try {
+					signatures.put(signer.getKey(), signer.getValue().signMessage(message));
+				} catch (Exception e) {
+					throw new SigningException(e);
+				}
+			});
+		} catch (SigningException e) {
+			throw (Exception) e.getCause();
+		}
+
+		for (ByteBuffer key : signers.keySet()) {
+			byte[] publicKey = signers.get(key).getPublicKey();
+			for (HederaKeySignature keySigPair : keySigPairs) {
+				keySigPair.setSignatureForKey(publicKey, signatures.get(key), false);
+			}
+		}
+		return signers.size();
+	}
+
+	private static void findSigners(HederaKeySignature keySigPair, Map<ByteBuffer, HederaCryptoKeyPair> available
+			, Map<ByteBuffer, HederaCryptoKeyPair> signers) {
+		KeyType keyType = keySigPair.getKeyType();
+		if (keyType == KeyType.THRESHOLD) {
+			for (HederaKeySignature child : keySigPair.getThresholdKeySignaturePair().keySigPairs) {
+				findSigners(child, available, signers);
+			}
+		} else if (keyType == KeyType.LIST) {
+			for (HederaKeySignature child : keySigPair.getKeySignaturePairList().keySigPairs) {
+				findSigners(child, available, signers);
+			}
+		} else if ((keyType == KeyType.ED25519) || (keyType == KeyType.ECDSA384) || (keyType == KeyType.RSA3072)) {
+			if ((keySigPair.getSignature() == null) && (keySigPair.getKey() != null)) {
+				ByteBuffer key = ByteBuffer.wrap(keySigPair.getKey());
+				HederaCryptoKeyPair keyPair = available.get(key);
+				if (keyPair != null) {
+					signers.putIfAbsent(key, keyPair);
+				}
+			}
+		}
+	}
+
+	/**
+	 * carries a checked exception out of a parallel stream
+	 */
+	private static final class SigningException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		SigningException(Exception cause) {
+			super(cause);
+		}
+	}
+}
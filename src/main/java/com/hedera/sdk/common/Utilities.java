@@ -160,9 +160,9 @@ public class Utilities {
 		}
 	}
 	/**
-	 * retrieves a receipt for a transaction, sleeps 1 second between attempts
+	 * retrieves a receipt for a transaction, polling when the shared {@link HederaReceiptWaitStrategy} expects consensus
 	 * returns the last {@link HederaTransactionReceipt} received.
-	 * tries 10 times and aborts if not successful
+	 * tries 50 times and aborts if not successful
 	 * @param hederaTransactionID the transaction id to get a receipt for
 	 * @param node the node to communicate with
 	 * @return {@link HederaTransactionReceipt}
@@ -171,13 +171,68 @@ public class Utilities {
 	public static HederaTransactionReceipt getReceipt (HederaTransactionID hederaTransactionID, HederaNode node) throws InterruptedException {
 
 		final int MAX_CALL_COUNT = 50;
-		final int DELAY_BASE = 550; // base delay in milliseconds
-		final int DELAY_INCREASE = 0; // this determines how delay increases between calls. It is simply added to sleepTime between each call
 
-		
-		return getReceipt(hederaTransactionID, node, MAX_CALL_COUNT, DELAY_BASE, DELAY_INCREASE);
+		return getReceipt(hederaTransactionID, node, HederaReceiptWaitStrategy.getDefault(), MAX_CALL_COUNT);
 	}
-	
+
+	/**
+	 * retrieves a receipt for a transaction, polling when the {@link HederaReceiptWaitStrategy} expects consensus
+	 * the time taken to reach consensus, as narrowed down by the polls, is recorded in the strategy,
+	 * and the outcome is reported to the node's {@link com.hedera.sdk.node.HederaNodeMetrics}.
+	 * returns the last {@link HederaTransactionReceipt} received.
+	 * @param hederaTransactionID the transaction id to get a receipt for
+	 * @param node the node to communicate with
+	 * @param waitStrategy the {@link HederaReceiptWaitStrategy} deciding when to poll
+	 * @param maxCalls the maximum number of receipt queries to send
+	 * @return {@link HederaTransactionReceipt}
+	 * @throws InterruptedException 
+	 */
+	public static HederaTransactionReceipt getReceipt (HederaTransactionID hederaTransactionID, HederaNode node, HederaReceiptWaitStrategy waitStrategy, int maxCalls) throws InterruptedException {
+		final Logger logger = LoggerFactory.getLogger(HederaTransactionReceipt.class);
+
+		// the transaction was submitted just before its receipt is requested
+		long start = System.nanoTime();
+		int callCount = 1;
+		HederaTransactionReceipt receipt = new HederaTransactionReceipt();
+		receipt.transactionStatus = HederaTransactionStatus.UNKNOWN;
+		long pendingMillis = 0;
+		long pollMillis = 0;
+		while (callCount <= maxCalls) {
+
+			Thread.sleep(waitStrategy.nextDelayMillis(node, (System.nanoTime() - start) / 1000000));
+
+			logger.info("Fetching receipt");
+			pendingMillis = pollMillis;
+			pollMillis = (System.nanoTime() - start) / 1000000;
+			receipt = new HederaTransactionReceipt(hederaTransactionID, node);
+			callCount += 1;
+			if (receipt.nodePrecheck == HederaPrecheckResult.INVALID_TRANSACTION) {
+				// do nothing
+				logger.info("precheck=INVALID_TRANSACTION");
+			} else if (receipt.transactionStatus == HederaTransactionStatus.FAIL_INVALID) {
+				// force exit out of loop
+				logger.info("precheck=FAIL_INVALID");
+				break;
+			} else if (receipt.transactionStatus == HederaTransactionStatus.FAIL_BALANCE) {
+				// force exit out of loop
+				logger.info("precheck=FAIL_BALANCE");
+				break;
+			} else if (receipt.nodePrecheck == HederaPrecheckResult.OK) {
+				logger.info("precheck=OK");
+				if (receipt.transactionStatus == HederaTransactionStatus.SUCCESS) {
+					long elapsedMillis = (System.nanoTime() - start) / 1000000;
+					waitStrategy.recordConsensus(node, pendingMillis, pollMillis);
+					logger.info("took " + (callCount - 1) + " call(s), " + elapsedMillis + " milliseconds");
+					break;
+				} else {
+					logger.info("Transaction status=" + receipt.transactionStatus.name());
+				}
+			}
+		}
+		node.getMetrics().onReceipt(node, (System.nanoTime() - start) / 1000000, receipt.transactionStatus);
+		return receipt;
+	}
+
 	/**
 	 * retrieves a receipt for a transaction
 	 * returns the last {@link HederaTransactionReceipt} received.
@@ -1001,13 +1001,12 @@ public class HederaContract implements Serializable {
 		
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
 		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingAccountID", this.txQueryDefaults.payingAccountID);
-		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.txQueryDefaults.node.getAccountID());
 
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("txQueryDefaults.node.AccountID", this.node.getAccountID());
 
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
@@ -1081,12 +1080,11 @@ public class HederaContract implements Serializable {
 		
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
 		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
-		Utilities.throwIfAccountIDInvalid("node.AccountID", this.node.getAccountID());
 
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("node.AccountID", this.node.getAccountID());
 		
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
@@ -1162,13 +1160,12 @@ public class HederaContract implements Serializable {
 				
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
 		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingAccountID", this.txQueryDefaults.payingAccountID);
-		Utilities.throwIfAccountIDInvalid("node.AccountID", this.node.getAccountID());
 
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("node.AccountID", this.node.getAccountID());
 
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
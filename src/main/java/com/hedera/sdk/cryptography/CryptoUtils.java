@@ -5,6 +5,9 @@ import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +19,12 @@ import org.spongycastle.crypto.params.KeyParameter;
 public class CryptoUtils {
 	final static Logger logger = LoggerFactory.getLogger(CryptoUtils.class);
 
+	/**
+	 * each thread has its own generator, seeded by the platform the first time the thread uses it,
+	 * rather than a new one seeded for every call or one shared between threads contending for it
+	 */
+	private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
     public static Seed generateRandomSeed(){
     	logger.trace("Start - generateRandomSeed");
         Seed seed = Seed.fromEntropy(getSecureRandomData(23));
@@ -25,9 +34,8 @@ public class CryptoUtils {
 
     public static byte[] getSecureRandomData(int length){
     	logger.trace("Start - getSecureRandomData length {}", length);
-        SecureRandom random = new SecureRandom();
         byte[] bytes = new byte[length];
-        random.nextBytes(bytes);
+        RANDOM.get().nextBytes(bytes);
     	logger.trace("End - getSecureRandomData");
         return bytes;
     }
@@ -41,8 +49,79 @@ public class CryptoUtils {
         return hash;
     }
 
+    /**
+     * Derives a private key from a seed and index
+     * @param seed the seed
+     * @param index the index of the key
+     * @param length the length of the key in bytes
+     * @return byte[] the derived key
+     */
     public static byte[] deriveKey(byte[] seed, long index, int length) {
     	logger.trace("Start - deriveKey seed {}, index {}, length {}", seed, index, length);
+        byte[] derivedKey = derive(seed, index, length);
+        logger.trace("End - deriveKey");
+        return derivedKey;
+    }
+
+    /**
+     * Derives a private key from a seed and index, looking it up in a cache first
+     * @param seed the seed
+     * @param index the index of the key
+     * @param length the length of the key in bytes
+     * @param cache the {@link HederaDerivedKeyCache} to look in and add to, null to derive without caching
+     * @return byte[] the derived key
+     */
+    public static byte[] deriveKey(byte[] seed, long index, int length, HederaDerivedKeyCache cache) {
+        if (cache == null) {
+            return deriveKey(seed, index, length);
+        }
+    	logger.trace("Start - deriveKey seed {}, index {}, length {}", seed, index, length);
+        ByteBuffer cacheKey = HederaDerivedKeyCache.cacheKey(seed, index, length);
+        byte[] derivedKey = cache.get(cacheKey);
+        if (derivedKey == null) {
+            derivedKey = derive(seed, index, length);
+            cache.put(cacheKey, derivedKey);
+        }
+        logger.trace("End - deriveKey");
+        return derivedKey;
+    }
+
+    /**
+     * Derives a run of private keys from a seed, in parallel on the common fork join pool
+     * @param seed the seed
+     * @param fromIndex the index of the first key
+     * @param count the number of keys
+     * @param length the length of each key in bytes
+     * @return the derived keys, for indices fromIndex to fromIndex + count - 1 in order
+     * @throws IllegalStateException if count is negative
+     */
+    public static List<byte[]> deriveKeys(byte[] seed, long fromIndex, int count, int length) {
+        return deriveKeys(seed, fromIndex, count, length, null);
+    }
+
+    /**
+     * Derives a run of private keys from a seed, in parallel on the common fork join pool, looking each up in a cache first
+     * @param seed the seed
+     * @param fromIndex the index of the first key
+     * @param count the number of keys
+     * @param length the length of each key in bytes
+     * @param cache the {@link HederaDerivedKeyCache} to look in and add to, null to derive without caching
+     * @return the derived keys, for indices fromIndex to fromIndex + count - 1 in order
+     * @throws IllegalStateException if count is negative
+     */
+    public static List<byte[]> deriveKeys(byte[] seed, long fromIndex, int count, int length, HederaDerivedKeyCache cache) {
+        if (count < 0) {
+            throw new IllegalStateException("count must not be negative");
+        }
+    	logger.trace("Start - deriveKeys seed {}, fromIndex {}, count {}, length {}", seed, fromIndex, count, length);
+        byte[] seedCopy = seed.clone();
+        byte[][] derivedKeys = new byte[count][];
+        IntStream.range(0, count).parallel().forEach(i -> derivedKeys[i] = deriveKey(seedCopy, fromIndex + i, length, cache));
+    	logger.trace("End - deriveKeys");
+        return Arrays.asList(derivedKeys);
+    }
+
+    private static byte[] derive(byte[] seed, long index, int length) {
         byte[] password = new byte[seed.length + Long.BYTES];
         for (int i = 0; i < seed.length; i++) {
             password[i] = seed[i];
@@ -61,11 +140,7 @@ public class CryptoUtils {
         PKCS5S2ParametersGenerator gen = new PKCS5S2ParametersGenerator(new SHA512Digest());
         gen.init(password, params.getSalt(), params.getIterationCount().intValue());
 
-        byte[] derivedKey = ((KeyParameter)gen.generateDerivedParameters(length*8)).getKey();
-
-        logger.trace("End - deriveKey");
-
-        return derivedKey;
+        return ((KeyParameter)gen.generateDerivedParameters(length*8)).getKey();
     }
 
     public static byte[] longToBytes(long x) {
@@ -3,7 +3,13 @@ package com.hedera.sdk.cryptography;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.spongycastle.asn1.ASN1InputStream;
 import org.spongycastle.asn1.ASN1Integer;
@@ -28,31 +34,59 @@ public class ECKeyPair extends AbstractKeyPair {
     public static final ECDomainParameters CURVE;
 
 
+    /**
+     * the number of decoded public keys kept by {@link #verify(byte[], ECDSASignature, byte[])}
+     */
+    public static final int PUBLIC_KEY_CACHE_SIZE = 256;
+
+    // the comb table for the generator is built once per JVM, every multiplication of the generator uses it,
+    // both for signing, through ECDSASigner's FixedPointCombMultiplier, and in publicPointFromPrivate
     static {
         FixedPointUtil.precompute(CURVE_PARAMS.getG(), 12);
         CURVE = new ECDomainParameters(CURVE_PARAMS.getCurve(), CURVE_PARAMS.getG(), CURVE_PARAMS.getN(),
                 CURVE_PARAMS.getH());
     }
 
+    /**
+     * signers are reused by each thread rather than created for every signature, a signer is initialised
+     * with a key for each signature and holds no other state, so one serves any number of keys
+     */
+    private static final ThreadLocal<ECDSASigner> SIGNER = ThreadLocal.withInitial(
+            () -> new ECDSASigner((DSAKCalculator) new HMacDSAKCalculator((Digest) new SHA384Digest())));
+    private static final ThreadLocal<ECDSASigner> VERIFIER = ThreadLocal.withInitial(ECDSASigner::new);
+
     protected final BigInteger priv;
     protected final ECPoint pub;
+    private final ECPrivateKeyParameters privParams;
+    private final ECPublicKeyParameters pubParams;
 
     ECKeyPair(BigInteger priv, ECPoint pub) {
         this.priv = priv;
         this.pub = pub;
         this.privateKey = priv.toByteArray();
         this.publicKey = pub.getEncoded(false);
+        this.privParams = new ECPrivateKeyParameters(priv, CURVE);
+        this.pubParams = new ECPublicKeyParameters(pub, CURVE);
     }
 
     @Override
     public byte[] signMessage(byte[] message) throws NoSuchAlgorithmException, IOException {
+        return sign(SIGNER.get(), message);
+    }
+
+    @Override
+    public List<byte[]> signMessages(List<byte[]> messages) throws NoSuchAlgorithmException, IOException {
+        ECDSASigner signer = SIGNER.get();
+        List<byte[]> signatures = new ArrayList<>(messages.size());
+        for (byte[] message : messages) {
+            signatures.add(sign(signer, message));
+        }
+        return signatures;
+    }
+
+    private byte[] sign(ECDSASigner signer, byte[] message) throws NoSuchAlgorithmException, IOException {
         byte[] digest = CryptoUtils.sha384Digest(message);
-        SHA384Digest dig = new SHA384Digest();
-        HMacDSAKCalculator calc = new HMacDSAKCalculator((Digest) dig);
-        ECDSASigner signer = new ECDSASigner((DSAKCalculator) calc);
-        
-        ECPrivateKeyParameters privKey = new ECPrivateKeyParameters(priv, CURVE);
-        signer.init(true, privKey);
+        signer.init(true, privParams);
         BigInteger[] components = signer.generateSignature(digest);
         return new ECDSASignature(components[0], components[1]).encodeToDER();
     }
@@ -61,12 +95,35 @@ public class ECKeyPair extends AbstractKeyPair {
     public boolean verifySignature(byte[] message, byte[] signature) throws NoSuchAlgorithmException {
         ECDSASignature ecdsa = ECDSASignature.decodeFromDER(signature);
         byte[] data = CryptoUtils.sha384Digest(message);
-        return ECKeyPair.verify(data,ecdsa, getPublicKey());
+        return ECKeyPair.verify(data, ecdsa, pubParams);
     }
 
+    /**
+     * decoded and validated public keys, most recently used last; a cached point also keeps the
+     * multiplication table built for it the first time it verifies, making later verifications cheaper
+     */
+    private static final Map<ByteBuffer, ECPublicKeyParameters> PUBLIC_KEYS = Collections.synchronizedMap(
+            new LinkedHashMap<ByteBuffer, ECPublicKeyParameters>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ByteBuffer, ECPublicKeyParameters> eldest) {
+                    return size() > PUBLIC_KEY_CACHE_SIZE;
+                }
+            });
+
     public static boolean verify(byte[] data, ECDSASignature signature, byte[] pub) {
-        ECDSASigner signer = new ECDSASigner();
-        ECPublicKeyParameters params = new ECPublicKeyParameters(CURVE.getCurve().decodePoint(pub), CURVE);
+        ByteBuffer key = ByteBuffer.wrap(pub.clone());
+        ECPublicKeyParameters params = PUBLIC_KEYS.get(key);
+        if (params == null) {
+            params = new ECPublicKeyParameters(CURVE.getCurve().decodePoint(pub), CURVE);
+            PUBLIC_KEYS.put(key, params);
+        }
+        return verify(data, signature, params);
+    }
+
+    private static boolean verify(byte[] data, ECDSASignature signature, ECPublicKeyParameters params) {
+        ECDSASigner signer = VERIFIER.get();
         signer.init(false, params);
         try {
             return signer.verifySignature(data, signature.r, signature.s);
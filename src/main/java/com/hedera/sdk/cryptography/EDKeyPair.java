@@ -1,9 +1,16 @@
 package com.hedera.sdk.cryptography;
 
-import java.security.Signature;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
 
 import net.i2p.crypto.eddsa.EdDSAEngine;
 import net.i2p.crypto.eddsa.EdDSAPrivateKey;
@@ -14,6 +21,13 @@ import net.i2p.crypto.eddsa.spec.EdDSAPrivateKeySpec;
 import net.i2p.crypto.eddsa.spec.EdDSAPublicKeySpec;
 
 public class EDKeyPair extends AbstractKeyPair {
+    /**
+     * engines are reused by each thread rather than created for every signature,
+     * which saves looking up and allocating the engine's SHA-512 digest each time.
+     * an engine holds no state between calls once initialised with a key, so one serves any number of keys
+     */
+    private static final ThreadLocal<EdDSAEngine> ENGINE = ThreadLocal.withInitial(EdDSAEngine::new);
+    private static final EdDSAParameterSpec ED25519 = EdDSANamedCurveTable.getByName(EdDSANamedCurveTable.ED_25519);
 
     private EdDSAPrivateKey edPrivateKey;
     private EdDSAPublicKey edPublicKey;
@@ -60,19 +74,80 @@ public class EDKeyPair extends AbstractKeyPair {
     
     @Override
     public byte[] signMessage(byte[] message) throws Exception {
-        Signature sgr = new EdDSAEngine();
-        sgr.initSign(edPrivateKey);
-        sgr.update(message);
-        byte[] signedMessage = sgr.sign();
-        return signedMessage;
+        EdDSAEngine engine = ENGINE.get();
+        engine.initSign(edPrivateKey);
+        return engine.signOneShot(message);
+    }
 
+    @Override
+    public List<byte[]> signMessages(List<byte[]> messages) throws Exception {
+        EdDSAEngine engine = ENGINE.get();
+        List<byte[]> signatures = new ArrayList<>(messages.size());
+        for (byte[] message : messages) {
+            engine.initSign(edPrivateKey);
+            signatures.add(engine.signOneShot(message));
+        }
+        return signatures;
     }
 
     @Override
     public boolean verifySignature(byte[] message, byte[] signature) throws Exception {
-        Signature sgr = new EdDSAEngine();
-        sgr.initVerify(edPublicKey);
-        sgr.update(message);
-        return sgr.verify(signature);
+        EdDSAEngine engine = ENGINE.get();
+        engine.initVerify(edPublicKey);
+        return engine.verifyOneShot(message, signature);
+    }
+
+    /**
+     * Verifies an ED25519 signature against a raw public key
+     * @param publicKey the 32 byte public key
+     * @param message the message
+     * @param signature the signature
+     * @return true if the signature is valid, false if it isn't or the key or signature are malformed
+     */
+    public static boolean verify(byte[] publicKey, byte[] message, byte[] signature) {
+        try {
+            return verify(new EdDSAPublicKey(new EdDSAPublicKeySpec(publicKey, ED25519)), message, signature);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Verifies many ED25519 signatures, in parallel on the common fork join pool
+     * each distinct public key is decoded once however many signatures it has.
+     * The result of each signature is returned, so the bad ones in a batch can be picked out.
+     * @param publicKeys the 32 byte public keys
+     * @param messages the messages, one for each key
+     * @param signatures the signatures, one for each key
+     * @return true for each signature which is valid, false for each which isn't or whose key or signature are malformed
+     * @throws IllegalStateException if the lists aren't the same size
+     */
+    public static boolean[] verifyAll(List<byte[]> publicKeys, List<byte[]> messages, List<byte[]> signatures) {
+        if (publicKeys.size() != messages.size() || publicKeys.size() != signatures.size()) {
+            throw new IllegalStateException("There must be a message and signature for each public key.");
+        }
+        ConcurrentMap<ByteBuffer, Optional<EdDSAPublicKey>> keys = new ConcurrentHashMap<>();
+        boolean[] valid = new boolean[publicKeys.size()];
+        IntStream.range(0, valid.length).parallel().forEach(i -> {
+            Optional<EdDSAPublicKey> key = keys.computeIfAbsent(ByteBuffer.wrap(publicKeys.get(i)), k -> {
+                try {
+                    return Optional.of(new EdDSAPublicKey(new EdDSAPublicKeySpec(publicKeys.get(i), ED25519)));
+                } catch (RuntimeException e) {
+                    return Optional.empty();
+                }
+            });
+            valid[i] = key.isPresent() && verify(key.get(), messages.get(i), signatures.get(i));
+        });
+        return valid;
+    }
+
+    private static boolean verify(EdDSAPublicKey key, byte[] message, byte[] signature) {
+        try {
+            EdDSAEngine engine = ENGINE.get();
+            engine.initVerify(key);
+            return engine.verifyOneShot(message, signature);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            return false;
+        }
     }
 }
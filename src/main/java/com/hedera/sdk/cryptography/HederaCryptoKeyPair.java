@@ -380,6 +380,18 @@ public class HederaCryptoKeyPair implements Serializable {
 		return keyPair.signMessage(message);
 	}
 
+	/**
+	 * signs several messages with the key pair, reusing the signing state across them
+	 * @param messages the messages to sign
+	 * @return the signatures, in the same order as the messages
+	 * @throws Exception 
+	 */
+	public List<byte[]> signMessages(List<byte[]> messages) throws Exception {
+		logger.trace("Start - signMessages messages {}", messages.size());
+		logger.trace("End - signMessages");
+		return keyPair.signMessages(messages);
+	}
+
 	/**
 	 * verifies a message against a signature
 	 * @param message byte[]
@@ -0,0 +1,86 @@
+package com.hedera.sdk.cryptography;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.spongycastle.crypto.digests.SHA256Digest;
+
+/**
+ * A cache of keys derived by {@link CryptoUtils#deriveKey(byte[], long, int, HederaDerivedKeyCache)}, for callers
+ * deriving the same keys repeatedly, least recently used first out
+ * the cache holds private keys, so it is owned by the caller, who decides how long it lives and should
+ * {@link #clear()} it once it is no longer needed. Seeds are held as a digest, never as they are.
+ */
+public class HederaDerivedKeyCache {
+	private final int capacity;
+	private final Map<ByteBuffer, byte[]> keys;
+
+	/**
+	 * Creates a cache
+	 * @param capacity the number of keys kept
+	 * @throws IllegalStateException if capacity is less than 1
+	 */
+	public HederaDerivedKeyCache(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalStateException("capacity must be at least 1");
+		}
+		this.capacity = capacity;
+		this.keys = new LinkedHashMap<ByteBuffer, byte[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ByteBuffer, byte[]> eldest) {
+				if (size() > HederaDerivedKeyCache.this.capacity) {
+					Arrays.fill(eldest.getValue(), (byte) 0);
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @return the number of keys currently held
+	 */
+	public synchronized int size() {
+		return this.keys.size();
+	}
+
+	/**
+	 * Discards every key held, overwriting them first
+	 */
+	public synchronized void clear() {
+		for (byte[] key : this.keys.values()) {
+			Arrays.fill(key, (byte) 0);
+		}
+		this.keys.clear();
+	}
+
+	/**
+	 * @return a copy of the cached key, or null if it isn't held
+	 */
+	synchronized byte[] get(ByteBuffer cacheKey) {
+		byte[] key = this.keys.get(cacheKey);
+		return (key == null) ? null : key.clone();
+	}
+
+	synchronized void put(ByteBuffer cacheKey, byte[] key) {
+		this.keys.put(cacheKey, key.clone());
+	}
+
+	/**
+	 * the key a derived key is held under, built from a digest of the seed rather than the seed itself
+	 */
+	static ByteBuffer cacheKey(byte[] seed, long index, int length) {
+		SHA256Digest digest = new SHA256Digest();
+		digest.update(seed, 0, seed.length);
+		byte[] fingerprint = new byte[digest.getDigestSize()];
+		digest.doFinal(fingerprint, 0);
+		ByteBuffer key = ByteBuffer.allocate(fingerprint.length + Long.BYTES + Integer.BYTES);
+		key.put(fingerprint).putLong(index).putInt(length);
+		key.flip();
+		return key;
+	}
+}
@@ -0,0 +1,119 @@
+package com.hedera.sdk.cryptography;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.common.HederaKey.KeyType;
+
+/**
+ * Generates key pairs in bulk, for example to provision accounts for a batch of new users
+ * key pairs are generated in parallel, each thread drawing its seeds from its own {@link java.security.SecureRandom},
+ * and are handed on as they are generated rather than collected, so any number may be generated in bounded memory.
+ * <pre>
+ * HederaKeyPairGenerator generator = new HederaKeyPairGenerator(KeyType.ED25519);
+ * generator.generate(10000, keyPair -&gt; accounts.create(keyPair));
+ * generator.writeTo(path, 10000);
+ * </pre>
+ */
+public class HederaKeyPairGenerator {
+	final static Logger logger = LoggerFactory.getLogger(HederaKeyPairGenerator.class);
+
+	private final KeyType keyType;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Creates a generator running on the common fork join pool
+	 * @param keyType the {@link KeyType} of key pair to generate
+	 * @throws IllegalStateException if the key type can't be generated
+	 */
+	public HederaKeyPairGenerator(KeyType keyType) {
+		this(keyType, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a generator
+	 * @param keyType the {@link KeyType} of key pair to generate
+	 * @param pool the {@link ForkJoinPool} to generate on
+	 * @throws IllegalStateException if the key type can't be generated
+	 */
+	public HederaKeyPairGenerator(KeyType keyType, ForkJoinPool pool) {
+		if ((keyType != KeyType.ED25519) && (keyType != KeyType.ECDSA384)) {
+			throw new IllegalStateException("Only ED25519 and ECDSA384 key pairs can be generated.");
+		}
+		this.keyType = keyType;
+		this.pool = pool;
+	}
+
+	/**
+	 * A parallel stream of new key pairs, in no particular order
+	 * the key pairs are generated as the stream is consumed, on whichever pool runs the terminal operation
+	 * @param count the number of key pairs
+	 * @return {@link Stream} of {@link HederaCryptoKeyPair}
+	 */
+	public Stream<HederaCryptoKeyPair> stream(int count) {
+		return IntStream.range(0, count).parallel().unordered().mapToObj(i -> new HederaCryptoKeyPair(this.keyType));
+	}
+
+	/**
+	 * Generates key pairs and hands each to a consumer as it is generated
+	 * the consumer is called from several threads at once, so must be thread safe
+	 * @param count the number of key pairs
+	 * @param consumer the {@link Consumer} of the key pairs
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void generate(int count, Consumer<HederaCryptoKeyPair> consumer) throws InterruptedException {
+		logger.trace("Start - generate count {}", count);
+		try {
+			this.pool.submit(() -> stream(count).forEach(consumer)).get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+		logger.trace("End - generate");
+	}
+
+	/**
+	 * Generates key pairs and writes them to a file, one per line as key type, encoded public key and
+	 * secret key, in hex and separated by commas; each line can be read back with
+	 * {@link HederaCryptoKeyPair#HederaCryptoKeyPair(KeyType, String, String)}.
+	 * Note the file holds secret keys and should be protected accordingly.
+	 * @param path the {@link Path} of the file
+	 * @param count the number of key pairs
+	 * @param options {@link OpenOption} as for {@link Files#newBufferedWriter(Path, java.nio.charset.Charset, OpenOption...)}
+	 * @throws IOException if the file can't be written
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void writeTo(Path path, int count, OpenOption... options) throws IOException, InterruptedException {
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, options)) {
+			generate(count, keyPair -> {
+				String line = keyPair.getKeyType() + "," + keyPair.getPublicKeyEncodedHex() + "," + keyPair.getSecretKeyHex();
+				synchronized (writer) {
+					try {
+						writer.write(line);
+						writer.newLine();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		logger.info("Wrote {} {} key pairs to {}", count, this.keyType, path);
+	}
+}
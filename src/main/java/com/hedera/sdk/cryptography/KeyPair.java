@@ -1,9 +1,28 @@
 package com.hedera.sdk.cryptography;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface KeyPair {
     byte[] getPrivateKey();
     byte[] getPublicKey();
     byte[] getPublicKeyEncoded();
     byte[] signMessage(byte[] message) throws Exception;
     boolean verifySignature(byte[] message, byte[] signature) throws Exception;
+
+    /**
+     * Signs several messages with this key
+     * implementations may reuse their signing state across the messages, which is cheaper than a call to
+     * {@link #signMessage(byte[])} for each
+     * @param messages the messages to sign
+     * @return the signatures, in the same order as the messages
+     * @throws Exception if a message can't be signed
+     */
+    default List<byte[]> signMessages(List<byte[]> messages) throws Exception {
+        List<byte[]> signatures = new ArrayList<>(messages.size());
+        for (byte[] message : messages) {
+            signatures.add(signMessage(message));
+        }
+        return signatures;
+    }
 }
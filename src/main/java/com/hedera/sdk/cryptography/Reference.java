@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,20 +114,55 @@ public class Reference {
 				data[i] = (byte) outDigits[i];
 			}
 		} else { // list of words
-			List<String> words = WordList.words;
-			int len128Bits = lenInBitSize(128, words.size());
-			int len256Bits = lenInBitSize(256, words.size());
-			int len384Bits = lenInBitSize(384, words.size());
-
-			List<String> allWords = wordIndices(dataString);
-			int[] indices = allWordsExtraction(allWords, words);
-			if (allWords.size() != len128Bits && allWords.size() != len256Bits && allWords.size() != len384Bits) {
-				throw new InvalidParameterException("there should be " + len128Bits + ", " + len256Bits + ", or " + len384Bits
-						+ " words, not " + allWords.size());
-			}
-			data = toDigitsData(allWords,indices, words, len128Bits,len256Bits,len384Bits);
+			data = wordsToData(wordIndices(dataString));
+		}
+
+		checkCrc(data);
+	}
+
+	/**
+	 * Checks whether a string of words is a valid recovery phrase, with the right number of words,
+	 * all in the word list, and which pass the cyclic redundancy check
+	 * 
+	 * @param dataString the words, separated by anything other than letters
+	 * @return true if the words are valid
+	 */
+	public static boolean isValidWords(String dataString) {
+		try {
+			checkCrc(wordsToData(wordIndices(dataString)));
+			return true;
+		} catch (InvalidParameterException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Checks many recovery phrases, in parallel on the common fork join pool, see {@link #isValidWords(String)}
+	 * 
+	 * @param dataStrings the phrases to check
+	 * @return true for each phrase which is valid, in the same order as the phrases
+	 */
+	public static boolean[] validateWords(List<String> dataStrings) {
+		boolean[] valid = new boolean[dataStrings.size()];
+		IntStream.range(0, valid.length).parallel().forEach(i -> valid[i] = isValidWords(dataStrings.get(i)));
+		return valid;
+	}
+
+	private static byte[] wordsToData(List<String> allWords) {
+		List<String> words = WordList.words;
+		int len128Bits = lenInBitSize(128, words.size());
+		int len256Bits = lenInBitSize(256, words.size());
+		int len384Bits = lenInBitSize(384, words.size());
+
+		int[] indices = allWordsExtraction(allWords, words);
+		if (allWords.size() != len128Bits && allWords.size() != len256Bits && allWords.size() != len384Bits) {
+			throw new InvalidParameterException("there should be " + len128Bits + ", " + len256Bits + ", or " + len384Bits
+					+ " words, not " + allWords.size());
 		}
+		return toDigitsData(allWords,indices, words, len128Bits,len256Bits,len384Bits);
+	}
 
+	private static void checkCrc(byte[] data) {
 		// cyclic redundancy check
 		byte[] dataUnscrambled = new byte[data.length - 1];
 		byte crc = data[data.length - 1];
@@ -310,25 +346,25 @@ public class Reference {
 	public String toWords(String prefix, String wordSeparator, String lineSeparator1, String lineSeparator2,
 			String groupSeparator1, String groupSeparator2, String suffix) {
 		List<String> words = this.toWordsList();
-		String answer = "";
+		StringBuilder answer = new StringBuilder();
 
 		for (int i = 0; i < words.size(); i++) {
 			if (i == 0) {
-				answer += prefix;
+				answer.append(prefix);
 			} else if (i % 24 == 0) {
-				answer += groupSeparator1;
+				answer.append(groupSeparator1);
 			} else if (i % 12 == 0) {
-				answer += groupSeparator2;
+				answer.append(groupSeparator2);
 			} else if (i % 4 == 0 && i % 24 < 12) {
-				answer += lineSeparator1;
+				answer.append(lineSeparator1);
 			} else if (i % 4 == 0) {
-				answer += lineSeparator2;
+				answer.append(lineSeparator2);
 			} else {
-				answer += wordSeparator;
+				answer.append(wordSeparator);
 			}
-			answer += words.get(i);
+			answer.append(words.get(i));
 		}
-		return new String(answer + suffix);
+		return answer.append(suffix).toString();
 	}
 
 	public List<String> toWordsList() {
@@ -400,7 +436,8 @@ public class Reference {
 		int[] indices = new int[allWords.size()];
 		int j = 0;
 		for (String word : allWords) {
-			indices[j++] = words.indexOf(word);
+			// the word list's own index avoids a search of the list for every word
+			indices[j++] = (words == WordList.words) ? WordList.indexOf(word) : words.indexOf(word);
 			if (indices[j - 1] == -1) {
 				throw new InvalidParameterException("one of the supplied words isn't in the word list");
 			}
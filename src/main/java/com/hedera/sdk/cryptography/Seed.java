@@ -39,12 +39,11 @@ public class Seed {
     	
     }
     public static Seed fromWordList(List<String> allWords) {
-    	String recoveryWords = "";
+    	StringBuilder recoveryWords = new StringBuilder();
     	for (int i=0; i < allWords.size(); i++) {
-    		recoveryWords += allWords.get(i);
-    		recoveryWords += " ";
+    		recoveryWords.append(allWords.get(i)).append(' ');
     	}
-        Reference reference = new Reference(recoveryWords);
+        Reference reference = new Reference(recoveryWords.toString());
     	return Seed.fromEntropy(reference.toBytes());
     }
 
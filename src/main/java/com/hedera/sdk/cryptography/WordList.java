@@ -1,11 +1,13 @@
 package com.hedera.sdk.cryptography;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * A list of 4096 words, suitable for encoding keys and other binary values. This class has no methods, and
- * has only a single, static variable, named words.
+ * A list of 4096 words, suitable for encoding keys and other binary values. This class has a single,
+ * static variable, named words, and {@link #indexOf(String)} to look words up in it.
  * 
  * We need at least 2581 words in order to encode 128+8 bits into at most 12 words. RFC 1751 gives only 2048
  * words, all very short, many obscure, some being prefixes of others. So the following list was created
@@ -591,4 +593,37 @@ public class WordList {
 			"yet", "yield", "yogurt", "yolk", "you", "young", "your", "youth",
 			"Zaire", "zeal", "zebra", "zenith", "zero", "Zeus", "zigzag",
 			"zinc", "zombie", "zone");
+
+	/** the index of each word in the list, built when first needed and rebuilt if words is replaced */
+	private static volatile WordIndex index;
+
+	/**
+	 * Gets the position of a word in the list, in constant time rather than by searching the list
+	 * matching is exact, as for {@link List#indexOf(Object)}
+	 * @param word the word to look for
+	 * @return the index of the word, or -1 if it isn't in the list
+	 */
+	public static int indexOf(String word) {
+		WordIndex current = index;
+		if ((current == null) || (current.words != words)) {
+			current = new WordIndex(words);
+			index = current;
+		}
+		Integer position = current.positions.get(word);
+		return (position == null) ? -1 : position;
+	}
+
+	private static final class WordIndex {
+		private final List<String> words;
+		private final Map<String, Integer> positions;
+
+		WordIndex(List<String> words) {
+			this.words = words;
+			this.positions = new HashMap<>(words.size() * 2);
+			for (int i = words.size() - 1; i >= 0; i--) {
+				// iterating backwards leaves the first position of any repeated word, as indexOf would
+				this.positions.put(words.get(i), i);
+			}
+		}
+	}
 }
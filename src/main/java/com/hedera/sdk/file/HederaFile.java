@@ -1226,13 +1226,12 @@ public class HederaFile implements Serializable {
 
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
 		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
-		Utilities.throwIfAccountIDInvalid("Node", this.txQueryDefaults.node.getAccountID());
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingAccountID", this.txQueryDefaults.payingAccountID);
 
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("Node", this.node.getAccountID());
 
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
@@ -1298,13 +1297,12 @@ public class HederaFile implements Serializable {
 
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
-		Utilities.throwIfAccountIDInvalid("Node", this.txQueryDefaults.node.getAccountID());
 		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingAccountID);
 
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("Node", this.node.getAccountID());
 
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
@@ -1382,13 +1380,12 @@ public class HederaFile implements Serializable {
 
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
-		Utilities.throwIfAccountIDInvalid("Node", this.txQueryDefaults.node.getAccountID());
 		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingAccountID);
 		
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("Node", this.node.getAccountID());
 
 		// append contents
 		this.appendContents = contents.clone();
@@ -1498,13 +1495,12 @@ public class HederaFile implements Serializable {
 
 		// validate inputs
 		Utilities.throwIfNull("txQueryDefaults", this.txQueryDefaults);
-		Utilities.throwIfNull("txQueryDefaults.node", this.txQueryDefaults.node);
-		Utilities.throwIfAccountIDInvalid("Node", this.txQueryDefaults.node.getAccountID());
 		Utilities.throwIfNull("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingKeyPair);
 		Utilities.throwIfAccountIDInvalid("txQueryDefaults.payingKeyPair", this.txQueryDefaults.payingAccountID);
 
 		// set transport
-		this.node = this.txQueryDefaults.node;
+		this.node = this.txQueryDefaults.getNode();
+		Utilities.throwIfAccountIDInvalid("Node", this.node.getAccountID());
 
 		// create a transaction ID (starts now with accountID of the paying account id)
 		this.hederaTransactionID = new HederaTransactionID(this.txQueryDefaults.payingAccountID);
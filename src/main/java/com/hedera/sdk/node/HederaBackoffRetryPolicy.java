@@ -0,0 +1,65 @@
+package com.hedera.sdk.node;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link HederaRetryPolicy} using exponential backoff with decorrelated jitter
+ * each wait is chosen at random between the base delay and three times the previous wait, capped at maxDelayMillis.
+ * The randomness keeps clients which were told BUSY at the same time from retrying in lock step.
+ */
+public class HederaBackoffRetryPolicy implements HederaRetryPolicy {
+	private static final long serialVersionUID = 1L;
+	private final int maxAttempts;
+	private final long maxDelayMillis;
+
+	/**
+	 * Creates a policy making up to 5 attempts with waits of up to 5 seconds
+	 */
+	public HederaBackoffRetryPolicy() {
+		this(5, 5000);
+	}
+
+	/**
+	 * Creates a policy
+	 * @param maxAttempts the maximum number of attempts, including the first
+	 * @param maxDelayMillis the maximum wait between attempts in milliseconds
+	 * @throws IllegalStateException if maxAttempts is less than 1 or maxDelayMillis is negative
+	 */
+	public HederaBackoffRetryPolicy(int maxAttempts, long maxDelayMillis) {
+		if (maxAttempts < 1) {
+			throw new IllegalStateException("maxAttempts must be at least 1");
+		}
+		if (maxDelayMillis < 0) {
+			throw new IllegalStateException("maxDelayMillis must not be negative");
+		}
+		this.maxAttempts = maxAttempts;
+		this.maxDelayMillis = maxDelayMillis;
+	}
+
+	/**
+	 * @return the maximum number of attempts, including the first
+	 */
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	/**
+	 * @return the maximum wait between attempts in milliseconds
+	 */
+	public long getMaxDelayMillis() {
+		return this.maxDelayMillis;
+	}
+
+	@Override
+	public long nextDelayMillis(int attempt, long baseDelayMillis, long previousDelayMillis) {
+		if (attempt >= this.maxAttempts) {
+			return -1;
+		}
+		long base = Math.min(Math.max(baseDelayMillis, 0), this.maxDelayMillis);
+		long upper = Math.min(Math.max(previousDelayMillis, base) * 3, this.maxDelayMillis);
+		if (upper <= base) {
+			return base;
+		}
+		return ThreadLocalRandom.current().nextLong(base, upper + 1);
+	}
+}
@@ -0,0 +1,179 @@
+package com.hedera.sdk.node;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+
+/**
+ * Process wide registry of gRPC channels, keyed by host and port
+ * All {@link HederaNode} objects communicating with the same host and port share the same channel(s).
+ * Channels are reference counted and shut down when the last node releases them.
+ */
+public final class HederaChannelManager {
+	final static Logger logger = LoggerFactory.getLogger(HederaChannelManager.class);
+	private static final Map<String, SharedChannel> channels = new HashMap<>();
+	private static HederaChannelSettings settings = new HederaChannelSettings();
+
+	private HederaChannelManager() {
+	}
+
+	/**
+	 * A set of channels to a single host and port, handed out in turn
+	 */
+	static final class SharedChannel {
+		private final String key;
+		private final ManagedChannel[] subChannels;
+		private final AtomicInteger nextChannel = new AtomicInteger();
+		private final long shutdownTimeoutMillis;
+		private int references = 0;
+
+		private SharedChannel(String key, ManagedChannel[] subChannels, long shutdownTimeoutMillis) {
+			this.key = key;
+			this.subChannels = subChannels;
+			this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+		}
+
+		/**
+		 * Returns the next channel to use for a call
+		 * @return {@link ManagedChannel}
+		 */
+		ManagedChannel next() {
+			if (this.subChannels.length == 1) {
+				return this.subChannels[0];
+			}
+			return this.subChannels[Math.floorMod(this.nextChannel.getAndIncrement(), this.subChannels.length)];
+		}
+
+		private void shutdown() throws InterruptedException {
+			logger.trace("Start - shutdown {}", this.key);
+			for (ManagedChannel channel : this.subChannels) {
+				channel.shutdown();
+			}
+			for (ManagedChannel channel : this.subChannels) {
+				if (!channel.awaitTermination(this.shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+					channel.shutdownNow();
+					channel.awaitTermination(this.shutdownTimeoutMillis, TimeUnit.MILLISECONDS);
+				}
+			}
+			logger.trace("End - shutdown");
+		}
+	}
+
+	/**
+	 * Sets the settings used for channels opened from now on
+	 * the settings are copied, so later changes to channelSettings have no effect until set again
+	 * @param channelSettings the {@link HederaChannelSettings} to use
+	 * @throws IllegalStateException if channelSettings is null or invalid
+	 */
+	public static synchronized void setSettings(HederaChannelSettings channelSettings) {
+		if (channelSettings == null) {
+			throw new IllegalStateException("Channel settings cannot be null");
+		}
+		HederaChannelSettings copy = copy(channelSettings);
+		if (copy.subChannels < 1) {
+			throw new IllegalStateException("subChannels must be at least 1");
+		}
+		settings = copy;
+	}
+
+	/**
+	 * Gets a copy of the settings used for channels opened from now on
+	 * changes to the copy only apply once passed to {@link #setSettings(HederaChannelSettings)}
+	 * @return {@link HederaChannelSettings}
+	 */
+	public static synchronized HederaChannelSettings getSettings() {
+		return copy(settings);
+	}
+
+	/**
+	 * Returns the number of hosts and ports channels are currently open to
+	 * @return int
+	 */
+	public static synchronized int getChannelCount() {
+		return channels.size();
+	}
+
+	/**
+	 * Returns the number of nodes currently sharing the channel(s) to a host and port
+	 * @param host the host
+	 * @param port the port
+	 * @return int, 0 if no channel is open
+	 */
+	public static synchronized int getReferenceCount(String host, int port) {
+		SharedChannel channel = channels.get(key(host, port));
+		return (channel == null) ? 0 : channel.references;
+	}
+
+	/**
+	 * Acquires a reference to the channel(s) for a host and port, opening them if necessary
+	 * @param host the host
+	 * @param port the port
+	 * @return {@link SharedChannel}
+	 */
+	static synchronized SharedChannel acquire(String host, int port) {
+		String key = key(host, port);
+		SharedChannel channel = channels.get(key);
+		if (channel == null) {
+			logger.trace("Opening {} channel(s) to {}", settings.subChannels, key);
+			ManagedChannel[] subChannels = new ManagedChannel[settings.subChannels];
+			for (int i = 0; i < subChannels.length; i++) {
+				subChannels[i] = build(host, port, settings);
+			}
+			channel = new SharedChannel(key, subChannels, settings.shutdownTimeoutMillis);
+			channels.put(key, channel);
+		}
+		channel.references += 1;
+		return channel;
+	}
+
+	/**
+	 * Releases a reference to a channel, the channel is shut down once no references remain
+	 * @param channel the {@link SharedChannel} to release
+	 * @throws InterruptedException if interrupted while waiting for the channel to terminate
+	 */
+	static void release(SharedChannel channel) throws InterruptedException {
+		synchronized (HederaChannelManager.class) {
+			channel.references -= 1;
+			if (channel.references > 0) {
+				return;
+			}
+			channels.remove(channel.key);
+		}
+		// wait for termination outside the lock so other nodes aren't held up
+		channel.shutdown();
+	}
+
+	private static ManagedChannel build(String host, int port, HederaChannelSettings channelSettings) {
+		ManagedChannelBuilder<?> builder = ManagedChannelBuilder.forAddress(host, port)
+				.usePlaintext()
+				.maxInboundMessageSize(channelSettings.maxInboundMessageSize);
+		if (channelSettings.keepAliveTimeMillis > 0) {
+			builder.keepAliveTime(channelSettings.keepAliveTimeMillis, TimeUnit.MILLISECONDS)
+				.keepAliveTimeout(channelSettings.keepAliveTimeoutMillis, TimeUnit.MILLISECONDS)
+				.keepAliveWithoutCalls(channelSettings.keepAliveWithoutCalls);
+		}
+		return builder.build();
+	}
+
+	private static HederaChannelSettings copy(HederaChannelSettings channelSettings) {
+		HederaChannelSettings copy = new HederaChannelSettings();
+		copy.keepAliveTimeMillis = channelSettings.keepAliveTimeMillis;
+		copy.keepAliveTimeoutMillis = channelSettings.keepAliveTimeoutMillis;
+		copy.keepAliveWithoutCalls = channelSettings.keepAliveWithoutCalls;
+		copy.maxInboundMessageSize = channelSettings.maxInboundMessageSize;
+		copy.subChannels = channelSettings.subChannels;
+		copy.shutdownTimeoutMillis = channelSettings.shutdownTimeoutMillis;
+		return copy;
+	}
+
+	private static String key(String host, int port) {
+		return host + ":" + port;
+	}
+}
@@ -0,0 +1,34 @@
+package com.hedera.sdk.node;
+
+/**
+ * Settings applied by {@link HederaChannelManager} when it opens gRPC channels to a node
+ * Changes only apply to channels opened after the change
+ */
+public class HederaChannelSettings {
+	/**
+	 * Time in milliseconds between keepalive pings, 0 disables keepalive
+	 */
+	public long keepAliveTimeMillis = 0;
+	/**
+	 * Time in milliseconds to wait for a keepalive ping acknowledgement before closing the connection
+	 */
+	public long keepAliveTimeoutMillis = 20000;
+	/**
+	 * Whether keepalive pings are sent when there are no outstanding calls
+	 */
+	public boolean keepAliveWithoutCalls = false;
+	/**
+	 * The maximum size in bytes of a message received from a node
+	 */
+	public int maxInboundMessageSize = 4 * 1024 * 1024;
+	/**
+	 * The number of channels (and therefore connections) opened to each node
+	 * Calls are spread across them in turn, which increases the number of concurrent HTTP/2 streams available
+	 */
+	public int subChannels = 1;
+	/**
+	 * Time in milliseconds to wait for in flight calls to complete when a channel is shut down
+	 * calls still running after this time are cancelled
+	 */
+	public long shutdownTimeoutMillis = 5000;
+}
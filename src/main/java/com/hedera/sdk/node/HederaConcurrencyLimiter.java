@@ -0,0 +1,173 @@
+package com.hedera.sdk.node;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+/**
+ * Limits the number of requests in flight to a {@link HederaNode}
+ * the limit adapts using additive increase, multiplicative decrease (AIMD): each successful response grows
+ * the limit by 1/limit, so it grows by about one per full window of responses, while each BUSY response
+ * multiplies it by backoffRatio. The limit therefore settles just below the point at which the node starts throttling.
+ * Requests over the limit wait for a slot, up to maxQueued asynchronous requests and maxWaitMillis for blocking ones,
+ * and are rejected with a RESOURCE_EXHAUSTED {@link StatusRuntimeException} beyond that.
+ * See {@link HederaNode#setConcurrencyLimiter(HederaConcurrencyLimiter)}
+ */
+public class HederaConcurrencyLimiter {
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final int maxQueued;
+	private final long maxWaitMillis;
+
+	private double limit;
+	private int inFlight = 0;
+	private final Deque<CompletableFuture<Void>> queued = new ArrayDeque<>();
+
+	/**
+	 * Creates a limiter starting at 20 requests, between 1 and 200, backing off by 10% on BUSY,
+	 * queueing up to 1000 asynchronous requests and blocking for up to 10 seconds
+	 */
+	public HederaConcurrencyLimiter() {
+		this(20, 1, 200, 0.9, 1000, 10000);
+	}
+
+	/**
+	 * Creates a limiter
+	 * @param initialLimit the starting limit
+	 * @param minLimit the lowest the limit can fall to
+	 * @param maxLimit the highest the limit can rise to
+	 * @param backoffRatio the factor the limit is multiplied by on a BUSY response, between 0 and 1
+	 * @param maxQueued the maximum number of asynchronous requests waiting for a slot
+	 * @param maxWaitMillis the maximum time a blocking request waits for a slot in milliseconds
+	 * @throws IllegalStateException if the parameters are inconsistent
+	 */
+	public HederaConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, int maxQueued, long maxWaitMillis) {
+		if ((minLimit < 1) || (maxLimit < minLimit) || (initialLimit < minLimit) || (initialLimit > maxLimit)) {
+			throw new IllegalStateException("Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+		}
+		if ((backoffRatio <= 0) || (backoffRatio >= 1)) {
+			throw new IllegalStateException("backoffRatio must be between 0 and 1");
+		}
+		if ((maxQueued < 0) || (maxWaitMillis < 0)) {
+			throw new IllegalStateException("maxQueued and maxWaitMillis must not be negative");
+		}
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.maxQueued = maxQueued;
+		this.maxWaitMillis = maxWaitMillis;
+	}
+
+	/**
+	 * Takes a slot, waiting up to maxWaitMillis for one to become free
+	 * @throws InterruptedException if interrupted while waiting
+	 * @throws StatusRuntimeException with RESOURCE_EXHAUSTED status if no slot became free in time
+	 */
+	public synchronized void acquire() throws InterruptedException, StatusRuntimeException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.maxWaitMillis);
+		while (this.inFlight >= getLimit()) {
+			long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			if (remaining <= 0) {
+				throw rejected();
+			}
+			wait(remaining);
+		}
+		this.inFlight++;
+	}
+
+	/**
+	 * Takes a slot without blocking
+	 * @return {@link CompletableFuture} completed once the slot is taken, or failed with a RESOURCE_EXHAUSTED
+	 * {@link StatusRuntimeException} if maxQueued requests are already waiting
+	 */
+	public synchronized CompletableFuture<Void> acquireAsync() {
+		if ((this.inFlight < getLimit()) && this.queued.isEmpty()) {
+			this.inFlight++;
+			return CompletableFuture.completedFuture(null);
+		}
+		CompletableFuture<Void> slot = new CompletableFuture<>();
+		if (this.queued.size() >= this.maxQueued) {
+			slot.completeExceptionally(rejected());
+		} else {
+			this.queued.add(slot);
+		}
+		return slot;
+	}
+
+	/**
+	 * Releases a slot after a successful response, growing the limit
+	 */
+	public void onSuccess() {
+		release(false, true);
+	}
+
+	/**
+	 * Releases a slot after a BUSY response, shrinking the limit
+	 */
+	public void onBusy() {
+		release(true, false);
+	}
+
+	/**
+	 * Releases a slot after a request failed without a response, leaving the limit unchanged
+	 */
+	public void onFailure() {
+		release(false, false);
+	}
+
+	/**
+	 * @return the current limit
+	 */
+	public synchronized int getLimit() {
+		return (int) this.limit;
+	}
+
+	/**
+	 * @return the number of slots taken
+	 */
+	public synchronized int getInFlight() {
+		return this.inFlight;
+	}
+
+	/**
+	 * @return the number of asynchronous requests waiting for a slot
+	 */
+	public synchronized int getQueued() {
+		return this.queued.size();
+	}
+
+	private void release(boolean busy, boolean success) {
+		Deque<CompletableFuture<Void>> granted = new ArrayDeque<>();
+		synchronized (this) {
+			if (busy) {
+				this.limit = Math.max(this.minLimit, this.limit * this.backoffRatio);
+			} else if (success) {
+				this.limit = Math.min(this.maxLimit, this.limit + 1 / this.limit);
+			}
+			this.inFlight--;
+			// hand free slots to queued requests first
+			while (!this.queued.isEmpty() && (this.inFlight < getLimit())) {
+				this.inFlight++;
+				granted.add(this.queued.poll());
+			}
+			notifyAll();
+		}
+		// complete outside the lock, the queued requests are sent from here
+		for (CompletableFuture<Void> slot : granted) {
+			if (!slot.complete(null)) {
+				// the waiting request was cancelled, give the slot back
+				onFailure();
+			}
+		}
+	}
+
+	private StatusRuntimeException rejected() {
+		return new StatusRuntimeException(Status.RESOURCE_EXHAUSTED.withDescription("Node concurrency limit of " + getLimit() + " reached"));
+	}
+}
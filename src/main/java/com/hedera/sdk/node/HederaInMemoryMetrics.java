@@ -0,0 +1,193 @@
+package com.hedera.sdk.node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.hedera.sdk.common.HederaLatencyHistogram;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaTransactionStatus;
+
+import io.grpc.Status;
+
+/**
+ * A lock free {@link HederaNodeMetrics} keeping counters and latency histograms in memory, per node and RPC
+ * receipt polling is recorded under the {@link #RECEIPT} method name.
+ * One instance may be shared by several nodes, {@link #snapshot()} returns the figures for all of them.
+ */
+public class HederaInMemoryMetrics implements HederaNodeMetrics {
+	/**
+	 * the method name receipt polling is recorded under
+	 */
+	public static final String RECEIPT = "receipt";
+
+	private final ConcurrentMap<String, RpcStats> stats = new ConcurrentHashMap<>();
+
+	private static final class RpcStats {
+		final String node;
+		final String method;
+		final LongAdder requests = new LongAdder();
+		final LongAdder responses = new LongAdder();
+		final LongAdder failures = new LongAdder();
+		final LongAdder retries = new LongAdder();
+		final LongAdder inFlight = new LongAdder();
+		final LongAdder bytesSent = new LongAdder();
+		final LongAdder bytesReceived = new LongAdder();
+		final HederaLatencyHistogram latency = new HederaLatencyHistogram();
+		final ConcurrentMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+		RpcStats(String node, String method) {
+			this.node = node;
+			this.method = method;
+		}
+
+		void outcome(String outcome) {
+			this.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+		}
+	}
+
+	/**
+	 * A point in time copy of the figures for one RPC on one node
+	 */
+	public static final class Snapshot {
+		/**
+		 * the node's host and port
+		 */
+		public final String node;
+		/**
+		 * the name of the RPC
+		 */
+		public final String method;
+		public final long requests;
+		public final long responses;
+		public final long failures;
+		public final long retries;
+		public final long inFlight;
+		public final long bytesSent;
+		public final long bytesReceived;
+		public final long latencyP50Millis;
+		public final long latencyP90Millis;
+		public final long latencyP99Millis;
+		/**
+		 * the number of responses per precheck code, failures per gRPC status code, or receipts per transaction status
+		 */
+		public final Map<String, Long> outcomes;
+
+		private Snapshot(RpcStats stats) {
+			this.node = stats.node;
+			this.method = stats.method;
+			this.requests = stats.requests.sum();
+			this.responses = stats.responses.sum();
+			this.failures = stats.failures.sum();
+			this.retries = stats.retries.sum();
+			this.inFlight = stats.inFlight.sum();
+			this.bytesSent = stats.bytesSent.sum();
+			this.bytesReceived = stats.bytesReceived.sum();
+			this.latencyP50Millis = stats.latency.percentile(50);
+			this.latencyP90Millis = stats.latency.percentile(90);
+			this.latencyP99Millis = stats.latency.percentile(99);
+			Map<String, Long> outcomes = new HashMap<>();
+			for (Map.Entry<String, LongAdder> outcome : stats.outcomes.entrySet()) {
+				outcomes.put(outcome.getKey(), outcome.getValue().sum());
+			}
+			this.outcomes = Collections.unmodifiableMap(outcomes);
+		}
+
+		@Override
+		public String toString() {
+			return this.node + " " + this.method + " requests=" + this.requests + " responses=" + this.responses
+					+ " failures=" + this.failures + " retries=" + this.retries + " inFlight=" + this.inFlight
+					+ " bytesSent=" + this.bytesSent + " bytesReceived=" + this.bytesReceived
+					+ " p50=" + this.latencyP50Millis + "ms p90=" + this.latencyP90Millis + "ms p99=" + this.latencyP99Millis + "ms"
+					+ " outcomes=" + this.outcomes;
+		}
+	}
+
+	@Override
+	public void onRequest(HederaNode node, String method, int requestBytes) {
+		RpcStats rpc = stats(node, method);
+		rpc.requests.increment();
+		rpc.inFlight.increment();
+		rpc.bytesSent.add(requestBytes);
+	}
+
+	@Override
+	public void onResponse(HederaNode node, String method, long latencyMillis, HederaPrecheckResult precheck, int responseBytes) {
+		RpcStats rpc = stats(node, method);
+		rpc.responses.increment();
+		rpc.inFlight.decrement();
+		rpc.bytesReceived.add(responseBytes);
+		rpc.latency.record(latencyMillis);
+		rpc.outcome(precheck.name());
+	}
+
+	@Override
+	public void onFailure(HederaNode node, String method, long latencyMillis, Throwable error) {
+		RpcStats rpc = stats(node, method);
+		rpc.failures.increment();
+		rpc.inFlight.decrement();
+		rpc.outcome(Status.fromThrowable(error).getCode().name());
+	}
+
+	@Override
+	public void onRetry(HederaNode node, String method, long delayMillis) {
+		stats(node, method).retries.increment();
+	}
+
+	@Override
+	public void onReceipt(HederaNode node, long latencyMillis, HederaTransactionStatus status) {
+		RpcStats rpc = stats(node, RECEIPT);
+		rpc.responses.increment();
+		rpc.latency.record(latencyMillis);
+		rpc.outcome(status.name());
+	}
+
+	/**
+	 * Takes a copy of the current figures
+	 * the copy is not atomic, figures updated while it is taken may be slightly out of step with each other
+	 * @return a {@link Snapshot} per node and RPC
+	 */
+	public List<Snapshot> snapshot() {
+		List<Snapshot> snapshots = new ArrayList<>();
+		for (RpcStats rpc : this.stats.values()) {
+			snapshots.add(new Snapshot(rpc));
+		}
+		return snapshots;
+	}
+
+	/**
+	 * Gets the current figures for one RPC on one node
+	 * @param node the {@link HederaNode}
+	 * @param method the name of the RPC
+	 * @return {@link Snapshot}, null if nothing has been recorded
+	 */
+	public Snapshot snapshot(HederaNode node, String method) {
+		RpcStats rpc = this.stats.get(key(node, method));
+		return (rpc == null) ? null : new Snapshot(rpc);
+	}
+
+	/**
+	 * Discards all the figures
+	 */
+	public void reset() {
+		this.stats.clear();
+	}
+
+	private RpcStats stats(HederaNode node, String method) {
+		String key = key(node, method);
+		RpcStats rpc = this.stats.get(key);
+		if (rpc == null) {
+			rpc = this.stats.computeIfAbsent(key, k -> new RpcStats(node.getHost() + ":" + node.getPort(), method));
+		}
+		return rpc;
+	}
+
+	private static String key(HederaNode node, String method) {
+		return node.getHost() + ":" + node.getPort() + " " + method;
+	}
+}
@@ -0,0 +1,144 @@
+package com.hedera.sdk.node;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.Utilities;
+
+/**
+ * A set of {@link HederaNode} which transactions are spread across
+ * each transaction is sent to the less loaded of two randomly chosen nodes, as measured by {@link HederaNodeLoad#score()}.
+ * Comparing two random nodes rather than all of them avoids every client piling onto the same node
+ * while still steering traffic away from slow or busy ones.
+ */
+public class HederaNetwork {
+	final static Logger logger = LoggerFactory.getLogger(HederaNetwork.class);
+	private final List<HederaNode> nodes = new CopyOnWriteArrayList<HederaNode>();
+
+	/**
+	 * Default constructor, creates an empty network
+	 */
+	public HederaNetwork() {
+	}
+
+	/**
+	 * Creates a network with the given nodes
+	 * @param nodes the {@link HederaNode} to add
+	 */
+	public HederaNetwork(List<HederaNode> nodes) {
+		for (HederaNode node : nodes) {
+			addNode(node);
+		}
+	}
+
+	/**
+	 * Adds a node to the network
+	 * @param node the {@link HederaNode} to add
+	 */
+	public void addNode(HederaNode node) {
+		logger.trace("Start - addNode");
+		Utilities.throwIfNull("node", node);
+		Utilities.throwIfAccountIDInvalid("node", node.getAccountID());
+		this.nodes.add(node);
+		logger.trace("End - addNode");
+	}
+
+	/**
+	 * Removes a node from the network
+	 * @param node the {@link HederaNode} to remove
+	 * @return true if the node was part of the network
+	 */
+	public boolean removeNode(HederaNode node) {
+		return this.nodes.remove(node);
+	}
+
+	/**
+	 * @return an unmodifiable view of the nodes in the network
+	 */
+	public List<HederaNode> getNodes() {
+		return Collections.unmodifiableList(this.nodes);
+	}
+
+	/**
+	 * Chooses the node to send the next transaction to
+	 * @return {@link HederaNode}
+	 * @throws IllegalStateException if the network has no nodes
+	 */
+	public HederaNode pickNode() {
+		logger.trace("Start - pickNode");
+		// take a snapshot so that concurrent changes don't affect the indices
+		Object[] snapshot = this.nodes.toArray();
+		if (snapshot.length == 0) {
+			throw new IllegalStateException("No nodes in network");
+		}
+		HederaNode picked;
+		if (snapshot.length == 1) {
+			picked = (HederaNode) snapshot[0];
+		} else {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			int first = random.nextInt(snapshot.length);
+			// pick a second node distinct from the first
+			int second = random.nextInt(snapshot.length - 1);
+			if (second >= first) {
+				second++;
+			}
+			HederaNode firstNode = (HederaNode) snapshot[first];
+			HederaNode secondNode = (HederaNode) snapshot[second];
+			picked = (secondNode.getLoad().score() < firstNode.getLoad().score()) ? secondNode : firstNode;
+		}
+		logger.trace("End - pickNode");
+		return picked;
+	}
+
+	/**
+	 * Releases the gRPC channels of all the nodes in the network
+	 * @throws InterruptedException if interrupted while waiting for a channel to terminate
+	 */
+	public void shutdown() throws InterruptedException {
+		for (HederaNode node : this.nodes) {
+			node.shutdown();
+		}
+	}
+
+	/**
+	 * Creates a network from properties such as those in node.properties
+	 * the node described by nodeaddress, nodeport, nodeAccountShard, nodeAccountRealm and nodeAccountNum is added first,
+	 * followed by node.1.address, node.1.port, node.1.accountShard, node.1.accountRealm, node.1.accountNum,
+	 * node.2.address and so on until a node number has no address.
+	 * @param properties the {@link Properties} to read
+	 * @return {@link HederaNetwork}
+	 * @throws NumberFormatException if a port or account number is not a number
+	 */
+	public static HederaNetwork fromProperties(Properties properties) {
+		logger.trace("Start - fromProperties");
+		HederaNetwork network = new HederaNetwork();
+		if (properties.getProperty("nodeaddress") != null) {
+			network.addNode(nodeFromProperties(properties, "nodeaddress", "nodeport"
+					, "nodeAccountShard", "nodeAccountRealm", "nodeAccountNum"));
+		}
+		for (int i = 1; properties.getProperty("node." + i + ".address") != null; i++) {
+			String prefix = "node." + i + ".";
+			network.addNode(nodeFromProperties(properties, prefix + "address", prefix + "port"
+					, prefix + "accountShard", prefix + "accountRealm", prefix + "accountNum"));
+		}
+		logger.trace("End - fromProperties");
+		return network;
+	}
+
+	private static HederaNode nodeFromProperties(Properties properties, String address, String port
+			, String shard, String realm, String num) {
+		HederaAccountID accountID = new HederaAccountID(
+				Long.parseLong(properties.getProperty(shard, "0").trim())
+				, Long.parseLong(properties.getProperty(realm, "0").trim())
+				, Long.parseLong(properties.getProperty(num, "0").trim()));
+		return new HederaNode(properties.getProperty(address).trim()
+				, Integer.parseInt(properties.getProperty(port, "0").trim()), accountID);
+	}
+}
@@ -1,24 +1,36 @@
 package com.hedera.sdk.node;
 
 import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.Utilities;
 import com.hedera.sdk.query.HederaQuery;
 import com.hedera.sdk.transaction.HederaTransaction;
 import com.hedera.sdk.transaction.HederaTransactionResult;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.NodeTransactionPrecheckCode;
+import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Response;
+import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionResponse;
 import com.hederahashgraph.service.proto.java.CryptoServiceGrpc;
 import com.hederahashgraph.service.proto.java.FileServiceGrpc;
 import com.hederahashgraph.service.proto.java.SmartContractServiceGrpc;
 
+import com.google.protobuf.MessageLite;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 
 public class HederaNode implements Serializable {
 	/**
@@ -29,12 +41,17 @@ public class HederaNode implements Serializable {
 	private String host = "";
     private int port = 0;
     private HederaAccountID accountID = null;
-	// GRPC
-	private ManagedChannel grpcChannel = null; 
+	// GRPC, shared with other nodes using the same host and port
+	private transient HederaChannelManager.SharedChannel channel = null;
+	private final HederaNodeLoad load = new HederaNodeLoad();
     // BUSY network handling
-	private int busyRetryCount = 2;
 	private int waitMillisLong = 510;
 	private int waitMillisShort = 11;
+	private HederaRetryPolicy retryPolicy = new HederaBackoffRetryPolicy();
+	private HederaRetryBudget retryBudget = new HederaRetryBudget();
+	private long retryDeadlineMillis = 10000;
+	private transient HederaConcurrencyLimiter concurrencyLimiter = null;
+	private transient HederaNodeMetrics metrics = null;
 	
 	/**
 	 * The default fee associated with running an account create transaction
@@ -229,7 +246,6 @@ public class HederaNode implements Serializable {
      */
     public void setPort(int port) throws InterruptedException {
 		logger.trace("Start - setPort: port {}", port);
-		this.port = port;
 		if (port != this.port) {
 			// close the current connection if open
 			shutdown();
@@ -273,6 +289,100 @@ public class HederaNode implements Serializable {
 		return this.accountID;
     }
 
+	/**
+	 * Gets the live load of this node, updated as requests are sent and responses received
+	 * @return {@link HederaNodeLoad}
+	 */
+	public HederaNodeLoad getLoad() {
+		return this.load;
+	}
+
+	/**
+	 * Sets the policy deciding whether and when requests the node responded BUSY to are retried
+	 * @param retryPolicy {@link HederaRetryPolicy}
+	 */
+	public void setRetryPolicy(HederaRetryPolicy retryPolicy) {
+		Utilities.throwIfNull("retryPolicy", retryPolicy);
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * Gets the policy deciding whether and when requests the node responded BUSY to are retried
+	 * @return {@link HederaRetryPolicy}
+	 */
+	public HederaRetryPolicy getRetryPolicy() {
+		return this.retryPolicy;
+	}
+
+	/**
+	 * Sets the token bucket limiting the number of BUSY retries sent to this node
+	 * @param retryBudget {@link HederaRetryBudget}
+	 */
+	public void setRetryBudget(HederaRetryBudget retryBudget) {
+		Utilities.throwIfNull("retryBudget", retryBudget);
+		this.retryBudget = retryBudget;
+	}
+
+	/**
+	 * Gets the token bucket limiting the number of BUSY retries sent to this node
+	 * @return {@link HederaRetryBudget}
+	 */
+	public HederaRetryBudget getRetryBudget() {
+		return this.retryBudget;
+	}
+
+	/**
+	 * Sets the time after the first attempt beyond which a request is no longer retried
+	 * @param retryDeadlineMillis the deadline in milliseconds, 0 for no deadline
+	 */
+	public void setRetryDeadlineMillis(long retryDeadlineMillis) {
+		if (retryDeadlineMillis < 0) {
+			throw new IllegalStateException("retryDeadlineMillis must not be negative");
+		}
+		this.retryDeadlineMillis = retryDeadlineMillis;
+	}
+
+	/**
+	 * Gets the time after the first attempt beyond which a request is no longer retried
+	 * @return the deadline in milliseconds, 0 for no deadline
+	 */
+	public long getRetryDeadlineMillis() {
+		return this.retryDeadlineMillis;
+	}
+
+	/**
+	 * Sets the limiter adapting the number of requests in flight to this node, null for no limit
+	 * @param concurrencyLimiter {@link HederaConcurrencyLimiter}
+	 */
+	public void setConcurrencyLimiter(HederaConcurrencyLimiter concurrencyLimiter) {
+		this.concurrencyLimiter = concurrencyLimiter;
+	}
+
+	/**
+	 * Gets the limiter adapting the number of requests in flight to this node
+	 * @return {@link HederaConcurrencyLimiter}, null if there is no limit
+	 */
+	public HederaConcurrencyLimiter getConcurrencyLimiter() {
+		return this.concurrencyLimiter;
+	}
+
+	/**
+	 * Sets the listener notified of every request to this node and its outcome, null for none
+	 * @param metrics {@link HederaNodeMetrics}
+	 */
+	public void setMetrics(HederaNodeMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Gets the listener notified of every request to this node and its outcome
+	 * @return {@link HederaNodeMetrics}, {@link HederaNodeMetrics#NONE} if none is set
+	 */
+	public HederaNodeMetrics getMetrics() {
+		HederaNodeMetrics listener = this.metrics;
+		return (listener == null) ? HederaNodeMetrics.NONE : listener;
+	}
+
 	/**
 	 * Sends a transaction to a node to create an account and returns the result of the request
 	 * @param transaction the {@link HederaTransaction} to send
@@ -281,26 +391,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult accountCreate(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - accountCreate protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - accountCreate protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasCryptoCreateAccount()) {
-			openChannel();
-			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.createAccount(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasCryptoCreateAccount()) {
+			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("createAccount", protobuf, blockingStub::createAccount
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -322,26 +425,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult addClaim(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - addClaim protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - addClaim protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasCryptoAddClaim()) {
-			openChannel();
-			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.addClaim(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasCryptoAddClaim()) {
+			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("addClaim", protobuf, blockingStub::addClaim
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -362,33 +458,21 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult accountTransfer(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - accountTransfer protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - accountTransfer protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasCryptoTransfer()) {
-			openChannel();
-			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.cryptoTransfer(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					if (transaction.getProtobuf().getBody().getGenerateRecord() == true) {
-						// wait longer
-						logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-						Thread.sleep(waitMillisLong);
-					} else {
-						// wait short time
-						logger.info("System busy - sleeping for " + waitMillisShort + "ms");
-						Thread.sleep(waitMillisShort);
-					}
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasCryptoTransfer()) {
+			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(openChannel().next());
+			// transfers which don't generate a record are retried sooner
+			long waitMillis = protobuf.getBody().getGenerateRecord() ? waitMillisLong : waitMillisShort;
+			response = callBlocking("cryptoTransfer", protobuf, blockingStub::cryptoTransfer
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillis);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -409,26 +493,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult accountUpdate(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - accountUpdate protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - accountUpdate protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasCryptoUpdateAccount()) {
-			openChannel();
-			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.updateAccount(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasCryptoUpdateAccount()) {
+			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("updateAccount", protobuf, blockingStub::updateAccount
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -449,26 +526,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult fileAppend(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - fileAppend protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - fileAppend protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasFileAppend()) {
-			openChannel();
-			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.appendContent(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasFileAppend()) {
+			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("appendContent", protobuf, blockingStub::appendContent
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -489,26 +559,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult fileCreate(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - fileCreate protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - fileCreate protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasFileCreate()) {
-			openChannel();
-			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.createFile(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasFileCreate()) {
+			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("createFile", protobuf, blockingStub::createFile
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -530,26 +593,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult fileDelete(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - fileDelete protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - fileDelete protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasFileDelete()) {
-			openChannel();
-			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.deleteFile(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasFileDelete()) {
+			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("deleteFile", protobuf, blockingStub::deleteFile
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -571,26 +627,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult fileUpdate(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - fileUpdate protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - fileUpdate protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasFileUpdate()) {
-			openChannel();
-			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.updateFile(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasFileUpdate()) {
+			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("updateFile", protobuf, blockingStub::updateFile
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -612,26 +661,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult contractCall(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - contractCall protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - contractCall protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasContractCall()) {
-			openChannel();
-			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.contractCallMethod(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasContractCall()) {
+			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("contractCallMethod", protobuf, blockingStub::contractCallMethod
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -653,26 +695,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult contractCreate(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - contractCreate protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - contractCreate protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasContractCreateInstance()) {
-			openChannel();
-			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.createContract(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasContractCreateInstance()) {
+			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("createContract", protobuf, blockingStub::createContract
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -694,26 +729,19 @@ public class HederaNode implements Serializable {
 	 * @throws StatusRuntimeException in the event of a node communication failure
 	 */
 	public HederaTransactionResult contractUpdate(HederaTransaction transaction) throws InterruptedException, StatusRuntimeException {
-		logger.trace("Start - contractUpdate protobuf {}", transaction.getProtobuf().toString());
+		Transaction protobuf = transaction.getProtobuf();
+		logger.trace("Start - contractUpdate protobuf {}", protobuf);
 		logger.info("SENDING TRANSACTION");
-		logger.info(transaction.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		TransactionResponse response = null;
 		HederaTransactionResult transResult = new HederaTransactionResult();
 		
-		if (transaction.getProtobuf().getBody().hasContractUpdateInstance()) {
-			openChannel();
-			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.updateContract(transaction.getProtobuf());
-				// retry if busy
-				if (response.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.getBody().hasContractUpdateInstance()) {
+			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("updateContract", protobuf, blockingStub::updateContract
+					, reply -> reply.getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid transaction type.");
 		}
@@ -736,30 +764,23 @@ public class HederaNode implements Serializable {
 	 */
 	public Response contractCallLocal(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - contractCallLocal query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
 
-		if (query.getProtobuf().hasContractCallLocal()) {
-			openChannel();
-			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.contractCallLocalMethod(query.getProtobuf());
-				// retry if busy
-				if (response.getContractCallLocal().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasContractCallLocal()) {
+			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("contractCallLocalMethod", protobuf, blockingStub::contractCallLocalMethod
+					, reply -> reply.getContractCallLocal().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - contractCallLocal");
 		return response;
 	}
@@ -773,30 +794,23 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getContractByteCode(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - getContractByteCode query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
 
-		if (query.getProtobuf().hasContractGetBytecode()) {
-			openChannel();
-			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.contractGetBytecode(query.getProtobuf());
-				// retry if busy
-				if (response.getContractGetBytecodeResponse().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasContractGetBytecode()) {
+			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("contractGetBytecode", protobuf, blockingStub::contractGetBytecode
+					, reply -> reply.getContractGetBytecodeResponse().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - getContractByteCode");
 		return response;
 	}
@@ -810,29 +824,22 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getContractBySolidityId(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - getContractBySolidityId query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
-		if (query.getProtobuf().hasGetBySolidityID()) {
-			openChannel();
-			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.getBySolidityID(query.getProtobuf());
-				// retry if busy
-				if (response.getGetBySolidityID().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasGetBySolidityID()) {
+			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("getBySolidityID", protobuf, blockingStub::getBySolidityID
+					, reply -> reply.getGetBySolidityID().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - getContractBySolidityId");
 		return response;
 	}
@@ -846,30 +853,23 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getContractInfo(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - getContractInfo query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
 
-		if (query.getProtobuf().hasContractGetInfo()) {
-			openChannel();
-			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.getContractInfo(query.getProtobuf());
-				// retry if busy
-				if (response.getContractGetInfo().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasContractGetInfo()) {
+			SmartContractServiceGrpc.SmartContractServiceBlockingStub blockingStub = SmartContractServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("getContractInfo", protobuf, blockingStub::getContractInfo
+					, reply -> reply.getContractGetInfo().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - getContractInfo");
 		return response;
 	}
@@ -883,30 +883,23 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getAccountBalance(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - getAccountBalance query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
 
-		if (query.getProtobuf().hasCryptogetAccountBalance()) {
-			openChannel();
-			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.cryptoGetBalance(query.getProtobuf());
-				// retry if busy
-				if (response.getCryptogetAccountBalance().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasCryptogetAccountBalance()) {
+			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("cryptoGetBalance", protobuf, blockingStub::cryptoGetBalance
+					, reply -> reply.getCryptogetAccountBalance().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - getAccountBalance");
 		return response;
 	}
@@ -920,30 +913,23 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getAccountRecords(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - getAccountRecords query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
 
-		if (query.getProtobuf().hasCryptoGetAccountRecords()) {
-			openChannel();
-			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.getAccountRecords(query.getProtobuf());
-				// retry if busy
-				if (response.getCryptoGetAccountRecords().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasCryptoGetAccountRecords()) {
+			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("getAccountRecords", protobuf, blockingStub::getAccountRecords
+					, reply -> reply.getCryptoGetAccountRecords().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - getAccountRecords");
 		return response;
 	}
@@ -957,30 +943,23 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getAccountInfo(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - getAccountInfo query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
 
-		if (query.getProtobuf().hasCryptoGetInfo()) {
-			openChannel();
-			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.getAccountInfo(query.getProtobuf());
-				// retry if busy
-				if (response.getCryptoGetInfo().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasCryptoGetInfo()) {
+			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("getAccountInfo", protobuf, blockingStub::getAccountInfo
+					, reply -> reply.getCryptoGetInfo().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - getAccountInfo");
 		return response;
 	}
@@ -994,21 +973,14 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getTransactionReceipt(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - getTransactionReceipt query {}", query);
+		Query protobuf = query.getProtobuf();
 
 		Response response = null;
-		if (query.getProtobuf().hasTransactionGetReceipt()) {
-			openChannel();
-			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.getTransactionReceipts(query.getProtobuf());
-				// retry if busy
-				if (response.getTransactionGetReceipt().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasTransactionGetReceipt()) {
+			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("getTransactionReceipts", protobuf, blockingStub::getTransactionReceipts
+					, reply -> reply.getTransactionGetReceipt().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
@@ -1026,29 +998,22 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getTransactionRecord(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - getTransactionRecord query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
-		if (query.getProtobuf().hasTransactionGetRecord()) {
-			openChannel();
-			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.getTxRecordByTxID(query.getProtobuf());
-				// retry if busy
-				if (response.getTransactionGetRecord().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasTransactionGetRecord()) {
+			CryptoServiceGrpc.CryptoServiceBlockingStub blockingStub = CryptoServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("getTxRecordByTxID", protobuf, blockingStub::getTxRecordByTxID
+					, reply -> reply.getTransactionGetRecord().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - getTransactionRecord");
 		return response;
 	}
@@ -1062,29 +1027,22 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getFileContents(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - getFileContents query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
-		if (query.getProtobuf().hasFileGetContents()) {
-			openChannel();
-			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.getFileContent(query.getProtobuf());
-				// retry if busy
-				if (response.getFileGetContents().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasFileGetContents()) {
+			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("getFileContent", protobuf, blockingStub::getFileContent
+					, reply -> reply.getFileGetContents().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - getFileContents");
 		return response;
 	}
@@ -1098,53 +1056,754 @@ public class HederaNode implements Serializable {
 	 */
 	public Response getFileInfo(HederaQuery query) throws InterruptedException, StatusRuntimeException {
 		logger.trace("Start - fileGetInfo query {}", query);
+		Query protobuf = query.getProtobuf();
 		logger.info("RUNNING QUERY TO NODE");
-		logger.info(query.getProtobuf().toString());
+		logger.info("{}", protobuf);
 
 		Response response = null;
-		if (query.getProtobuf().hasFileGetInfo()) {
-			openChannel();
-			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(this.grpcChannel);
-			for (int i=0; i < busyRetryCount; i++) {
-				response = blockingStub.getFileInfo(query.getProtobuf());
-				// retry if busy
-				if (response.getFileGetInfo().getHeader().getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.BUSY) {
-					logger.info("System busy - sleeping for " + waitMillisLong + "ms");
-					Thread.sleep(waitMillisLong);
-				} else {
-					break;
-				}
-			}
+		if (protobuf.hasFileGetInfo()) {
+			FileServiceGrpc.FileServiceBlockingStub blockingStub = FileServiceGrpc.newBlockingStub(openChannel().next());
+			response = callBlocking("getFileInfo", protobuf, blockingStub::getFileInfo
+					, reply -> reply.getFileGetInfo().getHeader().getNodeTransactionPrecheckCode()
+					, waitMillisLong);
 		} else {
 			throw new IllegalStateException("Invalid Query Type");
 		}
 
 		logger.info("--->QUERY RESPONSE");
-		logger.info(response.toString());
+		logger.info("{}", response);
 		logger.trace("End - getFileInfo");
 		return response;
 	}
 	
-	private void shutdown() throws InterruptedException {
+	/**
+	 * Asynchronously sends a transaction to a node to create an account
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> accountCreateAsync(HederaTransaction transaction) {
+		logger.trace("Start - accountCreateAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasCryptoCreateAccount()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		CryptoServiceGrpc.CryptoServiceStub stub = CryptoServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - accountCreateAsync");
+		return transactionAsync("createAccount", protobuf, stub::createAccount, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to add a claim to an account
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> addClaimAsync(HederaTransaction transaction) {
+		logger.trace("Start - addClaimAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasCryptoAddClaim()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		CryptoServiceGrpc.CryptoServiceStub stub = CryptoServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - addClaimAsync");
+		return transactionAsync("addClaim", protobuf, stub::addClaim, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to transfer tokens from an account to another
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> accountTransferAsync(HederaTransaction transaction) {
+		logger.trace("Start - accountTransferAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasCryptoTransfer()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		CryptoServiceGrpc.CryptoServiceStub stub = CryptoServiceGrpc.newStub(openChannel().next());
+		// transfers which don't generate a record are retried sooner
+		long waitMillis = protobuf.getBody().getGenerateRecord() ? waitMillisLong : waitMillisShort;
+		logger.trace("End - accountTransferAsync");
+		return transactionAsync("cryptoTransfer", protobuf, stub::cryptoTransfer, waitMillis);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to update an account
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> accountUpdateAsync(HederaTransaction transaction) {
+		logger.trace("Start - accountUpdateAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasCryptoUpdateAccount()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		CryptoServiceGrpc.CryptoServiceStub stub = CryptoServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - accountUpdateAsync");
+		return transactionAsync("updateAccount", protobuf, stub::updateAccount, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to append to a file
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> fileAppendAsync(HederaTransaction transaction) {
+		logger.trace("Start - fileAppendAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasFileAppend()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		FileServiceGrpc.FileServiceStub stub = FileServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - fileAppendAsync");
+		return transactionAsync("appendContent", protobuf, stub::appendContent, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to create a file
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> fileCreateAsync(HederaTransaction transaction) {
+		logger.trace("Start - fileCreateAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasFileCreate()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		FileServiceGrpc.FileServiceStub stub = FileServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - fileCreateAsync");
+		return transactionAsync("createFile", protobuf, stub::createFile, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to delete a file
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> fileDeleteAsync(HederaTransaction transaction) {
+		logger.trace("Start - fileDeleteAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasFileDelete()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		FileServiceGrpc.FileServiceStub stub = FileServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - fileDeleteAsync");
+		return transactionAsync("deleteFile", protobuf, stub::deleteFile, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to update a file
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> fileUpdateAsync(HederaTransaction transaction) {
+		logger.trace("Start - fileUpdateAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasFileUpdate()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		FileServiceGrpc.FileServiceStub stub = FileServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - fileUpdateAsync");
+		return transactionAsync("updateFile", protobuf, stub::updateFile, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to call a smart contract function
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> contractCallAsync(HederaTransaction transaction) {
+		logger.trace("Start - contractCallAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasContractCall()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		SmartContractServiceGrpc.SmartContractServiceStub stub = SmartContractServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - contractCallAsync");
+		return transactionAsync("contractCallMethod", protobuf, stub::contractCallMethod, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to create a smart contract instance
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> contractCreateAsync(HederaTransaction transaction) {
+		logger.trace("Start - contractCreateAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasContractCreateInstance()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		SmartContractServiceGrpc.SmartContractServiceStub stub = SmartContractServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - contractCreateAsync");
+		return transactionAsync("createContract", protobuf, stub::createContract, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node to update a smart contract instance
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 */
+	public CompletableFuture<HederaTransactionResult> contractUpdateAsync(HederaTransaction transaction) {
+		logger.trace("Start - contractUpdateAsync");
+		Transaction protobuf = transaction.getProtobuf();
+		if (!protobuf.getBody().hasContractUpdateInstance()) {
+			throw new IllegalStateException("Invalid transaction type.");
+		}
+		SmartContractServiceGrpc.SmartContractServiceStub stub = SmartContractServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - contractUpdateAsync");
+		return transactionAsync("updateContract", protobuf, stub::updateContract, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a transaction to a node, using the RPC for the transaction's type
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param transaction the {@link HederaTransaction} to send
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult} of the transaction
+	 * @throws IllegalStateException if the transaction's type can't be sent asynchronously
+	 */
+	public CompletableFuture<HederaTransactionResult> submit(HederaTransaction transaction) {
+		// the type is read from the body rather than the protobuf, which the RPC method builds
+		switch (transaction.body.transactionType) {
+			case CONTRACTCALL:
+				return contractCallAsync(transaction);
+			case CONTRACTCREATEINSTANCE:
+				return contractCreateAsync(transaction);
+			case CONTRACTUPDATEINSTANCE:
+				return contractUpdateAsync(transaction);
+			case CRYPTOADDCLAIM:
+				return addClaimAsync(transaction);
+			case CRYPTOCREATEACCOUNT:
+				return accountCreateAsync(transaction);
+			case CRYPTOTRANSFER:
+				return accountTransferAsync(transaction);
+			case CRYPTOUPDATEACCOUNT:
+				return accountUpdateAsync(transaction);
+			case FILEAPPEND:
+				return fileAppendAsync(transaction);
+			case FILECREATE:
+				return fileCreateAsync(transaction);
+			case FILEDELETE:
+				return fileDeleteAsync(transaction);
+			case FILEUPDATE:
+				return fileUpdateAsync(transaction);
+			default:
+				throw new IllegalStateException("Invalid transaction type.");
+		}
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to call a local smart contract function
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> contractCallLocalAsync(HederaQuery query) {
+		logger.trace("Start - contractCallLocalAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasContractCallLocal()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		SmartContractServiceGrpc.SmartContractServiceStub stub = SmartContractServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - contractCallLocalAsync");
+		return callAsync("contractCallLocalMethod", protobuf, stub::contractCallLocalMethod
+				, response -> response.getContractCallLocal().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get a smart contract's byte code
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getContractByteCodeAsync(HederaQuery query) {
+		logger.trace("Start - getContractByteCodeAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasContractGetBytecode()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		SmartContractServiceGrpc.SmartContractServiceStub stub = SmartContractServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getContractByteCodeAsync");
+		return callAsync("contractGetBytecode", protobuf, stub::contractGetBytecode
+				, response -> response.getContractGetBytecodeResponse().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get a smart contract by its solidity ID
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getContractBySolidityIdAsync(HederaQuery query) {
+		logger.trace("Start - getContractBySolidityIdAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasGetBySolidityID()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		SmartContractServiceGrpc.SmartContractServiceStub stub = SmartContractServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getContractBySolidityIdAsync");
+		return callAsync("getBySolidityID", protobuf, stub::getBySolidityID
+				, response -> response.getGetBySolidityID().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get smart contract information
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getContractInfoAsync(HederaQuery query) {
+		logger.trace("Start - getContractInfoAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasContractGetInfo()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		SmartContractServiceGrpc.SmartContractServiceStub stub = SmartContractServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getContractInfoAsync");
+		return callAsync("getContractInfo", protobuf, stub::getContractInfo
+				, response -> response.getContractGetInfo().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get an account balance
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getAccountBalanceAsync(HederaQuery query) {
+		logger.trace("Start - getAccountBalanceAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasCryptogetAccountBalance()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		CryptoServiceGrpc.CryptoServiceStub stub = CryptoServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getAccountBalanceAsync");
+		return callAsync("cryptoGetBalance", protobuf, stub::cryptoGetBalance
+				, response -> response.getCryptogetAccountBalance().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get the records for an account
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getAccountRecordsAsync(HederaQuery query) {
+		logger.trace("Start - getAccountRecordsAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasCryptoGetAccountRecords()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		CryptoServiceGrpc.CryptoServiceStub stub = CryptoServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getAccountRecordsAsync");
+		return callAsync("getAccountRecords", protobuf, stub::getAccountRecords
+				, response -> response.getCryptoGetAccountRecords().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get account information
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getAccountInfoAsync(HederaQuery query) {
+		logger.trace("Start - getAccountInfoAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasCryptoGetInfo()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		CryptoServiceGrpc.CryptoServiceStub stub = CryptoServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getAccountInfoAsync");
+		return callAsync("getAccountInfo", protobuf, stub::getAccountInfo
+				, response -> response.getCryptoGetInfo().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get a transaction receipt
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getTransactionReceiptAsync(HederaQuery query) {
+		logger.trace("Start - getTransactionReceiptAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasTransactionGetReceipt()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		CryptoServiceGrpc.CryptoServiceStub stub = CryptoServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getTransactionReceiptAsync");
+		return callAsync("getTransactionReceipts", protobuf, stub::getTransactionReceipts
+				, response -> response.getTransactionGetReceipt().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get a transaction record
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getTransactionRecordAsync(HederaQuery query) {
+		logger.trace("Start - getTransactionRecordAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasTransactionGetRecord()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		CryptoServiceGrpc.CryptoServiceStub stub = CryptoServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getTransactionRecordAsync");
+		return callAsync("getTxRecordByTxID", protobuf, stub::getTxRecordByTxID
+				, response -> response.getTransactionGetRecord().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get file contents
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getFileContentsAsync(HederaQuery query) {
+		logger.trace("Start - getFileContentsAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasFileGetContents()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		FileServiceGrpc.FileServiceStub stub = FileServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getFileContentsAsync");
+		return callAsync("getFileContent", protobuf, stub::getFileContent
+				, response -> response.getFileGetContents().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Asynchronously sends a query to a node to get file info
+	 * BUSY responses are retried on a timer, the calling thread is not blocked
+	 * @param query the {@link HederaQuery} to send
+	 * @return {@link CompletableFuture} completed with the {@link Response} to the query
+	 */
+	public CompletableFuture<Response> getFileInfoAsync(HederaQuery query) {
+		logger.trace("Start - getFileInfoAsync");
+		Query protobuf = query.getProtobuf();
+		if (!protobuf.hasFileGetInfo()) {
+			throw new IllegalStateException("Invalid Query Type");
+		}
+		FileServiceGrpc.FileServiceStub stub = FileServiceGrpc.newStub(openChannel().next());
+		logger.trace("End - getFileInfoAsync");
+		return callAsync("getFileInfo", protobuf, stub::getFileInfo
+				, response -> response.getFileGetInfo().getHeader().getNodeTransactionPrecheckCode()
+				, waitMillisLong);
+	}
+
+	/**
+	 * Issues an asynchronous transaction call and converts the node's response into a {@link HederaTransactionResult}
+	 * @param method the name of the RPC, reported to the {@link HederaNodeMetrics}
+	 * @param request the transaction to send
+	 * @param call issues the request against the supplied {@link StreamObserver}
+	 * @param waitMillis the time to wait before retrying a BUSY response
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionResult}
+	 */
+	private CompletableFuture<HederaTransactionResult> transactionAsync(String method, Transaction request
+			, BiConsumer<Transaction, StreamObserver<TransactionResponse>> call, long waitMillis) {
+		return callAsync(method, request, call
+				, response -> response.getNodeTransactionPrecheckCode()
+				, waitMillis)
+			.thenApply(response -> {
+				HederaTransactionResult transResult = new HederaTransactionResult();
+				transResult.setPrecheckResult(response.getNodeTransactionPrecheckCode());
+				return transResult;
+			});
+	}
+
+	/**
+	 * Issues an asynchronous call, retrying according to the node's {@link HederaRetryPolicy} while the node responds BUSY
+	 * @param method the name of the RPC, reported to the {@link HederaNodeMetrics}
+	 * @param request the request to send
+	 * @param call issues the request against the supplied {@link StreamObserver}
+	 * @param precheck extracts the node's precheck code from a response
+	 * @param waitMillis the base time to wait before retrying a BUSY response
+	 * @return {@link CompletableFuture} completed with the last response from the node, or exceptionally if the call failed or completed without one
+	 */
+	private <R extends MessageLite, T extends MessageLite> CompletableFuture<T> callAsync(String method, R request
+			, BiConsumer<R, StreamObserver<T>> call, Function<T, NodeTransactionPrecheckCode> precheck, long waitMillis) {
+		AsyncCall<R, T> asyncCall = new AsyncCall<>(method, request, call, precheck, waitMillis, retryDeadline());
+		callAsync(asyncCall, 1, 0);
+		return asyncCall.future;
+	}
+
+	/**
+	 * The parts of an asynchronous call which stay the same across BUSY retries
+	 */
+	private static final class AsyncCall<R, T> {
+		final String method;
+		final R request;
+		final BiConsumer<R, StreamObserver<T>> call;
+		final Function<T, NodeTransactionPrecheckCode> precheck;
+		final long waitMillis;
+		final long deadline;
+		final CompletableFuture<T> future = new CompletableFuture<>();
+
+		AsyncCall(String method, R request, BiConsumer<R, StreamObserver<T>> call, Function<T, NodeTransactionPrecheckCode> precheck
+				, long waitMillis, long deadline) {
+			this.method = method;
+			this.request = request;
+			this.call = call;
+			this.precheck = precheck;
+			this.waitMillis = waitMillis;
+			this.deadline = deadline;
+		}
+	}
+
+	private <R extends MessageLite, T extends MessageLite> void callAsync(AsyncCall<R, T> asyncCall, int attempt, long previousDelay) {
+		HederaConcurrencyLimiter limiter = this.concurrencyLimiter;
+		if (limiter == null) {
+			sendAsync(asyncCall, attempt, previousDelay, null);
+		} else {
+			// wait for a slot without holding a thread
+			limiter.acquireAsync().whenComplete((slot, error) -> {
+				if (error != null) {
+					asyncCall.future.completeExceptionally(error);
+				} else {
+					sendAsync(asyncCall, attempt, previousDelay, limiter);
+				}
+			});
+		}
+	}
+
+	private <R extends MessageLite, T extends MessageLite> void sendAsync(AsyncCall<R, T> asyncCall, int attempt, long previousDelay
+			, HederaConcurrencyLimiter limiter) {
+		HederaNodeMetrics metrics = getMetrics();
+		long start = System.nanoTime();
+		this.load.start();
+		metrics.onRequest(this, asyncCall.method, asyncCall.request.getSerializedSize());
+		try {
+			asyncCall.call.accept(asyncCall.request, new StreamObserver<T>() {
+				private T response = null;
+
+				@Override
+				public void onNext(T value) {
+					this.response = value;
+				}
+
+				@Override
+				public void onError(Throwable t) {
+					long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+					load.fail();
+					if (limiter != null) {
+						limiter.onFailure();
+					}
+					metrics.onFailure(HederaNode.this, asyncCall.method, latency, t);
+					asyncCall.future.completeExceptionally(t);
+				}
+
+				@Override
+				public void onCompleted() {
+					if (this.response == null) {
+						// a call completed without a response is a failure, not a response
+						onError(Status.INTERNAL.withDescription("Call completed without a response").asRuntimeException());
+						return;
+					}
+					long latencyNanos = System.nanoTime() - start;
+					long latency = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+					NodeTransactionPrecheckCode precheckCode = asyncCall.precheck.apply(this.response);
+					boolean busy = (precheckCode == NodeTransactionPrecheckCode.BUSY);
+					load.endNanos(latencyNanos, busy);
+					releaseSlot(limiter, busy);
+					metrics.onResponse(HederaNode.this, asyncCall.method, latency, Utilities.setPrecheckResult(precheckCode)
+							, this.response.getSerializedSize());
+					try {
+						long delay = busy ? nextRetryDelay(attempt, asyncCall.waitMillis, previousDelay, asyncCall.deadline) : noRetry();
+						if (delay >= 0) {
+							// retry if busy, without holding a thread while waiting
+							logger.info("System busy - retrying in {}ms", delay);
+							metrics.onRetry(HederaNode.this, asyncCall.method, delay);
+							BusyRetryScheduler.INSTANCE.schedule(() -> callAsync(asyncCall, attempt + 1, delay)
+									, delay, TimeUnit.MILLISECONDS);
+						} else {
+							asyncCall.future.complete(this.response);
+						}
+					} catch (RuntimeException e) {
+						asyncCall.future.completeExceptionally(e);
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			this.load.fail();
+			if (limiter != null) {
+				limiter.onFailure();
+			}
+			metrics.onFailure(this, asyncCall.method, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), e);
+			asyncCall.future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Issues a blocking call, retrying according to the node's {@link HederaRetryPolicy} while the node responds BUSY
+	 * the latency and outcome of each attempt are recorded in this node's {@link HederaNodeLoad} and {@link HederaNodeMetrics}
+	 * @param method the name of the RPC, reported to the {@link HederaNodeMetrics}
+	 * @param request the request to send
+	 * @param call issues the request
+	 * @param precheck extracts the node's precheck code from a response
+	 * @param waitMillis the base time to wait before retrying a BUSY response
+	 * @return the last response from the node
+	 * @throws InterruptedException if interrupted while waiting to retry
+	 * @throws StatusRuntimeException in the event of a node communication failure
+	 */
+	private <R extends MessageLite, T extends MessageLite> T callBlocking(String method, R request, Function<R, T> call
+			, Function<T, NodeTransactionPrecheckCode> precheck, long waitMillis) throws InterruptedException, StatusRuntimeException {
+		HederaNodeMetrics metrics = getMetrics();
+		int requestBytes = request.getSerializedSize();
+		T response = null;
+		long deadline = retryDeadline();
+		long delay = 0;
+		for (int attempt = 1; ; attempt++) {
+			HederaConcurrencyLimiter limiter = this.concurrencyLimiter;
+			if (limiter != null) {
+				limiter.acquire();
+			}
+			long start = System.nanoTime();
+			this.load.start();
+			metrics.onRequest(this, method, requestBytes);
+			NodeTransactionPrecheckCode precheckCode;
+			try {
+				response = call.apply(request);
+				precheckCode = precheck.apply(response);
+			} catch (RuntimeException e) {
+				this.load.fail();
+				if (limiter != null) {
+					limiter.onFailure();
+				}
+				metrics.onFailure(this, method, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), e);
+				throw e;
+			}
+			long latencyNanos = System.nanoTime() - start;
+			long latency = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+			boolean busy = (precheckCode == NodeTransactionPrecheckCode.BUSY);
+			this.load.endNanos(latencyNanos, busy);
+			releaseSlot(limiter, busy);
+			metrics.onResponse(this, method, latency, Utilities.setPrecheckResult(precheckCode), response.getSerializedSize());
+			delay = busy ? nextRetryDelay(attempt, waitMillis, delay, deadline) : noRetry();
+			if (delay < 0) {
+				return response;
+			}
+			// retry if busy
+			logger.info("System busy - sleeping for {}ms", delay);
+			metrics.onRetry(this, method, delay);
+			Thread.sleep(delay);
+		}
+	}
+
+	/**
+	 * Releases a concurrency limiter slot, adjusting the limit according to the response
+	 * @param limiter the {@link HederaConcurrencyLimiter} the slot was taken from, null if there is none
+	 * @param busy true if the node responded BUSY
+	 */
+	private static void releaseSlot(HederaConcurrencyLimiter limiter, boolean busy) {
+		if (limiter == null) {
+			return;
+		}
+		if (busy) {
+			limiter.onBusy();
+		} else {
+			limiter.onSuccess();
+		}
+	}
+
+	/**
+	 * @return the System.nanoTime() after which BUSY requests are no longer retried, or 0 for no deadline
+	 */
+	private long retryDeadline() {
+		return (this.retryDeadlineMillis > 0) ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.retryDeadlineMillis) : 0;
+	}
+
+	/**
+	 * Records a BUSY response and decides whether to retry the request
+	 * @param attempt the number of attempts made so far
+	 * @param waitMillis the base time to wait before retrying
+	 * @param previousDelay the time waited before the previous attempt
+	 * @param deadline the deadline from {@link #retryDeadline()}
+	 * @return the time to wait before retrying, or -1 to give up
+	 */
+	private long nextRetryDelay(int attempt, long waitMillis, long previousDelay, long deadline) {
+		if (!this.retryBudget.recordBusy()) {
+			logger.info("System busy - retry budget exhausted");
+			return -1;
+		}
+		long delay = this.retryPolicy.nextDelayMillis(attempt, waitMillis, previousDelay);
+		if ((delay >= 0) && (deadline != 0) && (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) - deadline > 0)) {
+			logger.info("System busy - retry deadline reached");
+			return -1;
+		}
+		return (delay < 0) ? -1 : delay;
+	}
+
+	/**
+	 * Records a successful response, which replenishes the retry budget
+	 * @return -1, no retry is needed
+	 */
+	private long noRetry() {
+		this.retryBudget.recordSuccess();
+		return -1;
+	}
+
+	/**
+	 * Holds the timer used to schedule BUSY retries of asynchronous calls, created on first use
+	 */
+	private static class BusyRetryScheduler {
+		static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "hedera-busy-retry");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Releases this node's reference to its gRPC channel
+	 * the channel is shut down once no other node is using it
+	 * @throws InterruptedException if interrupted while waiting for the channel to terminate
+	 */
+	public void shutdown() throws InterruptedException {
 		logger.trace("Start - shutdown");
-		if (this.grpcChannel != null) {
-			this.grpcChannel.shutdownNow();
-			do {
-				// wait for channel to terminate
-			} while (!this.grpcChannel.isTerminated());
-			this.grpcChannel = null;
+		HederaChannelManager.SharedChannel sharedChannel;
+		synchronized (this) {
+			sharedChannel = this.channel;
+			this.channel = null;
+		}
+		if (sharedChannel != null) {
+			HederaChannelManager.release(sharedChannel);
 		}
 		logger.trace("End - shutdown");
 	}
 	
-	private void openChannel() {
-		if (this.grpcChannel == null) {
+	/**
+	 * opens the channel if necessary and returns it, read under the lock so a concurrent shutdown can't null it
+	 * between the open and the call
+	 */
+	private synchronized HederaChannelManager.SharedChannel openChannel() {
+		if (this.channel == null) {
 			if (!host.equals("") && (port != 0)) {
-				// open a grpcChannel
-				grpcChannel = ManagedChannelBuilder.forAddress(this.host, this.port).usePlaintext().build();
+				// get a channel from the shared pool
+				this.channel = HederaChannelManager.acquire(this.host, this.port);
 			} else {
 				throw new IllegalStateException("Invalid Node IP or Port");
 			}
 		}
+		return this.channel;
 	}
-}
+}
\ No newline at end of file
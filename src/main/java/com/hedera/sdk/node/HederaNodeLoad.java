@@ -0,0 +1,119 @@
+package com.hedera.sdk.node;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the live load of a {@link HederaNode}: the number of requests in flight,
+ * an exponentially weighted moving average (EWMA) of response latency and of the BUSY response rate.
+ * {@link HederaNetwork} uses {@link #score()} to choose the node to send a transaction to.
+ */
+public class HederaNodeLoad implements Serializable {
+	private static final long serialVersionUID = 1L;
+	/**
+	 * the weight given to the latest sample when updating the moving averages
+	 */
+	public static final double DECAY = 0.2;
+	/**
+	 * the BUSY rate is capped so that a busy node's score stays finite and it may recover
+	 */
+	private static final double MAX_BUSY_RATE = 0.95;
+	/**
+	 * the latency used in the score is at least this, so that requests in flight still count against a node
+	 * whose responses are too quick to time
+	 */
+	private static final double MIN_LATENCY_MILLIS = 0.001;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private double latencyMillis = 0;
+	private double busyRate = 0;
+	private long samples = 0;
+
+	/**
+	 * Records the start of a request to the node
+	 */
+	public void start() {
+		this.inFlight.incrementAndGet();
+	}
+
+	/**
+	 * Records the end of a request to the node
+	 * @param latencyMillis the time taken by the node to respond in milliseconds
+	 * @param busy true if the node responded BUSY
+	 */
+	public void end(long latencyMillis, boolean busy) {
+		endNanos(TimeUnit.MILLISECONDS.toNanos(latencyMillis), busy);
+	}
+
+	/**
+	 * Records the end of a request to the node, timed in nanoseconds so that sub millisecond responses still register
+	 * @param latencyNanos the time taken by the node to respond in nanoseconds
+	 * @param busy true if the node responded BUSY
+	 */
+	public void endNanos(long latencyNanos, boolean busy) {
+		double latency = latencyNanos / 1_000_000.0;
+		this.inFlight.decrementAndGet();
+		synchronized (this) {
+			if (this.samples == 0) {
+				this.latencyMillis = latency;
+				this.busyRate = busy ? 1 : 0;
+			} else {
+				this.latencyMillis += DECAY * (latency - this.latencyMillis);
+				this.busyRate += DECAY * ((busy ? 1 : 0) - this.busyRate);
+			}
+			this.samples++;
+		}
+	}
+
+	/**
+	 * Records the end of a request which failed without a response from the node
+	 */
+	public void fail() {
+		this.inFlight.decrementAndGet();
+	}
+
+	/**
+	 * @return the number of requests currently in flight to the node
+	 */
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * @return the moving average of the node's response latency in milliseconds
+	 */
+	public synchronized double getLatencyMillis() {
+		return this.latencyMillis;
+	}
+
+	/**
+	 * @return the moving average of the proportion of BUSY responses, between 0 and 1
+	 */
+	public synchronized double getBusyRate() {
+		return this.busyRate;
+	}
+
+	/**
+	 * @return the number of responses recorded
+	 */
+	public synchronized long getSamples() {
+		return this.samples;
+	}
+
+	/**
+	 * Returns the expected cost of sending a request to the node, lower is better
+	 * the average latency is scaled by the requests queued ahead and by the likelihood of a BUSY response.
+	 * A node which has not yet responded scores its number of requests in flight so that every node gets tried.
+	 * @return the node's score
+	 */
+	public double score() {
+		int queued = this.inFlight.get() + 1;
+		synchronized (this) {
+			if (this.samples == 0) {
+				return queued - 1;
+			}
+			return Math.max(this.latencyMillis, MIN_LATENCY_MILLIS) * queued / (1 - Math.min(this.busyRate, MAX_BUSY_RATE));
+		}
+	}
+}
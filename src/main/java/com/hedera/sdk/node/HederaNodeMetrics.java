@@ -0,0 +1,65 @@
+package com.hedera.sdk.node;
+
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaTransactionStatus;
+
+/**
+ * Listener notified of the requests a {@link HederaNode} sends and their outcome, set with {@link HederaNode#setMetrics(HederaNodeMetrics)}
+ * methods are called on the thread issuing or completing the request, so implementations must be thread safe and should not block.
+ * Every method does nothing by default, implementations override the ones they need.
+ * {@link HederaInMemoryMetrics} is a ready made implementation.
+ */
+public interface HederaNodeMetrics {
+	/**
+	 * A listener which ignores everything
+	 */
+	HederaNodeMetrics NONE = new HederaNodeMetrics() {};
+
+	/**
+	 * Called as a request is sent, including each BUSY retry
+	 * @param node the {@link HederaNode} sending the request
+	 * @param method the name of the RPC
+	 * @param requestBytes the size of the request in bytes
+	 */
+	default void onRequest(HederaNode node, String method, int requestBytes) {
+	}
+
+	/**
+	 * Called when the node responds to a request
+	 * @param node the {@link HederaNode} which sent the request
+	 * @param method the name of the RPC
+	 * @param latencyMillis the time from sending the request to receiving the response in milliseconds
+	 * @param precheck the node's {@link HederaPrecheckResult}
+	 * @param responseBytes the size of the response in bytes
+	 */
+	default void onResponse(HederaNode node, String method, long latencyMillis, HederaPrecheckResult precheck, int responseBytes) {
+	}
+
+	/**
+	 * Called when a request fails without a response from the node
+	 * @param node the {@link HederaNode} which sent the request
+	 * @param method the name of the RPC
+	 * @param latencyMillis the time from sending the request to the failure in milliseconds
+	 * @param error the failure
+	 */
+	default void onFailure(HederaNode node, String method, long latencyMillis, Throwable error) {
+	}
+
+	/**
+	 * Called when a request the node responded BUSY to is about to be retried
+	 * @param node the {@link HederaNode} which sent the request
+	 * @param method the name of the RPC
+	 * @param delayMillis the time to wait before the retry in milliseconds
+	 */
+	default void onRetry(HederaNode node, String method, long delayMillis) {
+	}
+
+	/**
+	 * Called when polling for a transaction's receipt ends
+	 * @param node the {@link HederaNode} polled for the receipt
+	 * @param latencyMillis the time from the start of polling to its end in milliseconds
+	 * @param status the {@link HederaTransactionStatus} of the last receipt received
+	 */
+	default void onReceipt(HederaNode node, long latencyMillis, HederaTransactionStatus status) {
+	}
+}
@@ -0,0 +1,64 @@
+package com.hedera.sdk.node;
+
+import java.io.Serializable;
+
+/**
+ * A token bucket limiting the BUSY retries made by a {@link HederaNode}
+ * each BUSY response takes a token and each successful response returns tokenRatio tokens, up to maxTokens.
+ * Retries are only allowed while more than half the tokens remain, so that a node which is persistently
+ * busy receives first attempts only rather than a storm of retries.
+ */
+public class HederaRetryBudget implements Serializable {
+	private static final long serialVersionUID = 1L;
+	private final double maxTokens;
+	private final double tokenRatio;
+	private double tokens;
+
+	/**
+	 * Creates a budget of 10 tokens, with a tenth of a token returned per successful response
+	 */
+	public HederaRetryBudget() {
+		this(10, 0.1);
+	}
+
+	/**
+	 * Creates a budget
+	 * @param maxTokens the size of the bucket
+	 * @param tokenRatio the number of tokens returned to the bucket by a successful response
+	 * @throws IllegalStateException if maxTokens or tokenRatio isn't positive
+	 */
+	public HederaRetryBudget(double maxTokens, double tokenRatio) {
+		if (maxTokens <= 0) {
+			throw new IllegalStateException("maxTokens must be greater than 0");
+		}
+		if (tokenRatio <= 0) {
+			throw new IllegalStateException("tokenRatio must be greater than 0");
+		}
+		this.maxTokens = maxTokens;
+		this.tokenRatio = tokenRatio;
+		this.tokens = maxTokens;
+	}
+
+	/**
+	 * Records a BUSY response
+	 * @return true if the request may be retried
+	 */
+	public synchronized boolean recordBusy() {
+		this.tokens = Math.max(this.tokens - 1, 0);
+		return this.tokens > this.maxTokens / 2;
+	}
+
+	/**
+	 * Records a successful response
+	 */
+	public synchronized void recordSuccess() {
+		this.tokens = Math.min(this.tokens + this.tokenRatio, this.maxTokens);
+	}
+
+	/**
+	 * @return the tokens currently in the bucket
+	 */
+	public synchronized double getTokens() {
+		return this.tokens;
+	}
+}
@@ -0,0 +1,18 @@
+package com.hedera.sdk.node;
+
+import java.io.Serializable;
+
+/**
+ * Decides whether, and after how long, a {@link HederaNode} retries a request the node responded BUSY to
+ * the policy is applied to every transaction and query sent by the node, see {@link HederaNode#setRetryPolicy(HederaRetryPolicy)}
+ */
+public interface HederaRetryPolicy extends Serializable {
+	/**
+	 * Returns the time to wait before retrying a request
+	 * @param attempt the number of attempts made so far, starting at 1
+	 * @param baseDelayMillis the node's suggested wait for this kind of request in milliseconds
+	 * @param previousDelayMillis the wait before the previous attempt in milliseconds, 0 before the first retry
+	 * @return the time to wait in milliseconds, or a negative value to stop retrying
+	 */
+	long nextDelayMillis(int attempt, long baseDelayMillis, long previousDelayMillis);
+}
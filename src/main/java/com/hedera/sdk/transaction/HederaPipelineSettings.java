@@ -0,0 +1,28 @@
+package com.hedera.sdk.transaction;
+
+/**
+ * Settings for the stages of a {@link HederaTransactionPipeline}
+ * changes only apply to pipelines created after the change
+ */
+public class HederaPipelineSettings {
+	/**
+	 * The number of threads building transaction bodies
+	 */
+	public int buildThreads = 1;
+	/**
+	 * The number of transactions waiting to be built, beyond which {@link HederaTransactionPipeline#submit} blocks
+	 */
+	public int buildQueueLimit = 1000;
+	/**
+	 * The number of threads signing transactions, one per processor by default
+	 */
+	public int signThreads = Runtime.getRuntime().availableProcessors();
+	/**
+	 * The number of built transactions waiting to be signed, beyond which building blocks
+	 */
+	public int signQueueLimit = 1000;
+	/**
+	 * The number of transactions sent to nodes and waiting for a response, beyond which signing blocks
+	 */
+	public int maxSubmissionsInFlight = 256;
+}
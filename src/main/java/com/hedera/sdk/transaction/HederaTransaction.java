@@ -35,6 +35,13 @@ public class HederaTransaction implements Serializable {
 	private HederaNode node = null;
 	private HederaTransactionReceipt transactionReceipt = null;
 	private HederaTransactionRecord transactionRecord = null;
+	// the protobuf this transaction was constructed from and the fields it was parsed into, see getProtobuf()
+	private transient Transaction protobuf = null;
+	private transient byte[] protobufBytes = null;
+	private transient HederaTransactionBody protobufBody = null;
+	private transient HederaSignatureList protobufSignatureList = null;
+	private transient HederaKeySignatureList protobufKeySignatureList = null;
+	private transient int protobufSignatureCount = -1;
 	
 	/**
 	 * get or set the body ({@link HederaTransactionBody} of the transaction
@@ -125,12 +132,41 @@ public class HederaTransaction implements Serializable {
 		this.keySignatureList = null;
 	   	logger.trace("End - Object init");
 	}
+	/**
+	 * Constructs from a {@link Transaction} protobuf, such as one read back by {@link HederaTransactionFileReader}
+	 * {@link #getProtobuf()} returns the protobuf as it is, with its signatures, so that it is sent exactly as it was
+	 * read, until a signature is added or body, signatureList or keySignatureList is replaced. The transaction is
+	 * intended to be sent as it is; changes made in place to its body or signatures are only taken into account
+	 * after {@link #invalidateProtobuf()}.
+	 * @param protobuf {@link Transaction}
+	 */
+	public HederaTransaction(Transaction protobuf) {
+	   	logger.trace("Start - Object init protobuf {}", protobuf);
+		this.body = new HederaTransactionBody(protobuf.getBody());
+		this.signatureList = new HederaSignatureList(protobuf.getSigs());
+		this.keySignatureList = null;
+		this.protobuf = protobuf;
+		this.protobufBody = this.body;
+		this.protobufSignatureList = this.signatureList;
+		this.protobufKeySignatureList = null;
+		this.protobufSignatureCount = signatureCount();
+	   	logger.trace("End - Object init");
+	}
 	/**
 	 * returns the protobuf for this transaction
+	 * the protobuf is built from the body and signatures on each call, so that any change to them is sent, except
+	 * for a transaction constructed from a protobuf, see {@link #HederaTransaction(Transaction)}
 	 * @return {@link Transaction}
 	 */
-	public Transaction getProtobuf() {
+	public synchronized Transaction getProtobuf() {
 	   	logger.trace("Start - getProtobuf");
+	   	if ((this.protobuf != null) && isProtobufCurrent()) {
+		   	logger.trace("End - getProtobuf");
+	   		return this.protobuf;
+	   	}
+	   	// the transaction has been changed since it was constructed from a protobuf
+		this.protobuf = null;
+		this.protobufBytes = null;
 		// Generates the protobuf payload for this class
 		Transaction.Builder transactionProtobuf = Transaction.newBuilder();
 		
@@ -145,6 +181,42 @@ public class HederaTransaction implements Serializable {
 		
 		return transactionProtobuf.build();
 	}
+	/**
+	 * returns the serialized protobuf for this transaction, as for {@link #getProtobuf()}
+	 * the serialized form of a transaction constructed from a protobuf is kept, and the array returned
+	 * is shared and must not be modified
+	 * @return byte[]
+	 */
+	public synchronized byte[] getProtobufBytes() {
+		Transaction transaction = getProtobuf();
+		if (this.protobuf == null) {
+			return transaction.toByteArray();
+		}
+		if (this.protobufBytes == null) {
+			this.protobufBytes = transaction.toByteArray();
+		}
+		return this.protobufBytes;
+	}
+	/**
+	 * Discards the protobuf this transaction was constructed from, so that {@link #getProtobuf()} builds it
+	 * from the body and signatures
+	 */
+	public synchronized void invalidateProtobuf() {
+		this.protobuf = null;
+		this.protobufBytes = null;
+	}
+	private boolean isProtobufCurrent() {
+		return (this.protobufBody == this.body)
+				&& (this.protobufSignatureList == this.signatureList)
+				&& (this.protobufKeySignatureList == this.keySignatureList)
+				&& (this.protobufSignatureCount == signatureCount());
+	}
+	private int signatureCount() {
+		if (this.keySignatureList != null) {
+			return this.keySignatureList.keySigPairs.size();
+		}
+		return (this.signatureList == null) ? 0 : this.signatureList.signatures.size();
+	}
 	/**
 	 * Adds a signature to the list
 	 * @param signature {@link HederaSignature}
@@ -153,6 +225,7 @@ public class HederaTransaction implements Serializable {
 	   	logger.trace("Start - addSignature signature {}", signature);
 		this.signatureList.addSignature(signature);
 		// can't do anything to keysignatureList here, we don't have a key
+		invalidateProtobuf();
 	   	logger.trace("End - addSignature");
 	}
 	/**
@@ -164,6 +237,7 @@ public class HederaTransaction implements Serializable {
 		this.keySignatureList.addKeySignaturePair(keySignaturePair);
 		HederaSignature oneSig = new HederaSignature(keySignaturePair.getSignatureProtobuf());
 		this.signatureList.addSignature(oneSig);
+		invalidateProtobuf();
 	   	logger.trace("End - addSignature");
 	}
 
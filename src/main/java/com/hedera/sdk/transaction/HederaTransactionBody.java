@@ -98,6 +98,67 @@ public class HederaTransactionBody implements Serializable {
 		this.data = data;
 	   	logger.trace("End - Object init");
 	}
+	/**
+	 * Constructor from an already built {@link TransactionBody}, such as one from a {@link HederaTransactionBodyTemplate}
+	 * like any other body, {@link #getProtobuf()} is built from the fields, so reflects changes made to them
+	 * @param protobuf the {@link TransactionBody}
+	 * @throws IllegalArgumentException if the body's transaction type isn't set or supported
+	 */
+	public HederaTransactionBody(TransactionBody protobuf) {
+	   	logger.trace("Start - Object init protobuf {}", protobuf);
+		this.transactionId = new HederaTransactionID(protobuf.getTransactionID());
+		this.nodeAccount = new HederaAccountID(protobuf.getNodeAccountID());
+		this.transactionFee = protobuf.getTransactionFee();
+		this.transactionValidDuration = new HederaDuration(protobuf.getTransactionValidDuration());
+		this.generateRecord = protobuf.getGenerateRecord();
+		this.memo = protobuf.getMemo();
+		switch (protobuf.getDataCase()) {
+			case CONTRACTCALL:
+				this.data = protobuf.getContractCall();
+				break;
+			case CONTRACTCREATEINSTANCE:
+				this.data = protobuf.getContractCreateInstance();
+				break;
+			case CONTRACTUPDATEINSTANCE:
+				this.data = protobuf.getContractUpdateInstance();
+				break;
+			case CRYPTOADDCLAIM:
+				this.data = protobuf.getCryptoAddClaim();
+				break;
+			case CRYPTOCREATEACCOUNT:
+				this.data = protobuf.getCryptoCreateAccount();
+				break;
+			case CRYPTODELETE:
+				this.data = protobuf.getCryptoDelete();
+				break;
+			case CRYPTODELETECLAIM:
+				this.data = protobuf.getCryptoDeleteClaim();
+				break;
+			case CRYPTOTRANSFER:
+				this.data = protobuf.getCryptoTransfer();
+				break;
+			case CRYPTOUPDATEACCOUNT:
+				this.data = protobuf.getCryptoUpdateAccount();
+				break;
+			case FILEAPPEND:
+				this.data = protobuf.getFileAppend();
+				break;
+			case FILECREATE:
+				this.data = protobuf.getFileCreate();
+				break;
+			case FILEDELETE:
+				this.data = protobuf.getFileDelete();
+				break;
+			case FILEUPDATE:
+				this.data = protobuf.getFileUpdate();
+				break;
+			default:
+	    	   	logger.trace("End - Object init");
+	            throw new IllegalArgumentException("Transaction type not set or not supported.");
+		}
+		this.transactionType = TransactionType.valueOf(protobuf.getDataCase().name());
+	   	logger.trace("End - Object init");
+	}
 	/**
 	 * returns the {@link TransactionBody} protobuf for this transaction
 	 * @return {@link TransactionBody}
@@ -0,0 +1,151 @@
+package com.hedera.sdk.transaction;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.account.HederaAccountAmount;
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.common.Utilities;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.ContractCallTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransferList;
+
+/**
+ * Builds transaction bodies which differ only by transaction ID and transfers or call
+ * the node account, fee, valid duration, generate record flag and memo are converted to protobuf once, when the
+ * template is created, and copied by reference into every body built from it.
+ * A template is immutable and may be shared between threads.
+ * <pre>
+ * HederaTransactionBodyTemplate template = new HederaTransactionBodyTemplate(nodeAccount, fee, validDuration, false, "payroll");
+ * TransactionBody body = template.transferBody(new HederaTransactionID(payer), payer, payee, amount);
+ * byte[] signature = payerKey.signMessage(body.toByteArray());
+ * </pre>
+ */
+public class HederaTransactionBodyTemplate {
+	final static Logger logger = LoggerFactory.getLogger(HederaTransactionBodyTemplate.class);
+
+	private final HederaAccountID nodeAccount;
+	private final long transactionFee;
+	private final long validDurationSeconds;
+	private final int validDurationNanos;
+	private final boolean generateRecord;
+	private final String memo;
+	private final TransactionBody prototype;
+
+	/**
+	 * Creates a template
+	 * @param nodeAccount the {@link HederaAccountID} of the node to which the transactions are submitted
+	 * @param transactionFee the fee paid for each transaction
+	 * @param transactionValidDuration the duration of each transaction's validity as {@link HederaDuration}
+	 * @param generateRecord boolean to indicate if records should be generated
+	 * @param memo String memo to include in each transaction
+	 * @throws IllegalStateException if nodeAccount, transactionValidDuration or memo is null
+	 */
+	public HederaTransactionBodyTemplate(HederaAccountID nodeAccount, long transactionFee, HederaDuration transactionValidDuration
+			, boolean generateRecord, String memo) {
+	   	logger.trace("Start - Object init nodeAccount {}, transactionFee {}, transactionValidDuration {}, generateRecord {}, memo {}"
+	   			, nodeAccount, transactionFee, transactionValidDuration, generateRecord, memo);
+		Utilities.throwIfNull("nodeAccount", nodeAccount);
+		Utilities.throwIfNull("transactionValidDuration", transactionValidDuration);
+		Utilities.throwIfNull("memo", memo);
+		this.nodeAccount = new HederaAccountID(nodeAccount.shardNum, nodeAccount.realmNum, nodeAccount.accountNum);
+		this.transactionFee = transactionFee;
+		this.validDurationSeconds = transactionValidDuration.seconds;
+		this.validDurationNanos = transactionValidDuration.nanos;
+		this.generateRecord = generateRecord;
+		this.memo = memo;
+		this.prototype = TransactionBody.newBuilder()
+				.setNodeAccountID(nodeAccount.getProtobuf())
+				.setTransactionFee(transactionFee)
+				.setTransactionValidDuration(transactionValidDuration.getProtobuf())
+				.setGenerateRecord(generateRecord)
+				.setMemo(memo)
+				.build();
+	   	logger.trace("End - Object init");
+	}
+
+	/**
+	 * @return the {@link HederaAccountID} of the node the template's transactions are submitted to
+	 */
+	public HederaAccountID getNodeAccount() {
+		return this.nodeAccount;
+	}
+
+	/**
+	 * Checks whether this template builds bodies with the given values, so that it can be reused
+	 * @param nodeAccount the {@link HederaAccountID} of the node
+	 * @param transactionFee the fee
+	 * @param transactionValidDuration the {@link HederaDuration} of validity
+	 * @param generateRecord the generate record flag
+	 * @param memo the memo
+	 * @return true if every value matches
+	 */
+	public boolean matches(HederaAccountID nodeAccount, long transactionFee, HederaDuration transactionValidDuration
+			, boolean generateRecord, String memo) {
+		return this.nodeAccount.equals(nodeAccount)
+				&& (this.transactionFee == transactionFee)
+				&& (transactionValidDuration != null)
+				&& (this.validDurationSeconds == transactionValidDuration.seconds)
+				&& (this.validDurationNanos == transactionValidDuration.nanos)
+				&& (this.generateRecord == generateRecord)
+				&& Objects.equals(this.memo, memo);
+	}
+
+	/**
+	 * Builds the body of a transfer between any number of accounts
+	 * @param transactionID the {@link HederaTransactionID} for the transaction
+	 * @param accountAmounts the accounts and amounts to transfer currency to and from
+	 * @return {@link TransactionBody}
+	 */
+	public TransactionBody transferBody(HederaTransactionID transactionID, List<HederaAccountAmount> accountAmounts) {
+		TransferList.Builder transferList = TransferList.newBuilder();
+		for (HederaAccountAmount accountAmount : accountAmounts) {
+			transferList.addAccountAmounts(accountAmount.getProtobuf());
+		}
+		return newBody(transactionID)
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder().setTransfers(transferList))
+				.build();
+	}
+
+	/**
+	 * Builds the body of a transfer from one account to another
+	 * @param transactionID the {@link HederaTransactionID} for the transaction
+	 * @param fromAccountID the {@link HederaAccountID} sending the funds
+	 * @param toAccountID the {@link HederaAccountID} receiving the funds
+	 * @param amount the amount to transfer
+	 * @return {@link TransactionBody}
+	 */
+	public TransactionBody transferBody(HederaTransactionID transactionID, HederaAccountID fromAccountID, HederaAccountID toAccountID, long amount) {
+		TransferList transferList = TransferList.newBuilder()
+				.addAccountAmounts(AccountAmount.newBuilder().setAccountID(fromAccountID.getProtobuf()).setAmount(-amount))
+				.addAccountAmounts(AccountAmount.newBuilder().setAccountID(toAccountID.getProtobuf()).setAmount(amount))
+				.build();
+		return newBody(transactionID)
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder().setTransfers(transferList))
+				.build();
+	}
+
+	/**
+	 * Builds the body of a contract call
+	 * the call itself, as returned by {@link com.hedera.sdk.contract.HederaContract#getCallTransactionBody()},
+	 * can be built once and reused for identical calls
+	 * @param transactionID the {@link HederaTransactionID} for the transaction
+	 * @param call the {@link ContractCallTransactionBody}
+	 * @return {@link TransactionBody}
+	 */
+	public TransactionBody contractCallBody(HederaTransactionID transactionID, ContractCallTransactionBody call) {
+		return newBody(transactionID).setContractCall(call).build();
+	}
+
+	private TransactionBody.Builder newBody(HederaTransactionID transactionID) {
+		Utilities.throwIfNull("transactionID", transactionID);
+		return this.prototype.toBuilder().setTransactionID(transactionID.getProtobuf());
+	}
+}
@@ -0,0 +1,64 @@
+package com.hedera.sdk.transaction;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.hedera.sdk.common.Utilities;
+import com.hederahashgraph.api.proto.java.Transaction;
+
+/**
+ * Reads transactions written by {@link HederaTransactionFileWriter}, one at a time
+ * <pre>
+ * try (HederaTransactionFileReader reader = new HederaTransactionFileReader(path)) {
+ * 	Transaction transaction;
+ * 	while ((transaction = reader.next()) != null) {
+ * 		...
+ * 	}
+ * }
+ * </pre>
+ */
+public class HederaTransactionFileReader implements Closeable {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final InputStream in;
+	private long count = 0;
+
+	/**
+	 * Opens a file for reading
+	 * @param path the {@link Path} of the file
+	 * @throws IOException if the file can't be opened
+	 */
+	public HederaTransactionFileReader(Path path) throws IOException {
+		Utilities.throwIfNull("path", path);
+		this.in = new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE);
+	}
+
+	/**
+	 * Reads the next transaction
+	 * @return the signed {@link Transaction} protobuf, null at the end of the file
+	 * @throws IOException if the file can't be read or is truncated
+	 */
+	public synchronized Transaction next() throws IOException {
+		Transaction transaction = Transaction.parseDelimitedFrom(this.in);
+		if (transaction != null) {
+			this.count++;
+		}
+		return transaction;
+	}
+
+	/**
+	 * @return the number of transactions read
+	 */
+	public synchronized long getCount() {
+		return this.count;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		this.in.close();
+	}
+}
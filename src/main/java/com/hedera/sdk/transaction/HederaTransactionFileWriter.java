@@ -0,0 +1,83 @@
+package com.hedera.sdk.transaction;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.common.Utilities;
+import com.hederahashgraph.api.proto.java.Transaction;
+
+/**
+ * Writes signed transactions to a file, to be sent later with {@link HederaTransactionReplayer}
+ * each {@link Transaction} protobuf is written preceded by its length as a varint, the format read by
+ * {@link Transaction#parseDelimitedFrom(java.io.InputStream)}. Transactions are streamed through a buffer
+ * rather than held in memory, so files may hold any number of them.
+ * Note that the transactions must be sent before their valid duration has elapsed.
+ */
+public class HederaTransactionFileWriter implements Closeable {
+	final static Logger logger = LoggerFactory.getLogger(HederaTransactionFileWriter.class);
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final OutputStream out;
+	private long count = 0;
+
+	/**
+	 * Opens a file for writing, replacing any existing file unless options say otherwise
+	 * @param path the {@link Path} of the file
+	 * @param options {@link OpenOption} as for {@link Files#newOutputStream(Path, OpenOption...)},
+	 * for example {@link java.nio.file.StandardOpenOption#APPEND} with CREATE to add to an existing file
+	 * @throws IOException if the file can't be opened
+	 */
+	public HederaTransactionFileWriter(Path path, OpenOption... options) throws IOException {
+		Utilities.throwIfNull("path", path);
+		this.out = new BufferedOutputStream(Files.newOutputStream(path, options), BUFFER_SIZE);
+	}
+
+	/**
+	 * Writes a transaction
+	 * @param transaction the signed {@link HederaTransaction}
+	 * @throws IOException if the transaction can't be written
+	 */
+	public void write(HederaTransaction transaction) throws IOException {
+		write(transaction.getProtobuf());
+	}
+
+	/**
+	 * Writes a transaction
+	 * @param transaction the signed {@link Transaction} protobuf
+	 * @throws IOException if the transaction can't be written
+	 */
+	public synchronized void write(Transaction transaction) throws IOException {
+		transaction.writeDelimitedTo(this.out);
+		this.count++;
+	}
+
+	/**
+	 * @return the number of transactions written
+	 */
+	public synchronized long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Writes any buffered transactions to the file
+	 * @throws IOException if they can't be written
+	 */
+	public synchronized void flush() throws IOException {
+		this.out.flush();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		logger.info("Wrote {} transactions", this.count);
+		this.out.close();
+	}
+}
@@ -0,0 +1,348 @@
+package com.hedera.sdk.transaction;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaKeySignatureList;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaReceiptTracker;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.common.HederaTransactionReceipt;
+import com.hedera.sdk.common.HederaTransactionStatus;
+import com.hedera.sdk.common.Utilities;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaNetwork;
+import com.hedera.sdk.node.HederaNode;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+/**
+ * Builds, signs, sends and collects the receipts of transactions in stages, each running in parallel with the others
+ * bodies are built on one pool of threads and signed on another, transactions are sent to the node picked by
+ * a {@link HederaNetwork} without blocking a thread and their receipts collected by a {@link HederaReceiptTracker}.
+ * Every stage is bounded, see {@link HederaPipelineSettings}; when a stage is full the stage before it waits,
+ * so that a slow node or slow signing eventually blocks {@link #submit}, rather than transactions piling up in memory.
+ * <pre>
+ * HederaTransactionPipeline pipeline = new HederaTransactionPipeline(network);
+ * CompletableFuture&lt;HederaTransactionReceipt&gt; receipt = pipeline.submit(
+ * 		nodeAccount -&gt; account.bodyToSignForTransfer(new HederaTransactionID(payer), nodeAccount, ...), keys);
+ * </pre>
+ */
+public class HederaTransactionPipeline {
+	final static Logger logger = LoggerFactory.getLogger(HederaTransactionPipeline.class);
+
+	private final HederaNetwork network;
+	private final HederaReceiptTracker receiptTracker;
+	private final boolean ownsReceiptTracker;
+	private final ThreadPoolExecutor buildExecutor;
+	private final ThreadPoolExecutor signExecutor;
+	private final Semaphore submissionPermits;
+	private final int maxSubmissionsInFlight;
+	private final long start = System.nanoTime();
+
+	private final LongAdder built = new LongAdder();
+	private final LongAdder signed = new LongAdder();
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+
+	/**
+	 * waits for space in the queue of a full stage, passing back pressure on to the stage before it
+	 */
+	private static final RejectedExecutionHandler WAIT_FOR_SPACE = (task, executor) -> {
+		if (executor.isShutdown()) {
+			throw new RejectedExecutionException("Pipeline shut down");
+		}
+		try {
+			executor.getQueue().put(task);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException(e);
+		}
+		// the stage may have shut down while this waited, in which case nothing may be left to run the task
+		if (executor.isShutdown() && executor.getQueue().remove(task)) {
+			throw new RejectedExecutionException("Pipeline shut down");
+		}
+	};
+
+	/**
+	 * a stage's work for one transaction, carrying the transaction's future so that it can be failed
+	 * if the stage is shut down before the work runs
+	 */
+	private static final class StageTask implements Runnable {
+		private final CompletableFuture<HederaTransactionReceipt> future;
+		private final Runnable work;
+
+		StageTask(CompletableFuture<HederaTransactionReceipt> future, Runnable work) {
+			this.future = future;
+			this.work = work;
+		}
+
+		@Override
+		public void run() {
+			this.work.run();
+		}
+	}
+
+	/**
+	 * A point in time copy of the pipeline's figures
+	 */
+	public static final class Stats {
+		/**
+		 * the number of transactions waiting to be built
+		 */
+		public final int buildQueueDepth;
+		/**
+		 * the number of transactions waiting to be signed
+		 */
+		public final int signQueueDepth;
+		/**
+		 * the number of transactions sent and waiting for a response from a node
+		 */
+		public final int submissionsInFlight;
+		/**
+		 * the number of transactions whose receipt is being polled for
+		 */
+		public final int receiptsPending;
+		public final long built;
+		public final long signed;
+		public final long submitted;
+		/**
+		 * the number of transactions with a receipt, or a precheck result other than OK
+		 */
+		public final long completed;
+		/**
+		 * the number of transactions which couldn't be built, signed or sent
+		 */
+		public final long failed;
+		/**
+		 * the average number of transactions completed per second since the pipeline was created
+		 */
+		public final double completedPerSecond;
+
+		private Stats(HederaTransactionPipeline pipeline) {
+			this.buildQueueDepth = pipeline.buildExecutor.getQueue().size();
+			this.signQueueDepth = pipeline.signExecutor.getQueue().size();
+			this.submissionsInFlight = pipeline.maxSubmissionsInFlight - pipeline.submissionPermits.availablePermits();
+			this.receiptsPending = pipeline.receiptTracker.getCount();
+			this.built = pipeline.built.sum();
+			this.signed = pipeline.signed.sum();
+			this.submitted = pipeline.submitted.sum();
+			this.completed = pipeline.completed.sum();
+			this.failed = pipeline.failed.sum();
+			double seconds = (System.nanoTime() - pipeline.start) / 1e9;
+			this.completedPerSecond = (seconds > 0) ? this.completed / seconds : 0;
+		}
+
+		@Override
+		public String toString() {
+			return "buildQueue=" + this.buildQueueDepth + " signQueue=" + this.signQueueDepth
+					+ " submissionsInFlight=" + this.submissionsInFlight + " receiptsPending=" + this.receiptsPending
+					+ " built=" + this.built + " signed=" + this.signed + " submitted=" + this.submitted
+					+ " completed=" + this.completed + " failed=" + this.failed
+					+ String.format(" completedPerSecond=%.1f", this.completedPerSecond);
+		}
+	}
+
+	/**
+	 * Creates a pipeline with default settings and its own {@link HederaReceiptTracker}
+	 * @param network the {@link HederaNetwork} picking the node each transaction is sent to
+	 */
+	public HederaTransactionPipeline(HederaNetwork network) {
+		this(network, new HederaReceiptTracker(), true, new HederaPipelineSettings());
+	}
+
+	/**
+	 * Creates a pipeline
+	 * @param network the {@link HederaNetwork} picking the node each transaction is sent to
+	 * @param receiptTracker the {@link HederaReceiptTracker} collecting receipts, which is not shut down with the pipeline
+	 * @param settings the {@link HederaPipelineSettings}
+	 * @throws IllegalStateException if any parameter is null or any setting isn't positive
+	 */
+	public HederaTransactionPipeline(HederaNetwork network, HederaReceiptTracker receiptTracker, HederaPipelineSettings settings) {
+		this(network, receiptTracker, false, settings);
+	}
+
+	private HederaTransactionPipeline(HederaNetwork network, HederaReceiptTracker receiptTracker, boolean ownsReceiptTracker
+			, HederaPipelineSettings settings) {
+		Utilities.throwIfNull("network", network);
+		Utilities.throwIfNull("receiptTracker", receiptTracker);
+		Utilities.throwIfNull("settings", settings);
+		if ((settings.buildThreads <= 0) || (settings.buildQueueLimit <= 0) || (settings.signThreads <= 0)
+				|| (settings.signQueueLimit <= 0) || (settings.maxSubmissionsInFlight <= 0)) {
+			throw new IllegalStateException("Pipeline settings must be greater than 0");
+		}
+		this.network = network;
+		this.receiptTracker = receiptTracker;
+		this.ownsReceiptTracker = ownsReceiptTracker;
+		this.buildExecutor = executor("hedera-pipeline-build", settings.buildThreads, settings.buildQueueLimit);
+		this.signExecutor = executor("hedera-pipeline-sign", settings.signThreads, settings.signQueueLimit);
+		this.maxSubmissionsInFlight = settings.maxSubmissionsInFlight;
+		this.submissionPermits = new Semaphore(settings.maxSubmissionsInFlight);
+	}
+
+	/**
+	 * Adds a transaction to the pipeline, waiting while the build stage is full
+	 * the body is built for the node the transaction will be sent to, and signed by each key in turn;
+	 * a key appearing more than once signs the body once.
+	 * @param buildBody builds the {@link TransactionBody} given the {@link HederaAccountID} of the node
+	 * @param signingKeys the keys to sign with, in the order their signatures appear in the transaction
+	 * @return {@link CompletableFuture} completed with the {@link HederaTransactionReceipt}, which holds only the
+	 * precheck result if it wasn't OK, or completed exceptionally if the transaction couldn't be built, signed or sent
+	 * @throws InterruptedException if interrupted while waiting
+	 * @throws IllegalStateException if the pipeline has been shut down
+	 */
+	public CompletableFuture<HederaTransactionReceipt> submit(Function<HederaAccountID, TransactionBody> buildBody
+			, List<HederaCryptoKeyPair> signingKeys) throws InterruptedException {
+		Utilities.throwIfNull("buildBody", buildBody);
+		Utilities.throwIfNull("signingKeys", signingKeys);
+		CompletableFuture<HederaTransactionReceipt> future = new CompletableFuture<>();
+		try {
+			this.buildExecutor.execute(new StageTask(future, () -> build(buildBody, signingKeys, future)));
+		} catch (RejectedExecutionException e) {
+			if (e.getCause() instanceof InterruptedException) {
+				throw (InterruptedException) e.getCause();
+			}
+			throw new IllegalStateException("Pipeline shut down");
+		}
+		return future;
+	}
+
+	/**
+	 * @return {@link Stats} for the pipeline
+	 */
+	public Stats getStats() {
+		return new Stats(this);
+	}
+
+	/**
+	 * Stops accepting transactions and waits up to timeoutMillis for those already built or signed to be sent
+	 * the futures of transactions not sent by then are completed exceptionally.
+	 * The network is not shut down, nor is the receipt tracker unless it was created by the pipeline
+	 * @param timeoutMillis the time to wait in milliseconds
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void shutdown(long timeoutMillis) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		this.buildExecutor.shutdown();
+		this.buildExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		this.signExecutor.shutdown();
+		this.signExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		failUnrun(this.buildExecutor.shutdownNow());
+		failUnrun(this.signExecutor.shutdownNow());
+		if (this.ownsReceiptTracker) {
+			this.receiptTracker.shutdown();
+		}
+	}
+
+	private void build(Function<HederaAccountID, TransactionBody> buildBody, List<HederaCryptoKeyPair> signingKeys
+			, CompletableFuture<HederaTransactionReceipt> future) {
+		try {
+			HederaNode node = this.network.pickNode();
+			TransactionBody body = buildBody.apply(node.getAccountID());
+			this.built.increment();
+			this.signExecutor.execute(new StageTask(future, () -> sign(node, body, signingKeys, future)));
+		} catch (Exception e) {
+			fail(future, e);
+		}
+	}
+
+	private void sign(HederaNode node, TransactionBody body, List<HederaCryptoKeyPair> signingKeys
+			, CompletableFuture<HederaTransactionReceipt> future) {
+		try {
+			byte[] message = body.toByteArray();
+			Map<HederaCryptoKeyPair, byte[]> signatures = new IdentityHashMap<>();
+			HederaKeySignatureList sigsForTransaction = new HederaKeySignatureList();
+			for (HederaCryptoKeyPair key : signingKeys) {
+				byte[] signature = signatures.get(key);
+				if (signature == null) {
+					signature = key.signMessage(message);
+					signatures.put(key, signature);
+				}
+				sigsForTransaction.addKeySignaturePair(key.getKeyType(), key.getPublicKey(), signature);
+			}
+			this.signed.increment();
+			HederaTransaction transaction = new HederaTransaction(new HederaTransactionBody(body), sigsForTransaction);
+			this.submissionPermits.acquire();
+			send(node, transaction, new HederaTransactionID(body.getTransactionID()), future);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail(future, e);
+		} catch (Exception e) {
+			fail(future, e);
+		}
+	}
+
+	private void send(HederaNode node, HederaTransaction transaction, HederaTransactionID transactionID
+			, CompletableFuture<HederaTransactionReceipt> future) {
+		CompletableFuture<HederaTransactionResult> result;
+		try {
+			result = node.submit(transaction);
+		} catch (RuntimeException e) {
+			this.submissionPermits.release();
+			fail(future, e);
+			return;
+		}
+		this.submitted.increment();
+		result.whenComplete((transactionResult, error) -> {
+			this.submissionPermits.release();
+			if (error != null) {
+				fail(future, error);
+			} else if (transactionResult.getPrecheckResult() != HederaPrecheckResult.OK) {
+				this.completed.increment();
+				future.complete(new HederaTransactionReceipt(transactionResult.getPrecheckResult(), HederaTransactionStatus.NOTSET, null, null, null));
+			} else {
+				this.receiptTracker.track(transactionID, node).whenComplete((receipt, receiptError) -> {
+					if (receiptError != null) {
+						fail(future, receiptError);
+					} else {
+						this.completed.increment();
+						future.complete(receipt);
+					}
+				});
+			}
+		});
+	}
+
+	private void fail(CompletableFuture<HederaTransactionReceipt> future, Throwable error) {
+		logger.info("Pipeline transaction failed - {}", error.getMessage());
+		this.failed.increment();
+		future.completeExceptionally(error);
+	}
+
+	/**
+	 * fails the transactions still waiting in a stage's queue when it was shut down
+	 */
+	private void failUnrun(List<Runnable> tasks) {
+		for (Runnable task : tasks) {
+			if (task instanceof StageTask) {
+				fail(((StageTask) task).future, new IllegalStateException("Pipeline shut down"));
+			}
+		}
+	}
+
+	private static ThreadPoolExecutor executor(String name, int threads, int queueLimit) {
+		AtomicInteger count = new AtomicInteger();
+		return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueLimit)
+				, runnable -> {
+					Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+				, WAIT_FOR_SPACE);
+	}
+}
@@ -0,0 +1,143 @@
+package com.hedera.sdk.transaction;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.Utilities;
+import com.hedera.sdk.node.HederaNetwork;
+import com.hedera.sdk.node.HederaNode;
+import com.hederahashgraph.api.proto.java.Transaction;
+
+/**
+ * Sends the pre-signed transactions in a file written by {@link HederaTransactionFileWriter} as fast as the nodes accept them
+ * since signing is done beforehand, replaying costs little more than reading and sending.
+ * Transactions are read one at a time and sent without waiting for the previous response, up to a limit of
+ * transactions in flight; at the limit reading waits, so that files of any size are replayed in bounded memory.
+ * Each transaction is sent to the node named in its body, since the body was signed with that node in it.
+ * <pre>
+ * HederaTransactionReplayer replayer = new HederaTransactionReplayer(network, 256);
+ * Map&lt;HederaPrecheckResult, Long&gt; prechecks = replayer.replay(path, null);
+ * </pre>
+ */
+public class HederaTransactionReplayer {
+	final static Logger logger = LoggerFactory.getLogger(HederaTransactionReplayer.class);
+
+	private final HederaNetwork network;
+	private final int maxInFlight;
+
+	/**
+	 * Creates a replayer
+	 * @param network the {@link HederaNetwork} holding the nodes the transactions were built for
+	 * @param maxInFlight the maximum number of transactions sent and awaiting a response
+	 * @throws IllegalStateException if network is null or maxInFlight is less than 1
+	 */
+	public HederaTransactionReplayer(HederaNetwork network, int maxInFlight) {
+		Utilities.throwIfNull("network", network);
+		if (maxInFlight < 1) {
+			throw new IllegalStateException("maxInFlight must be at least 1.");
+		}
+		this.network = network;
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Sends every transaction in a file and waits for the responses
+	 * a transaction whose body type isn't set or supported, whose node isn't in the network, or which couldn't be sent,
+	 * is counted as {@link HederaPrecheckResult#ERROR} and the replay carries on with the next
+	 * @param path the {@link Path} of a file written by {@link HederaTransactionFileWriter}
+	 * @param onResult called with each transaction and its {@link HederaTransactionResult} as responses arrive,
+	 * the transaction being null for one whose body couldn't be read, may be null
+	 * @return the number of transactions for each {@link HederaPrecheckResult}
+	 * @throws IOException if the file can't be read
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public Map<HederaPrecheckResult, Long> replay(Path path, BiConsumer<HederaTransaction, HederaTransactionResult> onResult)
+			throws IOException, InterruptedException {
+		logger.trace("Start - replay path {}", path);
+		Map<HederaAccountID, HederaNode> nodes = new HashMap<>();
+		for (HederaNode node : this.network.getNodes()) {
+			nodes.put(node.getAccountID(), node);
+		}
+		ConcurrentMap<HederaPrecheckResult, LongAdder> counts = new ConcurrentHashMap<>();
+		Semaphore inFlight = new Semaphore(this.maxInFlight);
+
+		try (HederaTransactionFileReader reader = new HederaTransactionFileReader(path)) {
+			Transaction protobuf;
+			while ((protobuf = reader.next()) != null) {
+				HederaTransaction transaction;
+				try {
+					transaction = new HederaTransaction(protobuf);
+				} catch (IllegalArgumentException e) {
+					logger.info("Replay skipped transaction {} - {}", reader.getCount(), e.getMessage());
+					complete(counts, onResult, null, errorResult());
+					continue;
+				}
+				HederaNode node = nodes.get(transaction.body.nodeAccount);
+				if (node == null) {
+					logger.info("No node in the network for account {}", transaction.body.nodeAccount.accountNum);
+					complete(counts, onResult, transaction, errorResult());
+					continue;
+				}
+				inFlight.acquire();
+				CompletableFuture<HederaTransactionResult> result;
+				try {
+					result = node.submit(transaction);
+				} catch (RuntimeException e) {
+					inFlight.release();
+					logger.info("Replay failed to send - {}", e.getMessage());
+					complete(counts, onResult, transaction, errorResult());
+					continue;
+				}
+				final HederaTransaction sent = transaction;
+				result.whenComplete((transactionResult, error) -> {
+					try {
+						if (error != null) {
+							logger.info("Replay failed to send - {}", error.getMessage());
+							transactionResult = errorResult();
+						}
+						complete(counts, onResult, sent, transactionResult);
+					} finally {
+						inFlight.release();
+					}
+				});
+			}
+			logger.info("Replayed {} transactions from {}", reader.getCount(), path);
+		}
+		// wait for the responses still in flight
+		inFlight.acquire(this.maxInFlight);
+		inFlight.release(this.maxInFlight);
+
+		Map<HederaPrecheckResult, Long> totals = new EnumMap<>(HederaPrecheckResult.class);
+		counts.forEach((precheck, count) -> totals.put(precheck, count.sum()));
+		logger.trace("End - replay");
+		return totals;
+	}
+
+	private static HederaTransactionResult errorResult() {
+		HederaTransactionResult result = new HederaTransactionResult();
+		result.setError();
+		return result;
+	}
+
+	private static void complete(ConcurrentMap<HederaPrecheckResult, LongAdder> counts
+			, BiConsumer<HederaTransaction, HederaTransactionResult> onResult, HederaTransaction transaction, HederaTransactionResult result) {
+		counts.computeIfAbsent(result.getPrecheckResult(), k -> new LongAdder()).increment();
+		if (onResult != null) {
+			onResult.accept(transaction, result);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+package test.hedera.sdk.account;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.account.HederaAccount;
+import com.hedera.sdk.account.HederaAccountProvisioner;
+import com.hedera.sdk.account.HederaAccountProvisioner.Request;
+import com.hedera.sdk.account.HederaAccountProvisioner.Result;
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaKey;
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaReceiptTracker;
+import com.hedera.sdk.common.HederaSignatureList;
+import com.hedera.sdk.common.HederaTimeStamp;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaNetwork;
+import com.hedera.sdk.node.HederaNode;
+import com.hedera.sdk.transaction.HederaTransaction;
+import com.hedera.sdk.transaction.HederaTransactionBody;
+
+import test.hedera.sdk.standin.HederaStandInNode;
+
+class HederaAccountProvisionerTest {
+	private final HederaAccountID payer = new HederaAccountID(0, 0, 1001);
+	private final HederaCryptoKeyPair payerKey = new HederaCryptoKeyPair(KeyType.ED25519);
+	private HederaStandInNode standIn;
+	private HederaNode node;
+	private HederaReceiptTracker receiptTracker;
+	private Path checkpoint;
+
+	@BeforeEach
+	void start() throws Exception {
+		this.standIn = new HederaStandInNode().start();
+		this.node = this.standIn.newNode();
+		this.standIn.getState().setBalance(1001, 100000);
+		this.receiptTracker = new HederaReceiptTracker(10, 5000, 16);
+		this.checkpoint = Files.createTempFile("provision", ".csv");
+	}
+
+	@AfterEach
+	void stop() throws Exception {
+		Files.deleteIfExists(this.checkpoint);
+		this.receiptTracker.shutdown();
+		this.node.shutdown();
+		this.standIn.shutdown();
+	}
+
+	private HederaAccountProvisioner provisioner() {
+		return provisioner(this.receiptTracker);
+	}
+
+	private HederaAccountProvisioner provisioner(HederaReceiptTracker receiptTracker) {
+		HederaAccountProvisioner provisioner = new HederaAccountProvisioner(new HederaNetwork(Collections.singletonList(this.node))
+				, receiptTracker, this.payer, this.payerKey, this.checkpoint);
+		provisioner.pipelineSettings.maxSubmissionsInFlight = 4;
+		return provisioner;
+	}
+
+	private static List<Request> requests(int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> new Request("user" + i, KeyType.ED25519, new HederaCryptoKeyPair(KeyType.ED25519).getPublicKey(), 10, null))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	@DisplayName("An account is created for every request")
+	void testProvision() throws Exception {
+		List<Request> requests = requests(30);
+		Map<String, Result> results = new ConcurrentHashMap<>();
+		HederaAccountProvisioner.Summary summary = provisioner().provision(requests.stream(), result -> results.put(result.reference, result));
+
+		assertEquals(30, summary.created);
+		assertEquals(0, summary.skipped);
+		assertEquals(0, summary.failed);
+		assertEquals(30, results.size());
+		Set<HederaAccountID> accounts = new HashSet<>();
+		for (Request request : requests) {
+			Result result = results.get(request.reference);
+			assertTrue(result.isCreated());
+			assertNotNull(result.receipt);
+			assertNull(result.error);
+			accounts.add(result.accountID);
+			assertEquals(10, (long) this.standIn.getState().getBalance(result.accountID.accountNum));
+		}
+		assertEquals(30, accounts.size());
+	}
+
+	@Test
+	@DisplayName("A rerun with the same checkpoint creates only the accounts not yet created")
+	void testResume() throws Exception {
+		List<Request> requests = requests(20);
+		Map<String, HederaAccountID> first = new ConcurrentHashMap<>();
+		provisioner().provision(requests.subList(0, 12).stream(), result -> first.put(result.reference, result.accountID));
+
+		Map<String, Result> second = new ConcurrentHashMap<>();
+		HederaAccountProvisioner.Summary summary = provisioner().provision(requests.stream(), result -> second.put(result.reference, result));
+
+		assertEquals(8, summary.created);
+		assertEquals(12, summary.skipped);
+		assertEquals(20, second.size());
+		for (Map.Entry<String, HederaAccountID> entry : first.entrySet()) {
+			Result result = second.get(entry.getKey());
+			assertEquals(entry.getValue(), result.accountID);
+			assertNull(result.receipt);
+		}
+	}
+
+	@Test
+	@DisplayName("Creates recorded as submitted by a stopped run are looked up, and only those known never to reach consensus are created again")
+	void testRecover() throws Exception {
+		// a create the stopped run sent, one it recorded but never sent which has since expired, one which hasn't
+		// expired yet and one expired so long ago its receipt may have been dropped
+		HederaTransactionID sentID = new HederaTransactionID(this.payer);
+		long now = sentID.transactionValidStart.seconds();
+		HederaAccount account = new HederaAccount();
+		account.accountKey = new HederaKey(KeyType.ED25519, new HederaCryptoKeyPair(KeyType.ED25519).getPublicKey());
+		account.initialBalance = 10;
+		HederaTransactionBody body = new HederaTransactionBody(account.bodyToSignForCreate(sentID, this.node.getAccountID(), 10
+				, new HederaDuration(120, 0), false, ""));
+		assertEquals(HederaPrecheckResult.OK, this.node.accountCreate(new HederaTransaction(body, new HederaSignatureList())).getPrecheckResult());
+		Files.write(this.checkpoint, Arrays.asList(submittedLine("sent", sentID)
+				, submittedLine("expired", new HederaTransactionID(this.payer, new HederaTimeStamp(now - 150, 0)))
+				, submittedLine("pending", new HederaTransactionID(this.payer, new HederaTimeStamp(now - 1, 0)))
+				, submittedLine("forgotten", new HederaTransactionID(this.payer, new HederaTimeStamp(now - 300, 0))))
+				, StandardCharsets.UTF_8);
+
+		// the never sent creates' receipts stay UNKNOWN, so a short timeout keeps the lookup brief
+		HederaReceiptTracker receiptTracker = new HederaReceiptTracker(10, 500, 16);
+		Map<String, Result> results = new ConcurrentHashMap<>();
+		HederaAccountProvisioner.Summary summary;
+		try {
+			Stream<Request> requests = Stream.of("sent", "expired", "pending", "forgotten")
+					.map(reference -> new Request(reference, KeyType.ED25519, new HederaCryptoKeyPair(KeyType.ED25519).getPublicKey(), 10, null));
+			summary = provisioner(receiptTracker).provision(requests, result -> results.put(result.reference, result));
+		} finally {
+			receiptTracker.shutdown();
+		}
+
+		assertEquals(1, summary.created);
+		assertEquals(1, summary.skipped);
+		assertEquals(0, summary.failed);
+		assertEquals(2, summary.unresolved);
+		// the sent create is handed back from its receipt rather than sent again
+		Result sent = results.get("sent");
+		assertNotNull(sent.accountID);
+		assertNull(sent.receipt);
+		Result expired = results.get("expired");
+		assertTrue(expired.isCreated());
+		assertTrue(!sent.accountID.equals(expired.accountID));
+		for (String reference : Arrays.asList("pending", "forgotten")) {
+			assertTrue(!results.get(reference).isCreated());
+			assertNotNull(results.get(reference).error);
+		}
+		assertEquals(2, this.standIn.getState().getTransactionCount());
+	}
+
+	@Test
+	@DisplayName("A create whose receipt isn't final in time stays submitted and isn't resent before it expires")
+	void testUnresolved() throws Exception {
+		this.standIn.receiptDelayMillis = 2000;
+		HederaReceiptTracker receiptTracker = new HederaReceiptTracker(10, 200, 16);
+		try {
+			List<Request> requests = requests(1);
+			HederaAccountProvisioner.Summary summary = provisioner(receiptTracker).provision(requests.stream(), null);
+			assertEquals(0, summary.created);
+			assertEquals(0, summary.failed);
+			assertEquals(1, summary.unresolved);
+			assertEquals(1, Files.readAllLines(this.checkpoint, StandardCharsets.UTF_8).size());
+
+			summary = provisioner(receiptTracker).provision(requests.stream(), null);
+			assertEquals(0, summary.created);
+			assertEquals(1, summary.unresolved);
+			assertEquals(1, this.standIn.getState().getTransactionCount());
+		} finally {
+			receiptTracker.shutdown();
+		}
+	}
+
+	private static String submittedLine(String reference, HederaTransactionID transactionID) {
+		return String.join(",", "S", reference, Long.toString(transactionID.accountID.shardNum), Long.toString(transactionID.accountID.realmNum)
+				, Long.toString(transactionID.accountID.accountNum), Long.toString(transactionID.transactionValidStart.seconds())
+				, Integer.toString(transactionID.transactionValidStart.nanos()), "120");
+	}
+
+	@Test
+	@DisplayName("Invalid and duplicate references are rejected")
+	void testReferences() throws Exception {
+		byte[] publicKey = new HederaCryptoKeyPair(KeyType.ED25519).getPublicKey();
+		assertThrows(IllegalStateException.class, () -> new Request("a,b", KeyType.ED25519, publicKey, 10, null));
+		assertThrows(IllegalStateException.class, () -> new Request("", KeyType.ED25519, publicKey, 10, null));
+
+		Request request = new Request("user", KeyType.ED25519, publicKey, 10, null);
+		HederaAccountProvisioner.Summary summary = provisioner().provision(Stream.of(request, request), null);
+		assertEquals(1, summary.created);
+		assertEquals(1, summary.failed);
+	}
+}
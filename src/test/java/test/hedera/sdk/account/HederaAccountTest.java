@@ -5,11 +5,16 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import com.hedera.sdk.account.HederaAccount;
+import com.hedera.sdk.account.HederaAccountAmount;
 import com.hedera.sdk.common.HederaAccountID;
 import com.hedera.sdk.common.HederaDuration;
 import com.hedera.sdk.common.HederaKey;
@@ -150,6 +155,49 @@ class HederaAccountTest {
 		assertEquals(30, body.getCryptoCreateAccount().getProxyAccountID().getAccountNum());
 		
 	}
+
+	@Test
+	@DisplayName("testHederaAccount-splitTransfers")
+	void test_splitTransfers() {
+		List<HederaAccountAmount> accountAmounts = new ArrayList<HederaAccountAmount>();
+		accountAmounts.add(new HederaAccountAmount(0, 0, 1, -250));
+		for (long accountNum = 100; accountNum < 125; accountNum++) {
+			accountAmounts.add(new HederaAccountAmount(0, 0, accountNum, 10));
+		}
+
+		List<ArrayList<HederaAccountAmount>> batches = HederaAccount.splitTransfers(accountAmounts, 10);
+		assertEquals(3, batches.size());
+		assertEquals(10, batches.get(0).size());
+		assertEquals(10, batches.get(1).size());
+		assertEquals(8, batches.get(2).size());
+		for (ArrayList<HederaAccountAmount> batch : batches) {
+			long total = 0;
+			for (HederaAccountAmount accountAmount : batch) {
+				total += accountAmount.amount;
+			}
+			assertEquals(0, total);
+			// the payer is debited once per batch
+			assertEquals(1, batch.get(0).accountNum);
+		}
+		assertEquals(-90, batches.get(0).get(0).amount);
+		assertEquals(-70, batches.get(2).get(0).amount);
+
+		// a large credit is split across debits and batches
+		accountAmounts = new ArrayList<HederaAccountAmount>();
+		accountAmounts.add(new HederaAccountAmount(0, 0, 1, -30));
+		accountAmounts.add(new HederaAccountAmount(0, 0, 2, -20));
+		accountAmounts.add(new HederaAccountAmount(0, 0, 3, 50));
+		batches = HederaAccount.splitTransfers(accountAmounts, 2);
+		assertEquals(2, batches.size());
+		assertEquals(30, batches.get(0).get(1).amount);
+		assertEquals(20, batches.get(1).get(1).amount);
+		assertEquals(1, HederaAccount.splitTransfers(accountAmounts, 3).size());
+
+		final List<HederaAccountAmount> unbalanced = new ArrayList<HederaAccountAmount>();
+		unbalanced.add(new HederaAccountAmount(0, 0, 1, -30));
+		unbalanced.add(new HederaAccountAmount(0, 0, 2, 20));
+		assertThrows(IllegalStateException.class, () -> HederaAccount.splitTransfers(unbalanced, 10));
+	}
 }
 
 //		public TransactionBody bodyToSignForTransfer(HederaTransactionID transactionID, HederaAccountID nodeAccount, 
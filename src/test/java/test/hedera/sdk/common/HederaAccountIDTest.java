@@ -1,6 +1,7 @@
 package test.hedera.sdk.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import com.hedera.sdk.common.HederaAccountID;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -35,4 +36,11 @@ class HederaAccountIDTest {
 		assertEquals(accountID1.realmNum, accountID2.realmNum);
 		assertEquals(accountID1.shardNum, accountID2.shardNum);
 	}
+	@Test
+	@DisplayName("Checking account ID equality")
+	void testAccountEquals() {
+		assertEquals(accountID1, accountID2);
+		assertEquals(accountID1.hashCode(), accountID2.hashCode());
+		assertNotEquals(accountID1, new HederaAccountID(1, 2, 4));
+	}
 }
@@ -9,11 +9,14 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import com.hedera.sdk.common.HederaKey.KeyType;
 import com.hedera.sdk.common.HederaKeySignature;
+import com.hedera.sdk.common.HederaKeySignatureList;
 import com.hedera.sdk.common.HederaKeySignatureThreshold;
 import com.hedera.sdk.common.HederaKeyUUIDDescription;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -250,5 +253,36 @@ class HederaKeySignatureThresholdTest {
 		HederaKeySignatureThreshold keySig = new HederaKeySignatureThreshold();
 		assertNotNull(keySig.JSONString());
 	}
-	
+
+	@Test
+	@DisplayName("HederaKeySignatureThreshold Sign with key pairs")
+	void HederaKeySignatureThresholdSignWithKeyPairs() throws Exception {
+		byte[] message = "body".getBytes();
+		HederaCryptoKeyPair key1 = new HederaCryptoKeyPair(KeyType.ED25519);
+		HederaCryptoKeyPair key2 = new HederaCryptoKeyPair(KeyType.ED25519);
+		HederaCryptoKeyPair key3 = new HederaCryptoKeyPair(KeyType.ECDSA384);
+		HederaCryptoKeyPair unused = new HederaCryptoKeyPair(KeyType.ED25519);
+		byte[] missingKey = new HederaCryptoKeyPair(KeyType.ED25519).getPublicKey();
+
+		// key1 appears twice, once nested in a list
+		List<HederaKeySignature> listSigs = new ArrayList<HederaKeySignature>();
+		listSigs.add(new HederaKeySignature(KeyType.ED25519, key1.getPublicKey(), null));
+		listSigs.add(new HederaKeySignature(KeyType.ECDSA384, key3.getPublicKey(), null));
+		List<HederaKeySignature> keySigs = new ArrayList<HederaKeySignature>();
+		keySigs.add(new HederaKeySignature(KeyType.ED25519, key1.getPublicKey(), null));
+		keySigs.add(new HederaKeySignature(KeyType.ED25519, key2.getPublicKey(), null));
+		keySigs.add(new HederaKeySignature(new HederaKeySignatureList(listSigs)));
+		keySigs.add(new HederaKeySignature(KeyType.ED25519, missingKey, null));
+		HederaKeySignatureThreshold threshold = new HederaKeySignatureThreshold(3, keySigs);
+
+		assertEquals(3, threshold.signWithKeyPairs(message, Arrays.asList(key1, key2, key3, unused, key1)));
+		assertTrue(key1.verifySignature(message, threshold.keySigPairs.get(0).getSignature()));
+		assertTrue(key2.verifySignature(message, threshold.keySigPairs.get(1).getSignature()));
+		assertTrue(key1.verifySignature(message, listSigs.get(0).getSignature()));
+		assertTrue(key3.verifySignature(message, listSigs.get(1).getSignature()));
+		assertNull(threshold.keySigPairs.get(3).getSignature());
+
+		// signed keys are left as they are
+		assertEquals(0, threshold.signWithKeyPairs(message, Arrays.asList(key1, key2, key3)));
+	}
 }
@@ -0,0 +1,45 @@
+package test.hedera.sdk.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaLatencyHistogram;
+
+class HederaLatencyHistogramTest {
+
+	@Test
+	@DisplayName("Histogram percentiles")
+	void testPercentiles() {
+		HederaLatencyHistogram histogram = new HederaLatencyHistogram();
+		assertEquals(0, histogram.percentile(50));
+
+		for (int millis = 1; millis <= 1000; millis++) {
+			histogram.record(millis);
+		}
+		assertEquals(1000, histogram.getCount());
+		long median = histogram.percentile(50);
+		long p99 = histogram.percentile(99);
+		// within a bucket's width of the exact value
+		assertTrue(median >= 500 && median <= 500 * 1.2, "median " + median);
+		assertTrue(p99 >= 990 && p99 <= 990 * 1.2, "p99 " + p99);
+		assertTrue(histogram.percentile(100) >= 1000);
+
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.percentile(50));
+	}
+
+	@Test
+	@DisplayName("Histogram decays old samples")
+	void testDecay() {
+		HederaLatencyHistogram histogram = new HederaLatencyHistogram();
+		for (long i = 0; i < HederaLatencyHistogram.DECAY_THRESHOLD; i++) {
+			histogram.record(100);
+		}
+		assertEquals(HederaLatencyHistogram.DECAY_THRESHOLD / 2, histogram.getCount());
+		assertTrue(histogram.percentile(50) >= 100);
+	}
+}
@@ -0,0 +1,89 @@
+package test.hedera.sdk.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaReceiptTracker;
+import com.hedera.sdk.common.HederaTimeStamp;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.common.HederaTransactionReceipt;
+import com.hedera.sdk.common.HederaTransactionStatus;
+import com.hedera.sdk.node.HederaNode;
+
+class HederaReceiptTrackerTest {
+
+	@Test
+	@DisplayName("Tracking the same transaction twice shares the future")
+	void testTrackTwice() throws InterruptedException {
+		HederaReceiptTracker tracker = new HederaReceiptTracker(10000, 60000, 1);
+		HederaNode node = new HederaNode("localhost", 50279, new HederaAccountID(0, 0, 3));
+		HederaTimeStamp start = new HederaTimeStamp();
+		HederaTransactionID transactionID = new HederaTransactionID(new HederaAccountID(0, 0, 2), start);
+		HederaTransactionID sameTransactionID = new HederaTransactionID(new HederaAccountID(0, 0, 2), new HederaTimeStamp(start.time));
+
+		CompletableFuture<HederaTransactionReceipt> future = tracker.track(transactionID, node);
+		assertSame(future, tracker.track(sameTransactionID, node));
+		assertEquals(1, tracker.getCount());
+
+		assertTrue(tracker.remove(sameTransactionID));
+		assertTrue(future.isCancelled());
+		assertEquals(0, tracker.getCount());
+		assertNull(tracker.getReceipt(transactionID));
+		assertFalse(tracker.remove(transactionID));
+
+		tracker.shutdown();
+		node.shutdown();
+	}
+
+	@Test
+	@DisplayName("Changing a transaction ID after tracking it doesn't lose the entry")
+	void testTrackedIDChanged() throws InterruptedException {
+		HederaReceiptTracker tracker = new HederaReceiptTracker(10000, 60000, 1);
+		HederaNode node = new HederaNode("localhost", 50279, new HederaAccountID(0, 0, 3));
+		HederaTimeStamp start = new HederaTimeStamp();
+		HederaTransactionID transactionID = new HederaTransactionID(new HederaAccountID(0, 0, 2), start);
+
+		CompletableFuture<HederaTransactionReceipt> future = tracker.track(transactionID, node);
+		transactionID.accountID = new HederaAccountID(0, 0, 5);
+		assertTrue(tracker.remove(new HederaTransactionID(new HederaAccountID(0, 0, 2), new HederaTimeStamp(start.time))));
+		assertTrue(future.isCancelled());
+		assertEquals(0, tracker.getCount());
+
+		tracker.shutdown();
+		node.shutdown();
+	}
+
+	@Test
+	@DisplayName("Tracking gives up once the timeout has elapsed")
+	void testTimeout() throws Exception {
+		HederaReceiptTracker tracker = new HederaReceiptTracker(20, 200, 2);
+		// nothing listens on this port, every query fails
+		HederaNode node = new HederaNode("localhost", 50278, new HederaAccountID(0, 0, 3));
+		HederaTransactionID transactionID = new HederaTransactionID(new HederaAccountID(0, 0, 2));
+
+		HederaTransactionReceipt receipt = tracker.track(transactionID, node).get(10, TimeUnit.SECONDS);
+		assertEquals(HederaTransactionStatus.NOTSET, receipt.transactionStatus);
+		assertEquals(0, tracker.getCount());
+
+		tracker.shutdown();
+		node.shutdown();
+	}
+
+	@Test
+	@DisplayName("Tracker settings are validated")
+	void testSettings() {
+		assertThrows(IllegalStateException.class, () -> new HederaReceiptTracker(0, 1, 1));
+		assertThrows(IllegalStateException.class, () -> new HederaReceiptTracker(1, 1, 0));
+	}
+}
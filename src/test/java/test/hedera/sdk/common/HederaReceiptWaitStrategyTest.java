@@ -0,0 +1,97 @@
+package test.hedera.sdk.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaReceiptWaitStrategy;
+import com.hedera.sdk.node.HederaNode;
+
+class HederaReceiptWaitStrategyTest {
+
+	@Test
+	@DisplayName("Receipt wait strategy follows recorded consensus latencies")
+	void testDelays() throws InterruptedException {
+		HederaReceiptWaitStrategy strategy = new HederaReceiptWaitStrategy(550, 10);
+		HederaNode node = new HederaNode("localhost", 50277, new HederaAccountID(0, 0, 3));
+		HederaNode otherNode = new HederaNode("localhost", 50276, new HederaAccountID(0, 0, 4));
+
+		// not enough samples yet
+		assertEquals(550, strategy.nextDelayMillis(node, 0));
+
+		for (int i = 1; i <= 100; i++) {
+			strategy.recordConsensus(node, 2000 + i * 10);
+		}
+		long first = strategy.nextDelayMillis(node, 0);
+		assertTrue(first >= 2250 && first <= 2250 * 1.2, "first " + first);
+		// later polls wait for the higher percentiles
+		long second = strategy.nextDelayMillis(node, first);
+		assertTrue(second > 0);
+		assertTrue(first + second <= 3000 * 1.2);
+		// past the tail, poll at the default interval
+		assertEquals(550, strategy.nextDelayMillis(node, 10000));
+
+		// other nodes are unaffected
+		assertEquals(550, strategy.nextDelayMillis(otherNode, 0));
+
+		node.shutdown();
+		otherNode.shutdown();
+	}
+
+	@Test
+	@DisplayName("Fixed interval receipt wait strategy")
+	void testFixedInterval() throws InterruptedException {
+		HederaReceiptWaitStrategy strategy = new HederaReceiptWaitStrategy(100);
+		HederaNode node = new HederaNode("localhost", 50275, new HederaAccountID(0, 0, 3));
+		for (int i = 1; i <= 100; i++) {
+			strategy.recordConsensus(node, 2000);
+		}
+		assertEquals(100, strategy.nextDelayMillis(node, 0));
+		node.shutdown();
+
+		assertThrows(IllegalStateException.class, () -> new HederaReceiptWaitStrategy(0));
+		assertThrows(IllegalStateException.class, () -> new HederaReceiptWaitStrategy(100, 0));
+	}
+
+	@Test
+	@DisplayName("Percentiles learnt from polling converge on the true consensus latency")
+	void testConvergence() throws InterruptedException {
+		for (long latency : new long[] {300, 2500}) {
+			HederaReceiptWaitStrategy strategy = new HederaReceiptWaitStrategy(550, 20);
+			HederaNode node = new HederaNode("localhost", 50274, new HederaAccountID(0, 0, 3));
+			long median = 0;
+			for (int i = 1; i <= 2000; i++) {
+				pollUntilConsensus(strategy, node, latency);
+				if (i == 1000) {
+					median = strategy.getHistogram(node).percentile(50);
+				}
+			}
+			// within a bucket's width above the true latency, and no longer moving
+			long finalMedian = strategy.getHistogram(node).percentile(50);
+			assertTrue(finalMedian >= latency && finalMedian <= latency * 1.2, "median " + finalMedian);
+			assertEquals(median, finalMedian);
+			assertTrue(strategy.getHistogram(node).percentile(25) >= latency * 0.7);
+			node.shutdown();
+		}
+	}
+
+	/**
+	 * polls as a receipt tracker would, for a transaction reaching consensus after latency milliseconds
+	 */
+	private static void pollUntilConsensus(HederaReceiptWaitStrategy strategy, HederaNode node, long latency) {
+		long pending = 0;
+		long elapsed = 0;
+		while (true) {
+			elapsed += strategy.nextDelayMillis(node, elapsed);
+			if (elapsed >= latency) {
+				strategy.recordConsensus(node, pending, elapsed);
+				return;
+			}
+			pending = elapsed;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package test.hedera.sdk.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.time.Instant;
 
@@ -29,5 +30,12 @@ class HederaTimeStampTest {
 	void testAccount() {
 		assertEquals(duration1.time, duration2.time);
 	}
-
+	@Test
+	@DisplayName("Checking timestamp equality")
+	void testTimeStampEquals() {
+		Instant now = Instant.now();
+		assertEquals(new HederaTimeStamp(now), new HederaTimeStamp(now));
+		assertEquals(new HederaTimeStamp(now).hashCode(), new HederaTimeStamp(now).hashCode());
+		assertNotEquals(new HederaTimeStamp(now), new HederaTimeStamp(now.plusNanos(1)));
+	}
 }
@@ -0,0 +1,84 @@
+package test.hedera.sdk.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaTimeStamp;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.common.HederaTransactionIDGenerator;
+
+class HederaTransactionIDGeneratorTest {
+
+	@Test
+	@DisplayName("Valid starts increase within a clock tick and follow the offset clock")
+	void testIncreasing() {
+		Clock clock = Clock.fixed(Instant.ofEpochSecond(1000, 999999999), ZoneOffset.UTC);
+		HederaTransactionIDGenerator generator = new HederaTransactionIDGenerator(clock, -10000);
+		HederaAccountID payer = new HederaAccountID(0, 0, 1001);
+
+		HederaTimeStamp first = generator.nextValidStart(payer);
+		assertEquals(990, first.seconds());
+		assertEquals(999999999, first.nanos());
+		// the next one rolls over into the next second
+		HederaTimeStamp second = generator.nextValidStart(payer);
+		assertEquals(991, second.seconds());
+		assertEquals(0, second.nanos());
+
+		// other payers have their own sequence
+		assertEquals(first, generator.nextValidStart(new HederaAccountID(0, 0, 1002)));
+
+		// changing the account ID passed in doesn't affect the sequence
+		payer.accountNum = 1003;
+		assertEquals(first, generator.nextValidStart(payer));
+		assertEquals(991, generator.next(new HederaAccountID(0, 0, 1001)).transactionValidStart.seconds());
+
+		generator.reset();
+		assertEquals(first, generator.nextValidStart(new HederaAccountID(0, 0, 1001)));
+	}
+
+	@Test
+	@DisplayName("IDs are unique across threads")
+	void testThreads() throws Exception {
+		HederaTransactionIDGenerator generator = new HederaTransactionIDGenerator();
+		HederaAccountID payer = new HederaAccountID(0, 0, 1001);
+		Set<HederaTransactionID> ids = ConcurrentHashMap.newKeySet();
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 10000; i++) {
+					ids.add(generator.next(payer));
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(40000, ids.size());
+	}
+
+	@Test
+	@DisplayName("Transaction IDs constructed for an account are distinct")
+	void testDefault() {
+		HederaAccountID payer = new HederaAccountID(0, 0, 1001);
+		HederaTransactionID first = new HederaTransactionID(payer);
+		HederaTransactionID second = new HederaTransactionID(payer);
+		assertNotEquals(first, second);
+		assertTrue(second.transactionValidStart.time.isAfter(first.transactionValidStart.time));
+		assertTrue(first.transactionValidStart.time.isBefore(Instant.now().minusSeconds(9)));
+	}
+}
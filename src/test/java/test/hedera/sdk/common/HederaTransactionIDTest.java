@@ -1,6 +1,7 @@
 package test.hedera.sdk.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import com.hedera.sdk.common.HederaAccountID;
 import com.hedera.sdk.common.HederaTimeStamp;
@@ -54,5 +55,13 @@ class HederaTransactionIDTest {
 		assertEquals(transId.accountID.shardNum, transProto.accountID.shardNum);
 		assertEquals(transId.transactionValidStart.time, transProto.transactionValidStart.time);
 	}
+	@Test
+	@DisplayName("TransactionID equality")
+	void transactionIDEquals() {
+		HederaTransactionID transId = new HederaTransactionID(accountID, timeStamp);
+		HederaTransactionID transProto = new HederaTransactionID(transId.getProtobuf());
+		assertEquals(transId, transProto);
+		assertEquals(transId.hashCode(), transProto.hashCode());
+		assertNotEquals(transId, new HederaTransactionID(new HederaAccountID(2, 3, 5), timeStamp));
+	}
 }
-
@@ -2,6 +2,7 @@ package test.hedera.sdk.cryptography;
 
 import java.util.Arrays;
 import org.junit.Assert;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeAll;
@@ -12,6 +13,7 @@ import java.util.List;
 import com.hedera.sdk.common.HederaKey.KeyType;
 import com.hedera.sdk.cryptography.CryptoUtils;
 import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.cryptography.HederaDerivedKeyCache;
 import com.hedera.sdk.cryptography.Reference;
 import com.hedera.sdk.cryptography.Seed;
 
@@ -77,4 +79,32 @@ class CryptoUtilsTest {
     Assert.assertArrayEquals(ecdsaPrivateKey3, ecdsaPrivateKey4);
 
   }
-}   
\ No newline at end of file
+
+  @Test
+  final void testDeriveKeys() {
+    byte[] seed1 = Hex.decode("cf831ccb83f7d1d6a0261e2a6f69552dbd452d7b3a8fb4f5f960e8aafcf0d32f");
+    byte[] seed2 = Hex.decode("aabbccdd11223344aabbccdd11223344aaaaaaaabbbbcc59aa2244116688bb22");
+
+    List<byte[]> derivedKeys = CryptoUtils.deriveKeys(seed1, 5, 20, 32);
+    Assert.assertEquals(20, derivedKeys.size());
+    for (int i = 0; i < derivedKeys.size(); i++) {
+      Assert.assertArrayEquals(CryptoUtils.deriveKey(seed1, 5 + i, 32), derivedKeys.get(i));
+    }
+
+    // a caller owned cache returns the same keys as copies, and tells seeds and lengths apart
+    HederaDerivedKeyCache cache = new HederaDerivedKeyCache(16);
+    Assert.assertEquals(derivedKeys.size(), CryptoUtils.deriveKeys(seed1, 5, 20, 32, cache).size());
+    Assert.assertEquals(16, cache.size());
+    byte[] derivedKey = CryptoUtils.deriveKey(seed1, 24, 32, cache);
+    Assert.assertArrayEquals(derivedKeys.get(19), derivedKey);
+    derivedKey[0]++;
+    Assert.assertArrayEquals(derivedKeys.get(19), CryptoUtils.deriveKey(seed1, 24, 32, cache));
+    Assert.assertFalse(Arrays.equals(derivedKeys.get(19), CryptoUtils.deriveKey(seed2, 24, 32, cache)));
+    Assert.assertEquals(48, CryptoUtils.deriveKey(seed1, 24, 48, cache).length);
+    cache.clear();
+    Assert.assertEquals(0, cache.size());
+
+    Assert.assertTrue(CryptoUtils.deriveKeys(seed1, 5, 0, 32).isEmpty());
+    assertThrows(IllegalStateException.class, () -> CryptoUtils.deriveKeys(seed1, 5, -1, 32));
+  }
+}
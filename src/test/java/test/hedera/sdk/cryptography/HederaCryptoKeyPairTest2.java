@@ -1,13 +1,24 @@
 package test.hedera.sdk.cryptography;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigInteger;
 import java.security.KeyPair;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.hedera.sdk.common.HederaKey.KeyType;
 import com.hedera.sdk.cryptography.CryptoUtils;
+import com.hedera.sdk.cryptography.ECKeyPair;
+import com.hedera.sdk.cryptography.EDKeyPair;
 import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -45,4 +56,86 @@ class HederaCryptoKeyPairTest2 {
 		byte[] deriveKey = CryptoUtils.deriveKey(seed, index, length);
 	}
 
+	@Test
+	final void testSignMessages() throws Exception {
+		for (KeyType keyType : new KeyType[] {KeyType.ED25519, KeyType.ECDSA384}) {
+			HederaCryptoKeyPair key = new HederaCryptoKeyPair(keyType, seed01);
+			List<byte[]> messages = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				messages.add(("message " + i).getBytes());
+			}
+			List<byte[]> signatures = key.signMessages(messages);
+			assertEquals(messages.size(), signatures.size());
+			for (int i = 0; i < messages.size(); i++) {
+				// both schemes sign deterministically, so a batch gives the same signatures as one at a time
+				assertArrayEquals(key.signMessage(messages.get(i)), signatures.get(i));
+				assertTrue(key.verifySignature(messages.get(i), signatures.get(i)));
+			}
+		}
+	}
+
+	@Test
+	final void testSignConcurrently() throws Exception {
+		HederaCryptoKeyPair otherPair = new HederaCryptoKeyPair(KeyType.ED25519);
+		byte[] message = "message".getBytes();
+		byte[] firstSignature = firstPair.signMessage(message);
+		byte[] otherSignature = otherPair.signMessage(message);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				// alternate keys, so that each thread's engine is used with both
+				HederaCryptoKeyPair key = (i % 2 == 0) ? firstPair : otherPair;
+				byte[] expected = (i % 2 == 0) ? firstSignature : otherSignature;
+				results.add(executor.submit(() -> Arrays.equals(expected, key.signMessage(message)) && key.verifySignature(message, expected)));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	final void testVerifyAll() throws Exception {
+		HederaCryptoKeyPair otherPair = new HederaCryptoKeyPair(KeyType.ED25519);
+		List<byte[]> publicKeys = new ArrayList<>();
+		List<byte[]> messages = new ArrayList<>();
+		List<byte[]> signatures = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			HederaCryptoKeyPair key = (i % 2 == 0) ? firstPair : otherPair;
+			byte[] message = ("message " + i).getBytes();
+			publicKeys.add(key.getPublicKey());
+			messages.add(message);
+			signatures.add(key.signMessage(message));
+		}
+		// a signature by the wrong key, a tampered message and a malformed signature
+		signatures.set(7, firstPair.signMessage(messages.get(7)));
+		messages.set(20, "tampered".getBytes());
+		signatures.set(33, new byte[10]);
+
+		boolean[] valid = EDKeyPair.verifyAll(publicKeys, messages, signatures);
+		for (int i = 0; i < valid.length; i++) {
+			assertEquals(i != 7 && i != 20 && i != 33, valid[i]);
+			assertEquals(valid[i], EDKeyPair.verify(publicKeys.get(i), messages.get(i), signatures.get(i)));
+		}
+	}
+
+	@Test
+	final void testECDSAPrecomputation() throws Exception {
+		BigInteger privateKey = new BigInteger(1, seed01);
+		// the precomputed comb gives the same point as plain multiplication of the generator
+		assertEquals(ECKeyPair.CURVE.getG().multiply(privateKey).normalize(), ECKeyPair.publicPointFromPrivate(privateKey).normalize());
+
+		ECKeyPair key = ECKeyPair.fromPrivate(seed01);
+		byte[] message = "message".getBytes();
+		ECKeyPair.ECDSASignature signature = ECKeyPair.ECDSASignature.decodeFromDER(key.signMessage(message));
+		byte[] digest = CryptoUtils.sha384Digest(message);
+		for (int i = 0; i < 3; i++) {
+			// the first call decodes the key, later ones use the cached point
+			assertTrue(ECKeyPair.verify(digest, signature, key.getPublicKey()));
+			assertFalse(ECKeyPair.verify(CryptoUtils.sha384Digest("other".getBytes()), signature, key.getPublicKey()));
+		}
+	}
 }
@@ -0,0 +1,66 @@
+package test.hedera.sdk.cryptography;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.cryptography.HederaKeyPairGenerator;
+
+class HederaKeyPairGeneratorTest {
+
+	@Test
+	@DisplayName("Generated key pairs are distinct and usable")
+	void testGenerate() throws Exception {
+		for (KeyType keyType : new KeyType[] {KeyType.ED25519, KeyType.ECDSA384}) {
+			Queue<HederaCryptoKeyPair> keyPairs = new ConcurrentLinkedQueue<>();
+			new HederaKeyPairGenerator(keyType).generate(20, keyPairs::add);
+
+			assertEquals(20, keyPairs.size());
+			Set<ByteBuffer> publicKeys = new HashSet<>();
+			byte[] message = "message".getBytes();
+			for (HederaCryptoKeyPair keyPair : keyPairs) {
+				assertEquals(keyType, keyPair.getKeyType());
+				publicKeys.add(ByteBuffer.wrap(keyPair.getPublicKey()));
+				assertTrue(keyPair.verifySignature(message, keyPair.signMessage(message)));
+			}
+			assertEquals(20, publicKeys.size());
+		}
+		assertThrows(IllegalStateException.class, () -> new HederaKeyPairGenerator(KeyType.RSA3072));
+	}
+
+	@Test
+	@DisplayName("Key pairs written to a file can be read back")
+	void testWriteTo() throws Exception {
+		Path file = Files.createTempFile("keys", ".csv");
+		try {
+			new HederaKeyPairGenerator(KeyType.ED25519).writeTo(file, 10);
+
+			List<String> lines = Files.readAllLines(file);
+			assertEquals(10, lines.size());
+			byte[] message = "message".getBytes();
+			for (String line : lines) {
+				String[] fields = line.split(",");
+				assertEquals(3, fields.length);
+				HederaCryptoKeyPair keyPair = new HederaCryptoKeyPair(KeyType.valueOf(fields[0]), fields[1], fields[2]);
+				assertEquals(fields[1], keyPair.getPublicKeyEncodedHex());
+				assertTrue(keyPair.verifySignature(message, keyPair.signMessage(message)));
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
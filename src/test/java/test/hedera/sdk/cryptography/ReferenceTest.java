@@ -180,4 +180,27 @@ class ReferenceTest {
     byte[] result = reference.toBytes();
     System.out.println(Arrays.toString(result));
   }
-}
\ No newline at end of file
+
+  @Test
+  void testWordListIndex() {
+    for (int i = 0; i < WordList.words.size(); i++) {
+      assertEquals(i, WordList.indexOf(WordList.words.get(i)));
+    }
+    assertEquals(-1, WordList.indexOf("notaword"));
+    assertEquals(-1, WordList.indexOf("ABACK"));
+  }
+
+  @Test
+  void testValidateWords() {
+    String ed25519Words = "embark port duly poetry front verity quote lake toast Austin pig far pink clergy allied still injury night canine frenzy gamma heel";
+    String ecdsaWords = new Reference(Hex.decode(ecdsaSeedHex)).toWords();
+    // swapping two words changes the data, so fails the checksum
+    String swapped = ed25519Words.replace("embark port", "port embark");
+    String unknownWord = ed25519Words.replace("embark", "notaword");
+    String tooShort = ed25519Words.replace("embark ", "");
+
+    boolean[] valid = Reference.validateWords(Arrays.asList(ed25519Words, ecdsaWords, swapped, unknownWord, tooShort));
+    assertEquals("[true, true, false, false, false]", Arrays.toString(valid));
+    assertEquals(true, Reference.isValidWords(ed25519Words));
+  }
+}
@@ -0,0 +1,40 @@
+package test.hedera.sdk.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.node.HederaBackoffRetryPolicy;
+
+class HederaBackoffRetryPolicyTest {
+
+	@Test
+	@DisplayName("Backoff delays stay within bounds")
+	void testDelays() {
+		HederaBackoffRetryPolicy policy = new HederaBackoffRetryPolicy(100, 2000);
+		long previous = 0;
+		for (int attempt = 1; attempt < 100; attempt++) {
+			long delay = policy.nextDelayMillis(attempt, 100, previous);
+			assertTrue(delay >= 100);
+			assertTrue(delay <= Math.min(Math.max(previous, 100) * 3, 2000));
+			previous = delay;
+		}
+	}
+
+	@Test
+	@DisplayName("Backoff stops after max attempts")
+	void testMaxAttempts() {
+		HederaBackoffRetryPolicy policy = new HederaBackoffRetryPolicy(2, 1000);
+		assertTrue(policy.nextDelayMillis(1, 10, 0) >= 0);
+		assertEquals(-1, policy.nextDelayMillis(2, 10, 10));
+
+		// a base delay above the cap is capped
+		assertEquals(1000, policy.nextDelayMillis(1, 5000, 0));
+
+		assertThrows(IllegalStateException.class, () -> new HederaBackoffRetryPolicy(0, 1000));
+		assertThrows(IllegalStateException.class, () -> new HederaBackoffRetryPolicy(1, -1));
+	}
+}
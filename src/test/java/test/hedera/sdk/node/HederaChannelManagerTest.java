@@ -0,0 +1,61 @@
+package test.hedera.sdk.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.node.HederaChannelManager;
+import com.hedera.sdk.node.HederaChannelSettings;
+import com.hedera.sdk.node.HederaNode;
+
+class HederaChannelManagerTest {
+
+	@Test
+	@DisplayName("Nodes with the same host and port share a channel")
+	void testSharedChannel() throws InterruptedException {
+		HederaNode node1 = new HederaNode("localhost", 50299, new HederaAccountID(0, 0, 3));
+		HederaNode node2 = new HederaNode("localhost", 50299, new HederaAccountID(0, 0, 3));
+		HederaNode node3 = new HederaNode("localhost", 50298, new HederaAccountID(0, 0, 4));
+		assertEquals(2, HederaChannelManager.getReferenceCount("localhost", 50299));
+		assertEquals(1, HederaChannelManager.getReferenceCount("localhost", 50298));
+
+		node1.shutdown();
+		assertEquals(1, HederaChannelManager.getReferenceCount("localhost", 50299));
+		// shutting down twice doesn't release twice
+		node1.shutdown();
+		assertEquals(1, HederaChannelManager.getReferenceCount("localhost", 50299));
+
+		node2.shutdown();
+		node3.shutdown();
+		assertEquals(0, HederaChannelManager.getReferenceCount("localhost", 50299));
+		assertEquals(0, HederaChannelManager.getReferenceCount("localhost", 50298));
+	}
+
+	@Test
+	@DisplayName("Changing a node's port moves it to another channel")
+	void testSetPort() throws InterruptedException {
+		HederaNode node = new HederaNode("localhost", 50297);
+		assertEquals(1, HederaChannelManager.getReferenceCount("localhost", 50297));
+		node.setPort(50296);
+		assertEquals(0, HederaChannelManager.getReferenceCount("localhost", 50297));
+		assertEquals(1, HederaChannelManager.getReferenceCount("localhost", 50296));
+		node.shutdown();
+		assertEquals(0, HederaChannelManager.getReferenceCount("localhost", 50296));
+	}
+
+	@Test
+	@DisplayName("Invalid channel settings are rejected")
+	void testSettings() {
+		assertThrows(IllegalStateException.class, () -> HederaChannelManager.setSettings(null));
+		HederaChannelSettings settings = new HederaChannelSettings();
+		settings.subChannels = 0;
+		assertThrows(IllegalStateException.class, () -> HederaChannelManager.setSettings(settings));
+
+		// the manager keeps its own copy, so changing one handed out can't bypass validation
+		HederaChannelManager.getSettings().subChannels = 0;
+		assertEquals(1, HederaChannelManager.getSettings().subChannels);
+	}
+}
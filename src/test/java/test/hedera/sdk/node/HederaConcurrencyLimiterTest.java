@@ -0,0 +1,75 @@
+package test.hedera.sdk.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.node.HederaConcurrencyLimiter;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+class HederaConcurrencyLimiterTest {
+
+	@Test
+	@DisplayName("Limit grows on success and shrinks on BUSY")
+	void testAimd() throws InterruptedException {
+		HederaConcurrencyLimiter limiter = new HederaConcurrencyLimiter(4, 1, 10, 0.5, 10, 0);
+		// a full window of successes grows the limit by one
+		for (int i = 0; i < 4; i++) {
+			limiter.acquire();
+			limiter.onSuccess();
+		}
+		assertEquals(4, limiter.getLimit());
+		limiter.acquire();
+		limiter.onSuccess();
+		assertEquals(5, limiter.getLimit());
+
+		limiter.acquire();
+		limiter.onBusy();
+		assertEquals(2, limiter.getLimit());
+		assertEquals(0, limiter.getInFlight());
+
+		// never below the minimum
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire();
+			limiter.onBusy();
+		}
+		assertEquals(1, limiter.getLimit());
+	}
+
+	@Test
+	@DisplayName("Requests over the limit are queued or rejected")
+	void testQueue() throws InterruptedException {
+		HederaConcurrencyLimiter limiter = new HederaConcurrencyLimiter(1, 1, 1, 0.5, 1, 0);
+		limiter.acquire();
+		StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> limiter.acquire());
+		assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+
+		CompletableFuture<Void> queued = limiter.acquireAsync();
+		assertFalse(queued.isDone());
+		assertEquals(1, limiter.getQueued());
+		assertTrue(limiter.acquireAsync().isCompletedExceptionally());
+
+		// the released slot goes to the queued request
+		limiter.onSuccess();
+		assertTrue(queued.isDone());
+		assertEquals(1, limiter.getInFlight());
+		limiter.onFailure();
+		assertEquals(0, limiter.getInFlight());
+	}
+
+	@Test
+	@DisplayName("Limiter settings are validated")
+	void testSettings() {
+		assertThrows(IllegalStateException.class, () -> new HederaConcurrencyLimiter(0, 0, 10, 0.5, 10, 0));
+		assertThrows(IllegalStateException.class, () -> new HederaConcurrencyLimiter(20, 1, 10, 0.5, 10, 0));
+		assertThrows(IllegalStateException.class, () -> new HederaConcurrencyLimiter(5, 1, 10, 1, 10, 0));
+	}
+}
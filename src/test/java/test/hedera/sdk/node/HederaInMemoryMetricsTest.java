@@ -0,0 +1,77 @@
+package test.hedera.sdk.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaTransactionStatus;
+import com.hedera.sdk.node.HederaInMemoryMetrics;
+import com.hedera.sdk.node.HederaNode;
+import com.hedera.sdk.node.HederaNodeMetrics;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+class HederaInMemoryMetricsTest {
+
+	@Test
+	@DisplayName("Node metrics default to no-op")
+	void testDefault() {
+		HederaNode node = new HederaNode("localhost", 50285, new HederaAccountID(0, 0, 3));
+		assertSame(HederaNodeMetrics.NONE, node.getMetrics());
+
+		HederaInMemoryMetrics metrics = new HederaInMemoryMetrics();
+		node.setMetrics(metrics);
+		assertSame(metrics, node.getMetrics());
+		node.setMetrics(null);
+		assertSame(HederaNodeMetrics.NONE, node.getMetrics());
+		node.shutdown();
+	}
+
+	@Test
+	@DisplayName("Requests, responses and failures are counted")
+	void testCounters() {
+		HederaNode node = new HederaNode("localhost", 50285, new HederaAccountID(0, 0, 3));
+		HederaInMemoryMetrics metrics = new HederaInMemoryMetrics();
+		assertNull(metrics.snapshot(node, "createAccount"));
+
+		metrics.onRequest(node, "createAccount", 100);
+		metrics.onResponse(node, "createAccount", 10, HederaPrecheckResult.BUSY, 20);
+		metrics.onRetry(node, "createAccount", 50);
+		metrics.onRequest(node, "createAccount", 100);
+		metrics.onResponse(node, "createAccount", 30, HederaPrecheckResult.OK, 20);
+		metrics.onRequest(node, "createAccount", 100);
+		metrics.onFailure(node, "createAccount", 5, new StatusRuntimeException(Status.UNAVAILABLE));
+		metrics.onRequest(node, "createAccount", 100);
+
+		HederaInMemoryMetrics.Snapshot snapshot = metrics.snapshot(node, "createAccount");
+		assertEquals("localhost:50285", snapshot.node);
+		assertEquals(4, snapshot.requests);
+		assertEquals(2, snapshot.responses);
+		assertEquals(1, snapshot.failures);
+		assertEquals(1, snapshot.retries);
+		assertEquals(1, snapshot.inFlight);
+		assertEquals(400, snapshot.bytesSent);
+		assertEquals(40, snapshot.bytesReceived);
+		assertEquals(1, (long) snapshot.outcomes.get("BUSY"));
+		assertEquals(1, (long) snapshot.outcomes.get("OK"));
+		assertEquals(1, (long) snapshot.outcomes.get("UNAVAILABLE"));
+		assertEquals(12, snapshot.latencyP50Millis);
+		assertEquals(32, snapshot.latencyP99Millis);
+
+		metrics.onReceipt(node, 3000, HederaTransactionStatus.SUCCESS);
+		HederaInMemoryMetrics.Snapshot receipts = metrics.snapshot(node, HederaInMemoryMetrics.RECEIPT);
+		assertEquals(1, receipts.responses);
+		assertEquals(1, (long) receipts.outcomes.get("SUCCESS"));
+		assertEquals(2, metrics.snapshot().size());
+
+		metrics.reset();
+		assertEquals(0, metrics.snapshot().size());
+		node.shutdown();
+	}
+}
@@ -0,0 +1,82 @@
+package test.hedera.sdk.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaTransactionAndQueryDefaults;
+import com.hedera.sdk.node.HederaNetwork;
+import com.hedera.sdk.node.HederaNode;
+
+class HederaNetworkTest {
+
+	@Test
+	@DisplayName("Network from properties")
+	void testFromProperties() throws InterruptedException {
+		Properties properties = new Properties();
+		properties.setProperty("nodeaddress", "localhost");
+		properties.setProperty("nodeport", "50289");
+		properties.setProperty("nodeAccountShard", "0");
+		properties.setProperty("nodeAccountRealm", "0");
+		properties.setProperty("nodeAccountNum", "3");
+		properties.setProperty("node.1.address", "localhost");
+		properties.setProperty("node.1.port", "50288");
+		properties.setProperty("node.1.accountNum", "4");
+
+		HederaNetwork network = HederaNetwork.fromProperties(properties);
+		assertEquals(2, network.getNodes().size());
+		assertEquals(50289, network.getNodes().get(0).getPort());
+		assertEquals(3, network.getNodes().get(0).getAccountID().accountNum);
+		assertEquals(50288, network.getNodes().get(1).getPort());
+		assertEquals(4, network.getNodes().get(1).getAccountID().accountNum);
+		network.shutdown();
+	}
+
+	@Test
+	@DisplayName("Network picks the least loaded node")
+	void testPickNode() throws InterruptedException {
+		HederaNetwork network = new HederaNetwork();
+		assertThrows(IllegalStateException.class, () -> network.pickNode());
+
+		HederaNode fast = new HederaNode("localhost", 50287, new HederaAccountID(0, 0, 3));
+		HederaNode slow = new HederaNode("localhost", 50287, new HederaAccountID(0, 0, 4));
+		network.addNode(fast);
+		assertSame(fast, network.pickNode());
+
+		network.addNode(slow);
+		fast.getLoad().start();
+		fast.getLoad().end(10, false);
+		slow.getLoad().start();
+		slow.getLoad().end(1000, false);
+		for (int i = 0; i < 10; i++) {
+			assertSame(fast, network.pickNode());
+		}
+
+		// a node without an account ID can't be added
+		assertThrows(IllegalStateException.class, () -> network.addNode(new HederaNode()));
+		network.shutdown();
+	}
+
+	@Test
+	@DisplayName("Defaults pick a node from the network")
+	void testDefaultsGetNode() throws InterruptedException {
+		HederaTransactionAndQueryDefaults txQueryDefaults = new HederaTransactionAndQueryDefaults();
+		HederaNode node = new HederaNode("localhost", 50286, new HederaAccountID(0, 0, 3));
+		txQueryDefaults.node = node;
+		assertSame(node, txQueryDefaults.getNode());
+
+		HederaNode other = new HederaNode("localhost", 50286, new HederaAccountID(0, 0, 5));
+		txQueryDefaults.network = new HederaNetwork();
+		txQueryDefaults.network.addNode(other);
+		assertSame(other, txQueryDefaults.getNode());
+
+		node.shutdown();
+		txQueryDefaults.network.shutdown();
+	}
+}
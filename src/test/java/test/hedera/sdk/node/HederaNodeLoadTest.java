@@ -0,0 +1,75 @@
+package test.hedera.sdk.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.node.HederaNodeLoad;
+
+class HederaNodeLoadTest {
+
+	@Test
+	@DisplayName("Node load moving averages")
+	void testAverages() {
+		HederaNodeLoad load = new HederaNodeLoad();
+		assertEquals(0, load.score(), 0);
+
+		load.start();
+		assertEquals(1, load.getInFlight());
+		assertEquals(1, load.score(), 0);
+		load.end(100, false);
+		assertEquals(0, load.getInFlight());
+		assertEquals(100, load.getLatencyMillis(), 0);
+		assertEquals(0, load.getBusyRate(), 0);
+		assertEquals(100, load.score(), 0);
+
+		load.start();
+		load.end(200, true);
+		assertEquals(100 + HederaNodeLoad.DECAY * 100, load.getLatencyMillis(), 0.0001);
+		assertEquals(HederaNodeLoad.DECAY, load.getBusyRate(), 0.0001);
+		assertEquals(2, load.getSamples());
+
+		load.start();
+		load.fail();
+		assertEquals(0, load.getInFlight());
+		assertEquals(2, load.getSamples());
+	}
+
+	@Test
+	@DisplayName("Node load score")
+	void testScore() {
+		HederaNodeLoad idle = new HederaNodeLoad();
+		idle.start();
+		idle.end(100, false);
+
+		HederaNodeLoad queued = new HederaNodeLoad();
+		queued.start();
+		queued.end(100, false);
+		queued.start();
+		assertTrue(queued.score() > idle.score());
+
+		HederaNodeLoad busy = new HederaNodeLoad();
+		busy.start();
+		busy.end(100, true);
+		assertTrue(busy.score() > idle.score());
+	}
+
+	@Test
+	@DisplayName("Requests in flight count against a node whose responses are too quick to time")
+	void testSubMillisecond() {
+		HederaNodeLoad load = new HederaNodeLoad();
+		load.start();
+		load.endNanos(250_000, false);
+		assertEquals(0.25, load.getLatencyMillis(), 0.0001);
+
+		HederaNodeLoad instant = new HederaNodeLoad();
+		instant.start();
+		instant.endNanos(0, false);
+		double idle = instant.score();
+		assertTrue(idle > 0);
+		instant.start();
+		assertTrue(instant.score() > idle);
+	}
+}
@@ -0,0 +1,36 @@
+package test.hedera.sdk.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.node.HederaRetryBudget;
+
+class HederaRetryBudgetTest {
+
+	@Test
+	@DisplayName("Retry budget is spent by BUSY responses and refilled by successes")
+	void testBudget() {
+		HederaRetryBudget budget = new HederaRetryBudget(4, 0.5);
+		assertEquals(4, budget.getTokens(), 0);
+		assertTrue(budget.recordBusy());
+		// 2 tokens left, no more than half
+		assertFalse(budget.recordBusy());
+		assertFalse(budget.recordBusy());
+
+		budget.recordSuccess();
+		budget.recordSuccess();
+		budget.recordSuccess();
+		budget.recordSuccess();
+		assertEquals(3, budget.getTokens(), 0);
+		assertFalse(budget.recordBusy());
+
+		for (int i = 0; i < 20; i++) {
+			budget.recordSuccess();
+		}
+		assertEquals(4, budget.getTokens(), 0);
+	}
+}
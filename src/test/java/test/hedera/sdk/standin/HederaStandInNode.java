@@ -0,0 +1,231 @@
+package test.hedera.sdk.standin;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.node.HederaNode;
+import com.hederahashgraph.api.proto.java.NodeTransactionPrecheckCode;
+import com.hederahashgraph.api.proto.java.Response;
+import com.hederahashgraph.api.proto.java.ResponseHeader;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import com.hederahashgraph.api.proto.java.TransactionResponse;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * An in process stand in for a Hedera node, for load tests and benchmarks which shouldn't depend on a network
+ * it serves the crypto, file and smart contract services on an ephemeral local port, keeping accounts, files and
+ * contracts in a {@link HederaStandInState}. Signatures and fees are not checked.
+ * Responses can be delayed by latencyMillis, answered BUSY with busyProbability or for the next few requests
+ * with {@link #busyNext(int)}, and receipts report UNKNOWN until receiptDelayMillis after submission.
+ * Queries the stand in doesn't implement are answered NOT_SUPPORTED.
+ * <pre>
+ * HederaStandInNode standIn = new HederaStandInNode().start();
+ * HederaNode node = standIn.newNode();
+ * ...
+ * standIn.shutdown();
+ * </pre>
+ */
+public class HederaStandInNode {
+	final static Logger logger = LoggerFactory.getLogger(HederaStandInNode.class);
+
+	/**
+	 * the time taken to answer every request in milliseconds
+	 */
+	public volatile long latencyMillis = 0;
+	/**
+	 * the probability of answering a request BUSY, between 0 and 1
+	 */
+	public volatile double busyProbability = 0;
+	/**
+	 * the time from submitting a transaction until its receipt is available in milliseconds
+	 */
+	public volatile long receiptDelayMillis = 0;
+
+	private final HederaAccountID accountID;
+	private final HederaStandInState state = new HederaStandInState();
+	private final AtomicInteger busyResponses = new AtomicInteger();
+	private final ScheduledExecutorService scheduler;
+	private Server server = null;
+
+	/**
+	 * Creates a stand in node with account 0.0.3
+	 */
+	public HederaStandInNode() {
+		this(new HederaAccountID(0, 0, 3));
+	}
+
+	/**
+	 * Creates a stand in node
+	 * @param accountID the node's {@link HederaAccountID}
+	 */
+	public HederaStandInNode(HederaAccountID accountID) {
+		this.accountID = accountID;
+		this.scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+			Thread thread = new Thread(runnable, "hedera-standin-responder");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts serving on an ephemeral port
+	 * @return this node
+	 * @throws IOException if the server can't be started
+	 */
+	public synchronized HederaStandInNode start() throws IOException {
+		if (this.server == null) {
+			this.server = ServerBuilder.forPort(0)
+					.addService(new StandInCryptoService(this))
+					.addService(new StandInFileService(this))
+					.addService(new StandInSmartContractService(this))
+					.build()
+					.start();
+			logger.info("Stand in node listening on port {}", this.server.getPort());
+		}
+		return this;
+	}
+
+	/**
+	 * Stops serving and waits up to 5 seconds for requests in progress
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public synchronized void shutdown() throws InterruptedException {
+		if (this.server != null) {
+			this.server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+			this.server = null;
+		}
+		this.scheduler.shutdownNow();
+	}
+
+	/**
+	 * @return the port the node is listening on
+	 * @throws IllegalStateException if the node hasn't been started
+	 */
+	public synchronized int getPort() {
+		if (this.server == null) {
+			throw new IllegalStateException("Stand in node not started");
+		}
+		return this.server.getPort();
+	}
+
+	/**
+	 * Creates a {@link HederaNode} connecting to this stand in
+	 * @return {@link HederaNode}
+	 */
+	public HederaNode newNode() {
+		return new HederaNode("localhost", getPort(), this.accountID);
+	}
+
+	/**
+	 * @return the node's {@link HederaAccountID}
+	 */
+	public HederaAccountID getAccountID() {
+		return this.accountID;
+	}
+
+	/**
+	 * @return the {@link HederaStandInState} holding accounts, files, contracts and receipts
+	 */
+	public HederaStandInState getState() {
+		return this.state;
+	}
+
+	/**
+	 * Answers the next requests BUSY, whatever busyProbability is
+	 * @param count the number of requests to answer BUSY
+	 */
+	public void busyNext(int count) {
+		this.busyResponses.addAndGet(count);
+	}
+
+	/**
+	 * Handles a transaction, recording its receipt unless it is BUSY, a duplicate or of the wrong type
+	 * @param request the transaction
+	 * @param observer the caller's observer
+	 * @param isType tests whether the body is of the type the RPC handles
+	 * @param apply applies the body to the state and returns its receipt
+	 */
+	void transaction(Transaction request, StreamObserver<TransactionResponse> observer
+			, Predicate<TransactionBody> isType, Function<TransactionBody, TransactionReceipt> apply) {
+		NodeTransactionPrecheckCode precheck;
+		TransactionBody body = request.getBody();
+		if (isBusy()) {
+			precheck = NodeTransactionPrecheckCode.BUSY;
+		} else if (!body.hasTransactionID() || !isType.test(body)) {
+			precheck = NodeTransactionPrecheckCode.INVALID_TRANSACTION;
+		} else if (!this.state.submit(body.getTransactionID(), () -> apply.apply(body))) {
+			precheck = NodeTransactionPrecheckCode.DUPLICATE;
+		} else {
+			precheck = NodeTransactionPrecheckCode.OK;
+		}
+		respond(observer, TransactionResponse.newBuilder().setNodeTransactionPrecheckCode(precheck).build());
+	}
+
+	/**
+	 * Handles a query
+	 * @param observer the caller's observer
+	 * @param answer builds the response given an OK header, a BUSY header is passed instead when the node is busy
+	 */
+	void query(StreamObserver<Response> observer, Function<ResponseHeader, Response> answer) {
+		NodeTransactionPrecheckCode precheck = isBusy() ? NodeTransactionPrecheckCode.BUSY : NodeTransactionPrecheckCode.OK;
+		respond(observer, answer.apply(header(precheck)));
+	}
+
+	TransactionReceipt getReceipt(TransactionID transactionID) {
+		return this.state.getReceipt(transactionID, this.receiptDelayMillis);
+	}
+
+	static ResponseHeader header(NodeTransactionPrecheckCode precheck) {
+		return ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(precheck).build();
+	}
+
+	/**
+	 * Turns an OK header into NOT_SUPPORTED, leaving BUSY as it is
+	 */
+	static ResponseHeader notSupported(ResponseHeader header) {
+		return isOK(header) ? header(NodeTransactionPrecheckCode.NOT_SUPPORTED) : header;
+	}
+
+	static boolean isOK(ResponseHeader header) {
+		return header.getNodeTransactionPrecheckCode() == NodeTransactionPrecheckCode.OK;
+	}
+
+	private boolean isBusy() {
+		if (this.busyResponses.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+			return true;
+		}
+		double probability = this.busyProbability;
+		return (probability > 0) && (ThreadLocalRandom.current().nextDouble() < probability);
+	}
+
+	private <T> void respond(StreamObserver<T> observer, T response) {
+		long latency = this.latencyMillis;
+		if (latency <= 0) {
+			complete(observer, response);
+		} else {
+			// answer from the scheduler so that latency doesn't hold up the server's threads
+			this.scheduler.schedule(() -> complete(observer, response), latency, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private static <T> void complete(StreamObserver<T> observer, T response) {
+		observer.onNext(response);
+		observer.onCompleted();
+	}
+}
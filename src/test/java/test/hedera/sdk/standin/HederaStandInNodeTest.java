@@ -0,0 +1,130 @@
+package test.hedera.sdk.standin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.account.HederaAccount;
+import com.hedera.sdk.account.HederaAccountAmount;
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaReceiptWaitStrategy;
+import com.hedera.sdk.common.HederaSignatureList;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.common.HederaTransactionReceipt;
+import com.hedera.sdk.common.HederaTransactionStatus;
+import com.hedera.sdk.common.Utilities;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaBackoffRetryPolicy;
+import com.hedera.sdk.node.HederaNode;
+import com.hedera.sdk.transaction.HederaTransaction;
+import com.hedera.sdk.transaction.HederaTransactionBody;
+import com.hedera.sdk.transaction.HederaTransactionBody.TransactionType;
+import com.hedera.sdk.transaction.HederaTransactionResult;
+
+class HederaStandInNodeTest {
+	private HederaStandInNode standIn;
+	private HederaNode node;
+
+	@BeforeEach
+	void start() throws Exception {
+		this.standIn = new HederaStandInNode().start();
+		this.node = this.standIn.newNode();
+		this.node.setRetryPolicy(new HederaBackoffRetryPolicy(5, 50));
+		this.standIn.getState().setBalance(1001, 1000);
+		this.standIn.getState().setBalance(1002, 0);
+	}
+
+	@AfterEach
+	void stop() throws Exception {
+		this.node.shutdown();
+		this.standIn.shutdown();
+	}
+
+	@Test
+	@DisplayName("Transfers are applied and their receipt delayed")
+	void testTransfer() throws Exception {
+		this.standIn.receiptDelayMillis = 100;
+		HederaTransaction transaction = transfer(100);
+		HederaTransactionResult result = this.node.accountTransfer(transaction);
+		assertEquals(HederaPrecheckResult.OK, result.getPrecheckResult());
+		assertEquals(900, (long) this.standIn.getState().getBalance(1001));
+		assertEquals(100, (long) this.standIn.getState().getBalance(1002));
+
+		HederaTransactionID transactionID = transaction.body.transactionId;
+		HederaTransactionReceipt receipt = Utilities.getReceipt(transactionID, this.node, new HederaReceiptWaitStrategy(20), 20);
+		assertEquals(HederaTransactionStatus.SUCCESS, receipt.transactionStatus);
+
+		// the same transaction again is a duplicate
+		assertEquals(HederaPrecheckResult.DUPLICATE, this.node.accountTransfer(transaction).getPrecheckResult());
+		assertEquals(1, this.standIn.getState().getTransactionCount());
+	}
+
+	@Test
+	@DisplayName("Overdrafts fail with FAIL_BALANCE")
+	void testOverdraft() throws Exception {
+		HederaTransaction transaction = transfer(5000);
+		assertEquals(HederaPrecheckResult.OK, this.node.accountTransfer(transaction).getPrecheckResult());
+		HederaTransactionReceipt receipt = Utilities.getReceipt(transaction.body.transactionId, this.node, new HederaReceiptWaitStrategy(20), 5);
+		assertEquals(HederaTransactionStatus.FAIL_BALANCE, receipt.transactionStatus);
+		assertEquals(1000, (long) this.standIn.getState().getBalance(1001));
+	}
+
+	@Test
+	@DisplayName("BUSY responses are retried by the node")
+	void testBusy() throws Exception {
+		this.standIn.busyNext(2);
+		this.standIn.latencyMillis = 5;
+		assertEquals(HederaPrecheckResult.OK, this.node.accountTransfer(transfer(10)).getPrecheckResult());
+		assertEquals(990, (long) this.standIn.getState().getBalance(1001));
+	}
+
+	@Test
+	@DisplayName("Batches of payments are sent in one transfer")
+	void testSendBatch() throws Exception {
+		HederaAccount account = new HederaAccount();
+		account.txQueryDefaults.node = this.node;
+		account.txQueryDefaults.payingAccountID = new HederaAccountID(0, 0, 1001);
+		account.txQueryDefaults.payingKeyPair = new HederaCryptoKeyPair(KeyType.ED25519);
+		account.txQueryDefaults.transactionValidDuration = new HederaDuration(120, 0);
+
+		Map<HederaAccountID, Long> payments = new LinkedHashMap<HederaAccountID, Long>();
+		for (long accountNum = 2001; accountNum <= 2009; accountNum++) {
+			this.standIn.getState().setBalance(accountNum, 0);
+			payments.put(new HederaAccountID(0, 0, accountNum), accountNum - 2000);
+		}
+		List<HederaTransactionResult> results = account.sendBatch(payments);
+		assertEquals(1, results.size());
+		assertEquals(HederaPrecheckResult.OK, results.get(0).getPrecheckResult());
+		assertEquals(1000 - 45, (long) this.standIn.getState().getBalance(1001));
+		assertEquals(9, (long) this.standIn.getState().getBalance(2009));
+	}
+
+	private HederaTransaction transfer(long amount) {
+		HederaAccountID payer = new HederaAccountID(0, 0, 1001);
+		ArrayList<HederaAccountAmount> accountAmounts = new ArrayList<HederaAccountAmount>();
+		accountAmounts.add(new HederaAccountAmount(payer, -amount));
+		accountAmounts.add(new HederaAccountAmount(new HederaAccountID(0, 0, 1002), amount));
+
+		HederaTransactionBody body = new HederaTransactionBody(
+				TransactionType.CRYPTOTRANSFER
+				, new HederaTransactionID(payer)
+				, this.standIn.getAccountID()
+				, 10
+				, new HederaDuration(120, 0)
+				, false
+				, "stand in"
+				, new HederaAccount().getTransferTransactionBody(accountAmounts));
+		return new HederaTransaction(body, new HederaSignatureList());
+	}
+}
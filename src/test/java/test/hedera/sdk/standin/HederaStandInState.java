@@ -0,0 +1,183 @@
+package test.hedera.sdk.standin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import com.hederahashgraph.api.proto.java.TransactionStatus;
+import com.hederahashgraph.api.proto.java.TransferList;
+
+/**
+ * The in memory ledger of a {@link HederaStandInNode}
+ * accounts hold a balance, files their contents and contracts their bytecode, all in shard 0 realm 0.
+ * Transaction fees are not charged. Each transaction's receipt is held from the moment it is submitted and
+ * reports UNKNOWN until the node's receipt delay has passed.
+ */
+public class HederaStandInState {
+	private final ConcurrentMap<AccountID, Long> accounts = new ConcurrentHashMap<>();
+	private final ConcurrentMap<FileID, ByteString> files = new ConcurrentHashMap<>();
+	private final ConcurrentMap<ContractID, ByteString> contracts = new ConcurrentHashMap<>();
+	private final ConcurrentMap<TransactionID, Submitted> receipts = new ConcurrentHashMap<>();
+	private final AtomicLong nextEntityNum = new AtomicLong(1001);
+
+	private static final class Submitted {
+		final long submittedNanos;
+		final TransactionReceipt receipt;
+
+		Submitted(long submittedNanos, TransactionReceipt receipt) {
+			this.submittedNanos = submittedNanos;
+			this.receipt = receipt;
+		}
+	}
+
+	/**
+	 * Creates or replaces an account
+	 * @param accountNum the account number, in shard 0 realm 0
+	 * @param balance the balance in tinybars
+	 */
+	public void setBalance(long accountNum, long balance) {
+		this.accounts.put(accountID(accountNum), balance);
+	}
+
+	/**
+	 * Gets an account's balance
+	 * @param accountNum the account number, in shard 0 realm 0
+	 * @return the balance in tinybars, null if the account doesn't exist
+	 */
+	public Long getBalance(long accountNum) {
+		return this.accounts.get(accountID(accountNum));
+	}
+
+	/**
+	 * @return the number of transactions submitted
+	 */
+	public int getTransactionCount() {
+		return this.receipts.size();
+	}
+
+	/**
+	 * Discards all accounts, files, contracts and receipts
+	 */
+	public void clear() {
+		this.accounts.clear();
+		this.files.clear();
+		this.contracts.clear();
+		this.receipts.clear();
+	}
+
+	Long balanceOf(AccountID accountID) {
+		return this.accounts.get(accountID);
+	}
+
+	ByteString getFile(FileID fileID) {
+		return this.files.get(fileID);
+	}
+
+	ByteString getBytecode(ContractID contractID) {
+		return this.contracts.get(contractID);
+	}
+
+	/**
+	 * Applies a submitted transaction and records its receipt, unless a transaction with the same ID was already submitted
+	 * @return false for a duplicate
+	 */
+	boolean submit(TransactionID transactionID, Supplier<TransactionReceipt> apply) {
+		boolean[] applied = {false};
+		this.receipts.computeIfAbsent(transactionID, id -> {
+			applied[0] = true;
+			return new Submitted(System.nanoTime(), apply.get());
+		});
+		return applied[0];
+	}
+
+	/**
+	 * Gets a transaction's receipt, UNKNOWN until receiptDelayMillis have passed since it was submitted
+	 */
+	TransactionReceipt getReceipt(TransactionID transactionID, long receiptDelayMillis) {
+		Submitted submitted = this.receipts.get(transactionID);
+		if ((submitted == null) || (System.nanoTime() - submitted.submittedNanos < receiptDelayMillis * 1000000)) {
+			return TransactionReceipt.newBuilder().setStatus(TransactionStatus.UNKNOWN).build();
+		}
+		return submitted.receipt;
+	}
+
+	TransactionReceipt createAccount(long initialBalance) {
+		AccountID accountID = accountID(this.nextEntityNum.getAndIncrement());
+		this.accounts.put(accountID, initialBalance);
+		return success().setAccountID(accountID).build();
+	}
+
+	/**
+	 * Applies a transfer atomically, either every amount is applied or none is
+	 */
+	synchronized TransactionReceipt transfer(TransferList transfers) {
+		Map<AccountID, Long> balances = new HashMap<>();
+		long total = 0;
+		for (AccountAmount accountAmount : transfers.getAccountAmountsList()) {
+			AccountID accountID = accountAmount.getAccountID();
+			Long balance = balances.containsKey(accountID) ? balances.get(accountID) : this.accounts.get(accountID);
+			if (balance == null) {
+				return status(TransactionStatus.FAIL_INVALID);
+			}
+			balances.put(accountID, balance + accountAmount.getAmount());
+			total += accountAmount.getAmount();
+		}
+		if (total != 0) {
+			return status(TransactionStatus.FAIL_INVALID);
+		}
+		for (Long balance : balances.values()) {
+			if (balance < 0) {
+				return status(TransactionStatus.FAIL_BALANCE);
+			}
+		}
+		this.accounts.putAll(balances);
+		return success().build();
+	}
+
+	TransactionReceipt createFile(ByteString contents) {
+		FileID fileID = FileID.newBuilder().setFileNum(this.nextEntityNum.getAndIncrement()).build();
+		this.files.put(fileID, contents);
+		return success().setFileID(fileID).build();
+	}
+
+	TransactionReceipt updateFile(FileID fileID, ByteString contents, boolean append) {
+		ByteString previous = this.files.computeIfPresent(fileID, (id, existing) -> append ? existing.concat(contents) : contents);
+		return (previous == null) ? status(TransactionStatus.FAIL_INVALID) : success().build();
+	}
+
+	TransactionReceipt deleteFile(FileID fileID) {
+		return (this.files.remove(fileID) == null) ? status(TransactionStatus.FAIL_INVALID) : success().build();
+	}
+
+	TransactionReceipt createContract(FileID bytecodeFileID) {
+		ByteString bytecode = this.files.get(bytecodeFileID);
+		if (bytecode == null) {
+			return status(TransactionStatus.FAIL_INVALID);
+		}
+		ContractID contractID = ContractID.newBuilder().setContractNum(this.nextEntityNum.getAndIncrement()).build();
+		this.contracts.put(contractID, bytecode);
+		return success().setContractID(contractID).build();
+	}
+
+	static TransactionReceipt.Builder success() {
+		return TransactionReceipt.newBuilder().setStatus(TransactionStatus.SUCCESS);
+	}
+
+	static TransactionReceipt status(TransactionStatus status) {
+		return TransactionReceipt.newBuilder().setStatus(status).build();
+	}
+
+	private static AccountID accountID(long accountNum) {
+		return AccountID.newBuilder().setAccountNum(accountNum).build();
+	}
+}
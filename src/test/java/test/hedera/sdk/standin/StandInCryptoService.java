@@ -0,0 +1,100 @@
+package test.hedera.sdk.standin;
+
+import com.hederahashgraph.api.proto.java.CryptoGetAccountBalanceQuery;
+import com.hederahashgraph.api.proto.java.CryptoGetAccountBalanceResponse;
+import com.hederahashgraph.api.proto.java.CryptoGetAccountRecordsResponse;
+import com.hederahashgraph.api.proto.java.CryptoGetInfoResponse;
+import com.hederahashgraph.api.proto.java.NodeTransactionPrecheckCode;
+import com.hederahashgraph.api.proto.java.Query;
+import com.hederahashgraph.api.proto.java.Response;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionGetReceiptResponse;
+import com.hederahashgraph.api.proto.java.TransactionGetRecordResponse;
+import com.hederahashgraph.api.proto.java.TransactionResponse;
+import com.hederahashgraph.service.proto.java.CryptoServiceGrpc;
+
+import io.grpc.stub.StreamObserver;
+
+/**
+ * The crypto service of a {@link HederaStandInNode}
+ * accounts can be created, transferred between and have their balance queried, receipts are served for every
+ * transaction the node has accepted. Account updates and claims are accepted without effect.
+ */
+class StandInCryptoService extends CryptoServiceGrpc.CryptoServiceImplBase {
+	private final HederaStandInNode node;
+
+	StandInCryptoService(HederaStandInNode node) {
+		this.node = node;
+	}
+
+	@Override
+	public void createAccount(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasCryptoCreateAccount()
+				, body -> this.node.getState().createAccount(body.getCryptoCreateAccount().getInitialBalance()));
+	}
+
+	@Override
+	public void updateAccount(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasCryptoUpdateAccount()
+				, body -> HederaStandInState.success().build());
+	}
+
+	@Override
+	public void cryptoTransfer(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasCryptoTransfer()
+				, body -> this.node.getState().transfer(body.getCryptoTransfer().getTransfers()));
+	}
+
+	@Override
+	public void addClaim(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasCryptoAddClaim()
+				, body -> HederaStandInState.success().build());
+	}
+
+	@Override
+	public void cryptoGetBalance(Query request, StreamObserver<Response> responseObserver) {
+		CryptoGetAccountBalanceQuery query = request.getCryptogetAccountBalance();
+		this.node.query(responseObserver, header -> {
+			CryptoGetAccountBalanceResponse.Builder balance = CryptoGetAccountBalanceResponse.newBuilder()
+					.setAccountID(query.getAccountID());
+			Long amount = this.node.getState().balanceOf(query.getAccountID());
+			if (!HederaStandInNode.isOK(header)) {
+				balance.setHeader(header);
+			} else if (amount == null) {
+				balance.setHeader(HederaStandInNode.header(NodeTransactionPrecheckCode.INVALID_ACCOUNT));
+			} else {
+				balance.setHeader(header).setBalance(amount);
+			}
+			return Response.newBuilder().setCryptogetAccountBalance(balance).build();
+		});
+	}
+
+	@Override
+	public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+		this.node.query(responseObserver, header -> {
+			TransactionGetReceiptResponse.Builder receipt = TransactionGetReceiptResponse.newBuilder().setHeader(header);
+			if (HederaStandInNode.isOK(header)) {
+				receipt.setReceipt(this.node.getReceipt(request.getTransactionGetReceipt().getTransactionID()));
+			}
+			return Response.newBuilder().setTransactionGetReceipt(receipt).build();
+		});
+	}
+
+	@Override
+	public void getAccountInfo(Query request, StreamObserver<Response> responseObserver) {
+		this.node.query(responseObserver, header -> Response.newBuilder()
+				.setCryptoGetInfo(CryptoGetInfoResponse.newBuilder().setHeader(HederaStandInNode.notSupported(header))).build());
+	}
+
+	@Override
+	public void getAccountRecords(Query request, StreamObserver<Response> responseObserver) {
+		this.node.query(responseObserver, header -> Response.newBuilder()
+				.setCryptoGetAccountRecords(CryptoGetAccountRecordsResponse.newBuilder().setHeader(HederaStandInNode.notSupported(header))).build());
+	}
+
+	@Override
+	public void getTxRecordByTxID(Query request, StreamObserver<Response> responseObserver) {
+		this.node.query(responseObserver, header -> Response.newBuilder()
+				.setTransactionGetRecord(TransactionGetRecordResponse.newBuilder().setHeader(HederaStandInNode.notSupported(header))).build());
+	}
+}
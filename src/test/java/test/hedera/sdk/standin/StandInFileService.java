@@ -0,0 +1,80 @@
+package test.hedera.sdk.standin;
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.FileGetContentsQuery;
+import com.hederahashgraph.api.proto.java.FileGetContentsResponse;
+import com.hederahashgraph.api.proto.java.FileGetInfoResponse;
+import com.hederahashgraph.api.proto.java.FileUpdateTransactionBody;
+import com.hederahashgraph.api.proto.java.NodeTransactionPrecheckCode;
+import com.hederahashgraph.api.proto.java.Query;
+import com.hederahashgraph.api.proto.java.Response;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionResponse;
+import com.hederahashgraph.service.proto.java.FileServiceGrpc;
+
+import io.grpc.stub.StreamObserver;
+
+/**
+ * The file service of a {@link HederaStandInNode}
+ * files can be created, appended to, updated, deleted and have their contents queried.
+ */
+class StandInFileService extends FileServiceGrpc.FileServiceImplBase {
+	private final HederaStandInNode node;
+
+	StandInFileService(HederaStandInNode node) {
+		this.node = node;
+	}
+
+	@Override
+	public void createFile(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasFileCreate()
+				, body -> this.node.getState().createFile(body.getFileCreate().getContents()));
+	}
+
+	@Override
+	public void appendContent(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasFileAppend()
+				, body -> this.node.getState().updateFile(body.getFileAppend().getFileID(), body.getFileAppend().getContents(), true));
+	}
+
+	@Override
+	public void updateFile(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasFileUpdate(), body -> {
+			FileUpdateTransactionBody update = body.getFileUpdate();
+			// an update without contents only changes the file's other properties
+			boolean keepContents = update.getContents().isEmpty();
+			return this.node.getState().updateFile(update.getFileID(), keepContents ? ByteString.EMPTY : update.getContents(), keepContents);
+		});
+	}
+
+	@Override
+	public void deleteFile(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasFileDelete()
+				, body -> this.node.getState().deleteFile(body.getFileDelete().getFileID()));
+	}
+
+	@Override
+	public void getFileContent(Query request, StreamObserver<Response> responseObserver) {
+		FileGetContentsQuery query = request.getFileGetContents();
+		this.node.query(responseObserver, header -> {
+			FileGetContentsResponse.Builder contents = FileGetContentsResponse.newBuilder();
+			ByteString file = this.node.getState().getFile(query.getFileID());
+			if (!HederaStandInNode.isOK(header)) {
+				contents.setHeader(header);
+			} else if (file == null) {
+				contents.setHeader(HederaStandInNode.header(NodeTransactionPrecheckCode.INVALID_TRANSACTION));
+			} else {
+				contents.setHeader(header).setFileContents(FileGetContentsResponse.FileContents.newBuilder()
+						.setFileID(query.getFileID())
+						.setContents(file));
+			}
+			return Response.newBuilder().setFileGetContents(contents).build();
+		});
+	}
+
+	@Override
+	public void getFileInfo(Query request, StreamObserver<Response> responseObserver) {
+		this.node.query(responseObserver, header -> Response.newBuilder()
+				.setFileGetInfo(FileGetInfoResponse.newBuilder().setHeader(HederaStandInNode.notSupported(header))).build());
+	}
+}
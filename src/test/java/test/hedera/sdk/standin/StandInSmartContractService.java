@@ -0,0 +1,82 @@
+package test.hedera.sdk.standin;
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+import com.hederahashgraph.api.proto.java.ContractGetBytecodeQuery;
+import com.hederahashgraph.api.proto.java.ContractGetBytecodeResponse;
+import com.hederahashgraph.api.proto.java.ContractGetInfoResponse;
+import com.hederahashgraph.api.proto.java.GetBySolidityIDResponse;
+import com.hederahashgraph.api.proto.java.NodeTransactionPrecheckCode;
+import com.hederahashgraph.api.proto.java.Query;
+import com.hederahashgraph.api.proto.java.Response;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionResponse;
+import com.hederahashgraph.service.proto.java.SmartContractServiceGrpc;
+
+import io.grpc.stub.StreamObserver;
+
+/**
+ * The smart contract service of a {@link HederaStandInNode}
+ * contracts can be created from a file holding their bytecode, which can then be queried.
+ * Contracts aren't executed, calls and updates are accepted without effect.
+ */
+class StandInSmartContractService extends SmartContractServiceGrpc.SmartContractServiceImplBase {
+	private final HederaStandInNode node;
+
+	StandInSmartContractService(HederaStandInNode node) {
+		this.node = node;
+	}
+
+	@Override
+	public void createContract(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasContractCreateInstance()
+				, body -> this.node.getState().createContract(body.getContractCreateInstance().getFileID()));
+	}
+
+	@Override
+	public void updateContract(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasContractUpdateInstance()
+				, body -> HederaStandInState.success().build());
+	}
+
+	@Override
+	public void contractCallMethod(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+		this.node.transaction(request, responseObserver, body -> body.hasContractCall()
+				, body -> HederaStandInState.success().build());
+	}
+
+	@Override
+	public void contractGetBytecode(Query request, StreamObserver<Response> responseObserver) {
+		ContractGetBytecodeQuery query = request.getContractGetBytecode();
+		this.node.query(responseObserver, header -> {
+			ContractGetBytecodeResponse.Builder bytecode = ContractGetBytecodeResponse.newBuilder();
+			ByteString contract = this.node.getState().getBytecode(query.getContractID());
+			if (!HederaStandInNode.isOK(header)) {
+				bytecode.setHeader(header);
+			} else if (contract == null) {
+				bytecode.setHeader(HederaStandInNode.header(NodeTransactionPrecheckCode.INVALID_TRANSACTION));
+			} else {
+				bytecode.setHeader(header).setBytecode(contract);
+			}
+			return Response.newBuilder().setContractGetBytecodeResponse(bytecode).build();
+		});
+	}
+
+	@Override
+	public void contractCallLocalMethod(Query request, StreamObserver<Response> responseObserver) {
+		this.node.query(responseObserver, header -> Response.newBuilder()
+				.setContractCallLocal(ContractCallLocalResponse.newBuilder().setHeader(HederaStandInNode.notSupported(header))).build());
+	}
+
+	@Override
+	public void getContractInfo(Query request, StreamObserver<Response> responseObserver) {
+		this.node.query(responseObserver, header -> Response.newBuilder()
+				.setContractGetInfo(ContractGetInfoResponse.newBuilder().setHeader(HederaStandInNode.notSupported(header))).build());
+	}
+
+	@Override
+	public void getBySolidityID(Query request, StreamObserver<Response> responseObserver) {
+		this.node.query(responseObserver, header -> Response.newBuilder()
+				.setGetBySolidityID(GetBySolidityIDResponse.newBuilder().setHeader(HederaStandInNode.notSupported(header))).build());
+	}
+}
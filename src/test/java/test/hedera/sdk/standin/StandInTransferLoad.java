@@ -0,0 +1,108 @@
+package test.hedera.sdk.standin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaKeySignatureList;
+import com.hedera.sdk.common.HederaLatencyHistogram;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaInMemoryMetrics;
+import com.hedera.sdk.node.HederaNode;
+import com.hedera.sdk.transaction.HederaTransaction;
+import com.hedera.sdk.transaction.HederaTransactionBody;
+import com.hedera.sdk.transaction.HederaTransactionBodyTemplate;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+/**
+ * Sustains a target rate of crypto transfers against an in process {@link HederaStandInNode}
+ * the stand in counterpart of the TransferLoadGenerator example, for measuring the SDK's own overhead
+ * without a network; run from the test classpath.
+ * usage: StandInTransferLoad tps seconds accounts
+ * Transfers are scheduled open loop and latency is measured from the time each was due to be sent.
+ */
+public final class StandInTransferLoad {
+	final static Logger logger = LoggerFactory.getLogger(StandInTransferLoad.class);
+
+	private static final long INITIAL_BALANCE = 100000000;
+
+	public static void main(String... arguments) throws Exception {
+		if (arguments.length < 3) {
+			logger.info("usage: StandInTransferLoad tps seconds accounts");
+			return;
+		}
+		int tps = Integer.parseInt(arguments[0]);
+		int seconds = Integer.parseInt(arguments[1]);
+		int accounts = Integer.parseInt(arguments[2]);
+		if ((tps <= 0) || (seconds <= 0) || (accounts < 2)) {
+			throw new IllegalStateException("tps and seconds must be greater than 0, accounts at least 2");
+		}
+
+		HederaStandInNode standIn = new HederaStandInNode().start();
+		HederaNode node = standIn.newNode();
+		HederaInMemoryMetrics metrics = new HederaInMemoryMetrics();
+		node.setMetrics(metrics);
+		List<HederaAccountID> accountIDs = new ArrayList<>();
+		List<HederaCryptoKeyPair> accountKeys = new ArrayList<>();
+		for (int i = 0; i < accounts; i++) {
+			long accountNum = 1001 + i;
+			standIn.getState().setBalance(accountNum, INITIAL_BALANCE);
+			accountIDs.add(new HederaAccountID(0, 0, accountNum));
+			accountKeys.add(new HederaCryptoKeyPair(KeyType.ED25519));
+		}
+		HederaTransactionBodyTemplate template = new HederaTransactionBodyTemplate(node.getAccountID(), 10, new HederaDuration(120, 0), false, "load");
+		HederaLatencyHistogram submitLatency = new HederaLatencyHistogram();
+		LongAdder notOk = new LongAdder();
+
+		try {
+			List<CompletableFuture<?>> transfers = new ArrayList<>();
+			long total = (long) tps * seconds;
+			long periodNanos = TimeUnit.SECONDS.toNanos(1) / tps;
+			long start = System.nanoTime();
+			for (long i = 0; i < total; i++) {
+				long due = start + i * periodNanos;
+				long wait = due - System.nanoTime();
+				if (wait > 0) {
+					LockSupport.parkNanos(wait);
+				}
+				int from = (int) (i % accounts);
+				HederaAccountID fromAccountID = accountIDs.get(from);
+				HederaCryptoKeyPair fromKey = accountKeys.get(from);
+				TransactionBody body = template.transferBody(new HederaTransactionID(fromAccountID), fromAccountID
+						, accountIDs.get((from + 1) % accounts), 1);
+				HederaKeySignatureList sigs = new HederaKeySignatureList();
+				byte[] signature = fromKey.signMessage(body.toByteArray());
+				sigs.addKeySignaturePair(fromKey.getKeyType(), fromKey.getPublicKey(), signature);
+				sigs.addKeySignaturePair(fromKey.getKeyType(), fromKey.getPublicKey(), signature);
+				transfers.add(node.accountTransferAsync(new HederaTransaction(new HederaTransactionBody(body), sigs))
+						.whenComplete((result, error) -> {
+							submitLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - due));
+							if ((error != null) || (result.getPrecheckResult() != HederaPrecheckResult.OK)) {
+								notOk.increment();
+							}
+						}));
+			}
+			CompletableFuture.allOf(transfers.toArray(new CompletableFuture<?>[0])).handle((result, error) -> null).join();
+			logger.info("Sent {} transfers in {}ms, {} not OK", total, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), notOk.sum());
+			logger.info("Submit latency: p50={}ms p90={}ms p99={}ms", submitLatency.percentile(50), submitLatency.percentile(90)
+					, submitLatency.percentile(99));
+			for (HederaInMemoryMetrics.Snapshot snapshot : metrics.snapshot()) {
+				logger.info("{}", snapshot);
+			}
+		} finally {
+			node.shutdown();
+			standIn.shutdown();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package test.hedera.sdk.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import com.hedera.sdk.account.HederaAccount;
+import com.hedera.sdk.account.HederaAccountAmount;
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaTimeStamp;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.contract.HederaContract;
+import com.hedera.sdk.transaction.HederaTransactionBody;
+import com.hedera.sdk.transaction.HederaTransactionBody.TransactionType;
+import com.hedera.sdk.transaction.HederaTransactionBodyTemplate;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HederaTransactionBodyTemplateTest {
+	private final HederaAccountID nodeAccount = new HederaAccountID(0, 0, 3);
+	private final HederaAccountID fromAccount = new HederaAccountID(0, 0, 1001);
+	private final HederaAccountID toAccount = new HederaAccountID(0, 0, 1002);
+	private final HederaDuration validDuration = new HederaDuration(120, 0);
+	private final HederaTransactionID transactionID = new HederaTransactionID(this.fromAccount, new HederaTimeStamp(1000, 5));
+
+	@Test
+	@DisplayName("Transfer bodies match those built by HederaAccount")
+	void testTransfer() {
+		HederaTransactionBodyTemplate template = new HederaTransactionBodyTemplate(this.nodeAccount, 10, this.validDuration, true, "memo");
+
+		ArrayList<HederaAccountAmount> accountAmounts = new ArrayList<HederaAccountAmount>();
+		accountAmounts.add(new HederaAccountAmount(this.fromAccount, -100));
+		accountAmounts.add(new HederaAccountAmount(this.toAccount, 100));
+		TransactionBody expected = new HederaAccount().bodyToSignForTransfer(this.transactionID, this.nodeAccount, 10
+				, this.validDuration, true, "memo", accountAmounts);
+
+		assertArrayEquals(expected.toByteArray(), template.transferBody(this.transactionID, accountAmounts).toByteArray());
+		assertArrayEquals(expected.toByteArray(), template.transferBody(this.transactionID, this.fromAccount, this.toAccount, 100).toByteArray());
+	}
+
+	@Test
+	@DisplayName("Contract call bodies match those built by HederaContract")
+	void testContractCall() {
+		HederaTransactionBodyTemplate template = new HederaTransactionBodyTemplate(this.nodeAccount, 10, this.validDuration, false, "memo");
+		HederaContract contract = new HederaContract();
+
+		TransactionBody expected = contract.bodyToSignForCall(this.transactionID, this.nodeAccount, 10, this.validDuration, false, "memo");
+		assertArrayEquals(expected.toByteArray(), template.contractCallBody(this.transactionID, contract.getCallTransactionBody()).toByteArray());
+	}
+
+	@Test
+	@DisplayName("Templates match the values they were built from")
+	void testMatches() {
+		HederaTransactionBodyTemplate template = new HederaTransactionBodyTemplate(this.nodeAccount, 10, this.validDuration, false, "memo");
+
+		assertTrue(template.matches(new HederaAccountID(0, 0, 3), 10, new HederaDuration(120, 0), false, "memo"));
+		assertFalse(template.matches(new HederaAccountID(0, 0, 4), 10, this.validDuration, false, "memo"));
+		assertFalse(template.matches(this.nodeAccount, 11, this.validDuration, false, "memo"));
+		assertFalse(template.matches(this.nodeAccount, 10, new HederaDuration(60, 0), false, "memo"));
+		assertFalse(template.matches(this.nodeAccount, 10, this.validDuration, true, "memo"));
+		assertFalse(template.matches(this.nodeAccount, 10, this.validDuration, false, "other"));
+
+		// changing the node account the template was built from doesn't change the template
+		HederaAccountID node = new HederaAccountID(0, 0, 5);
+		template = new HederaTransactionBodyTemplate(node, 10, this.validDuration, false, "memo");
+		node.accountNum = 6;
+		assertEquals(5, template.getNodeAccount().accountNum);
+	}
+
+	@Test
+	@DisplayName("A body built from a protobuf builds the same protobuf, and reflects changes to its fields")
+	void testBodyFromProtobuf() {
+		HederaTransactionBodyTemplate template = new HederaTransactionBodyTemplate(this.nodeAccount, 10, this.validDuration, false, "memo");
+		TransactionBody protobuf = template.transferBody(this.transactionID, this.fromAccount, this.toAccount, 100);
+
+		HederaTransactionBody body = new HederaTransactionBody(protobuf);
+		assertEquals(protobuf, body.getProtobuf());
+		assertArrayEquals(protobuf.toByteArray(), body.getProtobuf().toByteArray());
+		assertEquals(TransactionType.CRYPTOTRANSFER, body.transactionType);
+		assertEquals(this.transactionID, body.transactionId);
+		assertEquals(3, body.nodeAccount.accountNum);
+		assertEquals(10, body.transactionFee);
+		assertEquals("memo", body.memo);
+
+		body.memo = "changed";
+		body.transactionFee = 20;
+		assertEquals("changed", body.getProtobuf().getMemo());
+		assertEquals(20, body.getProtobuf().getTransactionFee());
+		assertEquals(protobuf.getCryptoTransfer(), body.getProtobuf().getCryptoTransfer());
+	}
+}
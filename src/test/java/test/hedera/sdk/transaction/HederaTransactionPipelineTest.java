@@ -0,0 +1,149 @@
+package test.hedera.sdk.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaReceiptTracker;
+import com.hedera.sdk.common.HederaTimeStamp;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.common.HederaTransactionReceipt;
+import com.hedera.sdk.common.HederaTransactionStatus;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaNetwork;
+import com.hedera.sdk.node.HederaNode;
+import com.hedera.sdk.transaction.HederaPipelineSettings;
+import com.hedera.sdk.transaction.HederaTransactionBodyTemplate;
+import com.hedera.sdk.transaction.HederaTransactionPipeline;
+
+import test.hedera.sdk.standin.HederaStandInNode;
+
+class HederaTransactionPipelineTest {
+	private final HederaAccountID payer = new HederaAccountID(0, 0, 1001);
+	private final HederaAccountID payee = new HederaAccountID(0, 0, 1002);
+	private final List<HederaCryptoKeyPair> keys = Collections.singletonList(new HederaCryptoKeyPair(KeyType.ED25519));
+	private HederaStandInNode standIn;
+	private HederaNode node;
+	private HederaReceiptTracker receiptTracker;
+
+	@BeforeEach
+	void start() throws Exception {
+		this.standIn = new HederaStandInNode().start();
+		this.node = this.standIn.newNode();
+		this.standIn.getState().setBalance(1001, 1000);
+		this.standIn.getState().setBalance(1002, 0);
+		this.receiptTracker = new HederaReceiptTracker(10, 5000, 16);
+	}
+
+	@AfterEach
+	void stop() throws Exception {
+		this.receiptTracker.shutdown();
+		this.node.shutdown();
+		this.standIn.shutdown();
+	}
+
+	@Test
+	@DisplayName("Transactions flow through every stage to a receipt")
+	void testPipeline() throws Exception {
+		HederaPipelineSettings settings = new HederaPipelineSettings();
+		settings.signThreads = 2;
+		settings.buildQueueLimit = 5;
+		settings.signQueueLimit = 5;
+		settings.maxSubmissionsInFlight = 4;
+		HederaTransactionPipeline pipeline = new HederaTransactionPipeline(new HederaNetwork(Collections.singletonList(this.node))
+				, this.receiptTracker, settings);
+
+		Instant now = Instant.now();
+		List<CompletableFuture<HederaTransactionReceipt>> receipts = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			// distinct valid start times, so that no two transactions have the same ID
+			HederaTransactionID transactionID = new HederaTransactionID(this.payer, new HederaTimeStamp(now.plusNanos(i)));
+			receipts.add(pipeline.submit(nodeAccount -> new HederaTransactionBodyTemplate(nodeAccount, 10, new HederaDuration(120, 0), false, "pipeline")
+					.transferBody(transactionID, this.payer, this.payee, 1), this.keys));
+		}
+		for (CompletableFuture<HederaTransactionReceipt> receipt : receipts) {
+			assertEquals(HederaTransactionStatus.SUCCESS, receipt.get(5, TimeUnit.SECONDS).transactionStatus);
+		}
+		assertEquals(950, (long) this.standIn.getState().getBalance(1001));
+		assertEquals(50, (long) this.standIn.getState().getBalance(1002));
+
+		HederaTransactionPipeline.Stats stats = pipeline.getStats();
+		assertEquals(50, stats.submitted);
+		assertEquals(50, stats.completed);
+		assertEquals(0, stats.failed);
+		assertEquals(0, stats.submissionsInFlight);
+
+		pipeline.shutdown(1000);
+		assertThrows(IllegalStateException.class, () -> pipeline.submit(nodeAccount -> null, this.keys));
+	}
+
+	@Test
+	@DisplayName("A precheck other than OK completes without polling for a receipt")
+	void testPrecheck() throws Exception {
+		HederaTransactionPipeline pipeline = new HederaTransactionPipeline(new HederaNetwork(Collections.singletonList(this.node))
+				, this.receiptTracker, new HederaPipelineSettings());
+		HederaTransactionID transactionID = new HederaTransactionID(this.payer);
+		HederaTransactionBodyTemplate template = new HederaTransactionBodyTemplate(this.standIn.getAccountID(), 10, new HederaDuration(120, 0), false, "pipeline");
+
+		pipeline.submit(nodeAccount -> template.transferBody(transactionID, this.payer, this.payee, 1), this.keys).get(5, TimeUnit.SECONDS);
+		HederaTransactionReceipt duplicate = pipeline.submit(nodeAccount -> template.transferBody(transactionID, this.payer, this.payee, 1), this.keys)
+				.get(5, TimeUnit.SECONDS);
+		assertEquals(HederaPrecheckResult.DUPLICATE, duplicate.nodePrecheck);
+		assertEquals(HederaTransactionStatus.NOTSET, duplicate.transactionStatus);
+		pipeline.shutdown(1000);
+	}
+
+	@Test
+	@DisplayName("Transactions not sent before shutdown complete exceptionally")
+	void testShutdown() throws Exception {
+		HederaPipelineSettings settings = new HederaPipelineSettings();
+		settings.buildThreads = 1;
+		HederaTransactionPipeline pipeline = new HederaTransactionPipeline(new HederaNetwork(Collections.singletonList(this.node))
+				, this.receiptTracker, settings);
+		HederaTransactionBodyTemplate template = new HederaTransactionBodyTemplate(this.standIn.getAccountID(), 10, new HederaDuration(120, 0), false, "pipeline");
+
+		Instant now = Instant.now();
+		List<CompletableFuture<HederaTransactionReceipt>> receipts = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			HederaTransactionID transactionID = new HederaTransactionID(this.payer, new HederaTimeStamp(now.plusNanos(i)));
+			receipts.add(pipeline.submit(nodeAccount -> {
+				// slow enough that most are still queued when the pipeline shuts down
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return template.transferBody(transactionID, this.payer, this.payee, 1);
+			}, this.keys));
+		}
+		pipeline.shutdown(0);
+
+		long failed = 0;
+		for (CompletableFuture<HederaTransactionReceipt> receipt : receipts) {
+			try {
+				receipt.get(5, TimeUnit.SECONDS);
+			} catch (ExecutionException e) {
+				failed++;
+			}
+		}
+		assertTrue(failed > 0);
+		assertEquals(failed, pipeline.getStats().failed);
+	}
+}
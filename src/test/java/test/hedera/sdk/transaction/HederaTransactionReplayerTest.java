@@ -0,0 +1,140 @@
+package test.hedera.sdk.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.sdk.common.HederaAccountID;
+import com.hedera.sdk.common.HederaDuration;
+import com.hedera.sdk.common.HederaKey.KeyType;
+import com.hedera.sdk.common.HederaKeySignatureList;
+import com.hedera.sdk.common.HederaPrecheckResult;
+import com.hedera.sdk.common.HederaTimeStamp;
+import com.hedera.sdk.common.HederaTransactionID;
+import com.hedera.sdk.cryptography.HederaCryptoKeyPair;
+import com.hedera.sdk.node.HederaNetwork;
+import com.hedera.sdk.node.HederaNode;
+import com.hedera.sdk.transaction.HederaTransaction;
+import com.hedera.sdk.transaction.HederaTransactionBody;
+import com.hedera.sdk.transaction.HederaTransactionBodyTemplate;
+import com.hedera.sdk.transaction.HederaTransactionFileReader;
+import com.hedera.sdk.transaction.HederaTransactionFileWriter;
+import com.hedera.sdk.transaction.HederaTransactionReplayer;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+import test.hedera.sdk.standin.HederaStandInNode;
+
+class HederaTransactionReplayerTest {
+	private final HederaAccountID payer = new HederaAccountID(0, 0, 1001);
+	private final HederaAccountID payee = new HederaAccountID(0, 0, 1002);
+	private final HederaCryptoKeyPair key = new HederaCryptoKeyPair(KeyType.ED25519);
+	private HederaStandInNode standIn;
+	private HederaNode node;
+	private Path file;
+
+	@BeforeEach
+	void start() throws Exception {
+		this.standIn = new HederaStandInNode().start();
+		this.node = this.standIn.newNode();
+		this.standIn.getState().setBalance(1001, 1000);
+		this.standIn.getState().setBalance(1002, 0);
+		this.file = Files.createTempFile("transactions", ".bin");
+	}
+
+	@AfterEach
+	void stop() throws Exception {
+		Files.deleteIfExists(this.file);
+		this.node.shutdown();
+		this.standIn.shutdown();
+	}
+
+	private List<HederaTransaction> writeTransfers(HederaAccountID nodeAccount, int count, OpenOption... options) throws Exception {
+		HederaTransactionBodyTemplate template = new HederaTransactionBodyTemplate(nodeAccount, 10, new HederaDuration(120, 0), false, "replay");
+		Instant now = Instant.now();
+		List<HederaTransaction> transactions = new ArrayList<>();
+		try (HederaTransactionFileWriter writer = new HederaTransactionFileWriter(this.file, options)) {
+			for (int i = 0; i < count; i++) {
+				TransactionBody body = template.transferBody(new HederaTransactionID(this.payer, new HederaTimeStamp(now.plusNanos(i))), this.payer, this.payee, 1);
+				HederaKeySignatureList sigs = new HederaKeySignatureList();
+				sigs.addKeySignaturePair(this.key.getKeyType(), this.key.getPublicKey(), this.key.signMessage(body.toByteArray()));
+				HederaTransaction transaction = new HederaTransaction(new HederaTransactionBody(body), sigs);
+				writer.write(transaction);
+				transactions.add(transaction);
+			}
+			assertEquals(count, writer.getCount());
+		}
+		return transactions;
+	}
+
+	@Test
+	@DisplayName("Transactions read back are byte for byte those written")
+	void testFileRoundTrip() throws Exception {
+		List<HederaTransaction> written = writeTransfers(this.standIn.getAccountID(), 20);
+		try (HederaTransactionFileReader reader = new HederaTransactionFileReader(this.file)) {
+			for (HederaTransaction transaction : written) {
+				Transaction read = reader.next();
+				assertArrayEquals(transaction.getProtobuf().toByteArray(), read.toByteArray());
+				assertArrayEquals(read.toByteArray(), new HederaTransaction(read).getProtobuf().toByteArray());
+			}
+			assertNull(reader.next());
+			assertEquals(20, reader.getCount());
+		}
+	}
+
+	@Test
+	@DisplayName("Every transaction in a file is sent to its node")
+	void testReplay() throws Exception {
+		writeTransfers(this.standIn.getAccountID(), 50);
+		HederaTransactionReplayer replayer = new HederaTransactionReplayer(new HederaNetwork(Collections.singletonList(this.node)), 8);
+
+		Map<HederaPrecheckResult, Long> prechecks = replayer.replay(this.file, null);
+		assertEquals(Collections.singletonMap(HederaPrecheckResult.OK, 50L), prechecks);
+		assertEquals(950, (long) this.standIn.getState().getBalance(1001));
+		assertEquals(50, (long) this.standIn.getState().getBalance(1002));
+
+		// sent again, every transaction is a duplicate
+		prechecks = replayer.replay(this.file, null);
+		assertEquals(Collections.singletonMap(HederaPrecheckResult.DUPLICATE, 50L), prechecks);
+	}
+
+	@Test
+	@DisplayName("Transactions for a node outside the network are counted as errors")
+	void testUnknownNode() throws Exception {
+		writeTransfers(new HederaAccountID(0, 0, 99), 3);
+		HederaTransactionReplayer replayer = new HederaTransactionReplayer(new HederaNetwork(Collections.singletonList(this.node)), 8);
+
+		assertEquals(Collections.singletonMap(HederaPrecheckResult.ERROR, 3L), replayer.replay(this.file, null));
+	}
+
+	@Test
+	@DisplayName("A transaction whose body type isn't set is counted as an error and the rest are still sent")
+	void testUnsupportedBody() throws Exception {
+		writeTransfers(this.standIn.getAccountID(), 3);
+		try (HederaTransactionFileWriter writer = new HederaTransactionFileWriter(this.file, StandardOpenOption.APPEND)) {
+			writer.write(Transaction.newBuilder().setBody(TransactionBody.getDefaultInstance()).build());
+		}
+		writeTransfers(this.standIn.getAccountID(), 2, StandardOpenOption.APPEND);
+		HederaTransactionReplayer replayer = new HederaTransactionReplayer(new HederaNetwork(Collections.singletonList(this.node)), 8);
+
+		Map<HederaPrecheckResult, Long> prechecks = replayer.replay(this.file, null);
+		assertEquals(1, (long) prechecks.get(HederaPrecheckResult.ERROR));
+		assertEquals(5, (long) prechecks.get(HederaPrecheckResult.OK));
+		assertEquals(5, (long) this.standIn.getState().getBalance(1002));
+	}
+}
@@ -3,6 +3,8 @@ package test.hedera.sdk.transaction;
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.hedera.sdk.common.HederaKey.KeyType;
 import com.hedera.sdk.common.HederaKeySignature;
@@ -101,6 +103,52 @@ class HederaTransactionTest {
 				
 	}
 
+	@Test
+	@DisplayName("Changes made in place are always sent")
+	void testProtobufChanges() {
+		HederaTransactionBody body = new HederaTransactionBody();
+		body.transactionType = TransactionType.CONTRACTCALL;
+		body.memo = "body memo";
+		body.data = new HederaContract().getCallTransactionBody();
+
+		HederaKeySignatureList keySigs = new HederaKeySignatureList();
+		keySigs.addKeySignaturePair(KeyType.ED25519, "key1".getBytes(), null);
+		HederaTransaction transaction = new HederaTransaction(body, keySigs);
+		transaction.getProtobuf();
+
+		// filling a placeholder signature
+		keySigs.setSignatureForKey("key1".getBytes(), "signature1".getBytes(), false);
+		assertArrayEquals("signature1".getBytes(), transaction.getProtobuf().getSigs().getSigs(0).getEd25519().toByteArray());
+
+		// editing the body
+		body.memo = "changed memo";
+		assertEquals("changed memo", transaction.getProtobuf().getBody().getMemo());
+		assertArrayEquals(transaction.getProtobuf().toByteArray(), transaction.getProtobufBytes());
+	}
+
+	@Test
+	@DisplayName("A transaction constructed from a protobuf is sent as it is until changed")
+	void testProtobufKept() {
+		HederaTransactionBody body = new HederaTransactionBody();
+		body.transactionType = TransactionType.CONTRACTCALL;
+		body.memo = "body memo";
+		body.data = new HederaContract().getCallTransactionBody();
+		HederaKeySignatureList keySigs = new HederaKeySignatureList();
+		keySigs.addKeySignaturePair(KeyType.ED25519, "key1".getBytes(), "signature1".getBytes());
+
+		Transaction protobuf = new HederaTransaction(body, keySigs).getProtobuf();
+		HederaTransaction transaction = new HederaTransaction(protobuf);
+		assertSame(protobuf, transaction.getProtobuf());
+		assertSame(transaction.getProtobufBytes(), transaction.getProtobufBytes());
+		assertArrayEquals(protobuf.toByteArray(), transaction.getProtobufBytes());
+
+		// adding a signature rebuilds
+		transaction.signatureList.addSignature(new HederaSignature(KeyType.ED25519, "signature2".getBytes()));
+		Transaction rebuilt = transaction.getProtobuf();
+		assertNotSame(protobuf, rebuilt);
+		assertEquals(2, rebuilt.getSigs().getSigsCount());
+	}
+
 	@Test
 	@DisplayName("Init test")
 	void testInit() {